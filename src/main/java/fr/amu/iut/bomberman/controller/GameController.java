@@ -18,8 +18,10 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
 /**
@@ -29,16 +31,16 @@ import java.util.Objects;
  * @author Groupe_3_6
  * @version 1.0
  */
-public class GameController implements GameModel.GameModelListener {
+public class GameController implements GameModelListener {
 
-    // Configuration des touches
-    private static final Map<KeyCode, Direction> PLAYER1_KEYS = Map.of(KeyCode.Z, Direction.UP, KeyCode.S, Direction.DOWN, KeyCode.Q, Direction.LEFT, KeyCode.D, Direction.RIGHT);
-    private static final Map<KeyCode, Direction> PLAYER2_KEYS = Map.of(KeyCode.UP, Direction.UP, KeyCode.DOWN, Direction.DOWN, KeyCode.LEFT, Direction.LEFT, KeyCode.RIGHT, Direction.RIGHT);
-    private static final KeyCode PLAYER1_BOMB = KeyCode.SPACE;
-    private static final KeyCode PLAYER2_BOMB = KeyCode.ENTER;
+    // Touche de pause (les touches des joueurs sont configurables, voir KeyBindings)
     private static final KeyCode PAUSE_KEY = KeyCode.P;
-    // Gestion des touches
-    private final Map<KeyCode, Boolean> keysPressed = new HashMap<>();
+    // Dossier des rediffusions des parties entre joueurs humains
+    private static final Path REPLAYS_DIR = Path.of(System.getProperty("user.home"), ".bomberman", "replays");
+    private static final DateTimeFormatter REPLAY_NAME = DateTimeFormatter.ofPattern("'replay-'yyyyMMdd-HHmmss'.bmr'");
+    // Gestion des touches : table des touches et masques d'entrée figés à chaque tick par le moteur
+    private KeyBindings keyBindings;
+    private PlayerInput playerInput;
     @FXML
     private Canvas gameCanvas;
     @FXML
@@ -72,12 +74,19 @@ public class GameController implements GameModel.GameModelListener {
     @FXML
     private Pane gamePane;
     private GameModel gameModel;
+    private GameEngine gameEngine;
     private GameRenderer gameRenderer;
     private AnimationTimer gameLoop;
     private long lastFrameTime = 0;
     private int frameCount = 0;
     // Bot qui contrôle le joueur 2
     private BotPlayer botPlayer;
+    // Threads de planification du bot (hors du thread JavaFX)
+    private BotPlanner botPlanner;
+    // Recherche Monte-Carlo du bot en difficulté Difficile (null sinon)
+    private MonteCarloSearch botSearch;
+    // Abonnement au bus d'événements du modèle, vidé une fois par frame
+    private GameEventBus.Subscription uiEvents;
 
     /**
      * Initialisation du contrôleur
@@ -86,9 +95,15 @@ public class GameController implements GameModel.GameModelListener {
     public void initialize() {
         System.out.println("GameController initialisé");
 
-        // Créer le modèle et le renderer
-        gameModel = new GameModel();
-        gameModel.addListener(this);
+        // Créer le modèle (plateau dimensionné pour la partie) et le renderer
+        gameModel = createGameModel();
+        uiEvents = gameModel.getEvents().subscribe();
+
+        // La boucle JavaFX ne fait que piloter le moteur à pas fixe
+        gameEngine = new GameEngine(gameModel);
+        keyBindings = KeyBindings.load(SettingsManager.getInstance());
+        playerInput = new PlayerInput(gameModel.getPlayerCount());
+        gameEngine.setInput(playerInput);
 
         gameRenderer = new GameRenderer(gameCanvas);
 
@@ -111,6 +126,21 @@ public class GameController implements GameModel.GameModelListener {
         }
     }
 
+    /**
+     * Crée le modèle de jeu avec les dimensions de plateau des paramètres
+     * (plateau classique si les valeurs sont absentes ou invalides)
+     */
+    private GameModel createGameModel() {
+        SettingsManager settings = SettingsManager.getInstance();
+        int boardWidth = settings.getIntSetting("gameplay.boardWidth");
+        int boardHeight = settings.getIntSetting("gameplay.boardHeight");
+
+        if (GameBoard.isValidSize(boardWidth) && GameBoard.isValidSize(boardHeight)) {
+            return new GameModel(boardWidth, boardHeight);
+        }
+        return new GameModel();
+    }
+
     /**
      * Configure le canvas pour qu'il s'adapte à la fenêtre
      */
@@ -153,6 +183,9 @@ public class GameController implements GameModel.GameModelListener {
         // Démarrer le jeu avec les paramètres personnalisés
         gameModel.startNewGame(player1Profile.getDisplayName(), player2Profile.getDisplayName(), roundsToWin, timeLimit);
 
+        // Enregistrer les entrées des joueurs pour la rediffusion
+        gameEngine.setRecorder(new ReplayRecorder(gameModel));
+
         // Définir les avatars personnalisés des joueurs
         String player1AvatarPath = player1Profile.getAvatarPath();
         String player2AvatarPath = player2Profile.getAvatarPath();
@@ -204,6 +237,9 @@ public class GameController implements GameModel.GameModelListener {
         gameModel.startNewGame(playerProfile.getDisplayName(), "BOT", // Nom du bot
                 roundsToWin, timeLimit);
 
+        // Pas de rediffusion : le bot déplace son joueur sans passer par le moteur
+        gameEngine.setRecorder(null);
+
         // Définir l'avatar personnalisé du joueur
         String playerAvatarPath = playerProfile.getAvatarPath();
         System.out.println("Avatar joueur: " + playerAvatarPath);
@@ -252,41 +288,43 @@ public class GameController implements GameModel.GameModelListener {
 
         if (botControlledPlayer != null && gameBoard != null) {
             // Créer et configurer le bot
-            botPlayer = new BotPlayer(botControlledPlayer, gameBoard);
+            stopBotThreads();
+            botPlayer = new BotPlayer(botControlledPlayer, gameBoard, gameModel.splitRandom());
+            botPlayer.setOpponents(gameModel.getPlayer1());
+            System.out.println("Bot créé avec stratégie équilibrée intelligente");
 
             // Ajuster les paramètres du bot selon la difficulté
             configureBot(difficulty);
 
-            // Activer le bot
-            botPlayer.activate();
-
-            // Ajouter un écouteur pour détecter la fin de la partie
-            gameModel.addListener(new GameModel.GameModelListener() {
-                @Override
-                public void onRoundStarted(int roundNumber) {
-                    // Activer le bot au début d'un round
-                    if (botPlayer != null) {
-                        botPlayer.activate();
-                    }
-                }
-
-                @Override
-                public void onRoundEnded(Player winner) {
-                    // Désactiver le bot entre les rounds
-                    if (botPlayer != null) {
-                        botPlayer.deactivate();
-                    }
-                }
+            // Le bot décide au début des ticks du moteur (suspendu pendant les pauses et entre les rounds),
+            // sur un thread de travail : sa décision est appliquée à un tick suivant
+            botPlanner = new BotPlanner(gameModel);
+            BotScheduler botScheduler = new BotScheduler();
+            botScheduler.register(botPlayer);
+            botScheduler.setPlanner(botPlanner);
+            gameEngine.setBotScheduler(botScheduler);
+        }
+    }
 
-                @Override
-                public void onGameEnded(Player winner) {
-                    // Désactiver le bot à la fin de la partie
-                    if (botPlayer != null) {
-                        botPlayer.deactivate();
-                    }
-                }
-            });
+    /**
+     * Arrête les threads de planification et de recherche du bot, en affichant leurs mesures
+     */
+    private void stopBotThreads() {
+        if (botSearch != null) {
+            System.out.printf("Recherche Monte-Carlo : %d décisions, %.0f simulations/s, %.0f ticks simulés/s%n",
+                    botSearch.getDecisionCount(), botSearch.getRolloutsPerSecond(), botSearch.getTicksPerSecond());
+            botSearch.shutdown();
+            botSearch = null;
+        }
+        if (botPlanner == null) {
+            return;
         }
+        System.out.printf("Planification du bot : %d décisions, %.3f ms en moyenne (max %.3f ms), "
+                        + "appliquées après %.1f ticks en moyenne (max %d), %d abandonnées%n",
+                botPlanner.getPlannedCount(), botPlanner.getAveragePlanningMillis(), botPlanner.getMaxPlanningMillis(),
+                botPlanner.getAverageStaleness(), botPlanner.getMaxStaleness(), botPlanner.getDiscardedCount());
+        botPlanner.shutdown();
+        botPlanner = null;
     }
 
     /**
@@ -295,9 +333,12 @@ public class GameController implements GameModel.GameModelListener {
      * @param difficulty Niveau de difficulté
      */
     private void configureBot(String difficulty) {
-        // Cette méthode pourrait être utilisée pour ajuster les comportements du bot
-        // selon la difficulté, par exemple en modifiant la fréquence des actions
-        // ou la stratégie de placement des bombes
+        // Difficile : le bot choisit ses actions par recherche Monte-Carlo (simulations sur tous les cœurs)
+        // Facile et Normal : priorités fixes (survie, bombe, mouvement)
+        if ("Difficile".equalsIgnoreCase(difficulty)) {
+            botSearch = new MonteCarloSearch(gameModel);
+            botPlayer.setSearch(gameModel, botSearch);
+        }
         System.out.println("Bot configuré avec difficulté: " + difficulty);
     }
 
@@ -335,15 +376,10 @@ public class GameController implements GameModel.GameModelListener {
      */
     private void handleKeyPressed(KeyEvent event) {
         KeyCode code = event.getCode();
-        keysPressed.put(code, true);
-
-        // Debug moins verbeux
-        if (code == PAUSE_KEY || code == PLAYER1_BOMB || code == PLAYER2_BOMB) {
-            System.out.println("Touche spéciale pressée: " + code);
-        }
 
         // Pause
         if (code == PAUSE_KEY) {
+            System.out.println("Touche spéciale pressée: " + code);
             gameModel.togglePause();
             if (gameModel.getGameState() == GameModel.GameState.PAUSED) {
                 showMessage("PAUSE");
@@ -352,14 +388,8 @@ public class GameController implements GameModel.GameModelListener {
             }
         }
 
-        // Bombes
-        if (code == PLAYER1_BOMB) {
-            System.out.println("Joueur 1 tente de placer une bombe");
-            gameModel.placeBomb(1);
-        } else if (code == PLAYER2_BOMB) {
-            System.out.println("Joueur 2 tente de placer une bombe");
-            gameModel.placeBomb(2);
-        }
+        // Déplacements et bombes : appliqués au début du prochain tick du moteur
+        keyBindings.press(playerInput, code);
 
         event.consume();
     }
@@ -368,7 +398,7 @@ public class GameController implements GameModel.GameModelListener {
      * Gère le relâchement d'une touche
      */
     private void handleKeyReleased(KeyEvent event) {
-        keysPressed.put(event.getCode(), false);
+        keyBindings.release(playerInput, event.getCode());
         event.consume();
     }
 
@@ -385,15 +415,15 @@ public class GameController implements GameModel.GameModelListener {
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long currentTime) {
-                // Calculer le delta time
-                double deltaTime = (currentTime - lastFrameTime) / 1_000_000_000.0;
+                // Calculer le temps réel écoulé (le moteur le découpe en ticks fixes)
+                double elapsed = (currentTime - lastFrameTime) / 1_000_000_000.0;
                 lastFrameTime = currentTime;
 
-                // Limiter le delta time (pour éviter les problèmes lors des pauses)
-                deltaTime = Math.min(deltaTime, 0.05);
-
                 // Mettre à jour le jeu
-                update(deltaTime);
+                update(elapsed);
+
+                // Traiter par lot les événements publiés pendant les ticks (son, messages)
+                dispatchEvents();
 
                 // Dessiner
                 render();
@@ -404,61 +434,66 @@ public class GameController implements GameModel.GameModelListener {
         System.out.println("Boucle de jeu démarrée");
     }
 
+    /**
+     * Transmet les événements en attente aux écouteurs de l'interface
+     */
+    private void dispatchEvents() {
+        gameModel.dispatchEvents(uiEvents, this);
+    }
+
     /**
      * Met à jour la logique du jeu
+     *
+     * @param elapsed Temps réel écoulé depuis la frame précédente
      */
-    private void update(double deltaTime) {
-        if (gameModel.getGameState() != GameModel.GameState.PLAYING) {
+    private void update(double elapsed) {
+        boolean playing = gameModel.getGameState() == GameModel.GameState.PLAYING;
+
+        // Faire avancer le moteur à pas fixe (les entrées sont figées au début de chaque tick)
+        // Hors de l'état PLAYING, le moteur ignore les appuis en attente (ni appliqués ni comptés)
+        gameEngine.advance(elapsed);
+        if (!playing) {
             return;
         }
 
-        // Gérer les mouvements des joueurs
-        handlePlayerMovements(deltaTime);
-
-        // Mettre à jour le modèle
-        gameModel.update(deltaTime);
+        // Debug réduit - seulement toutes les 30 frames
+        if (frameCount % 30 == 0) {
+            logPlayerMovement(1);
+            logPlayerMovement(2);
+        }
+        frameCount++;
 
         // Mettre à jour l'interface
         updateUI();
     }
 
     /**
-     * Gère les mouvements des joueurs
+     * Affiche la direction et la position d'un joueur en mouvement
      */
-    private void handlePlayerMovements(double deltaTime) {
-        // Joueur 1
-        Direction p1Direction = Direction.NONE;
-        for (Map.Entry<KeyCode, Direction> entry : PLAYER1_KEYS.entrySet()) {
-            if (keysPressed.getOrDefault(entry.getKey(), false)) {
-                p1Direction = entry.getValue();
-                break;
-            }
-        }
-        if (p1Direction != Direction.NONE) {
-            gameModel.movePlayer(1, p1Direction, deltaTime);
-            // Debug réduit - seulement tous les 30 frames
-            if (frameCount % 30 == 0) {
-                System.out.println("Joueur 1 - Direction: " + p1Direction + ", Position: (" + gameModel.getPlayer1().getX() + ", " + gameModel.getPlayer1().getY() + ")");
-            }
+    private void logPlayerMovement(int playerId) {
+        Direction direction = gameEngine.getDirection(playerId);
+        if (direction != Direction.NONE) {
+            Player player = gameModel.getPlayer(playerId);
+            System.out.println("Joueur " + playerId + " - Direction: " + direction + ", Position: (" + player.getX() + ", " + player.getY() + ")");
         }
+    }
 
-        // Joueur 2
-        Direction p2Direction = Direction.NONE;
-        for (Map.Entry<KeyCode, Direction> entry : PLAYER2_KEYS.entrySet()) {
-            if (keysPressed.getOrDefault(entry.getKey(), false)) {
-                p2Direction = entry.getValue();
-                break;
-            }
+    /**
+     * Écrit la rediffusion de la partie terminée, si elle a été enregistrée
+     */
+    private void saveReplay() {
+        ReplayRecorder recorder = gameEngine.getRecorder();
+        if (recorder == null) {
+            return;
         }
-        if (p2Direction != Direction.NONE) {
-            gameModel.movePlayer(2, p2Direction, deltaTime);
-            // Debug réduit - seulement tous les 30 frames
-            if (frameCount % 30 == 0) {
-                System.out.println("Joueur 2 - Direction: " + p2Direction + ", Position: (" + gameModel.getPlayer2().getX() + ", " + gameModel.getPlayer2().getY() + ")");
-            }
+        Path file = REPLAYS_DIR.resolve(LocalDateTime.now().format(REPLAY_NAME));
+        try {
+            recorder.write(file);
+            System.out.println("Rediffusion enregistrée (" + recorder.getTickCount() + " ticks) : " + file);
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'enregistrement de la rediffusion: " + e.getMessage());
         }
-
-        frameCount++;
+        gameEngine.setRecorder(null);
     }
 
     /**
@@ -613,6 +648,7 @@ public class GameController implements GameModel.GameModelListener {
         if (gameLoop != null) {
             gameLoop.stop();
         }
+        stopBotThreads();
 
         // Arrêter la musique
         SoundManager.getInstance().stopMusic();
@@ -638,7 +674,7 @@ public class GameController implements GameModel.GameModelListener {
         }
     }
 
-    // Implémentation de GameModel.GameModelListener
+    // Implémentation de GameModelListener
 
     @Override
     public void onGameStarted() {
@@ -712,6 +748,11 @@ public class GameController implements GameModel.GameModelListener {
         }
 
         System.out.println("Partie terminée - Gagnant: " + winner.getName());
+        System.out.printf("Latence entrée → tick : %.2f ms en moyenne, %.2f ms au maximum (%d entrées)%n",
+                playerInput.getAverageLatencyMillis(), playerInput.getMaxLatencyMillis(), playerInput.getLatencySamples());
+        playerInput.releaseAll();
+        stopBotThreads();
+        saveReplay();
 
         // Identifier les deux joueurs
         Player player1 = gameModel.getPlayer1();
@@ -794,17 +835,17 @@ public class GameController implements GameModel.GameModelListener {
     }
 
     @Override
-    public void onBombPlaced(Player player, Bomb bomb) {
+    public void onBombPlaced(Player player, int x, int y) {
         SoundManager.getInstance().playSound("bomb_place");
-        System.out.println("Bombe placée par " + player.getName() + " en (" + bomb.getX() + ", " + bomb.getY() + ")");
+        System.out.println("Bombe placée par " + player.getName() + " en (" + x + ", " + y + ")");
     }
 
     @Override
-    public void onPowerUpCollected(Player player, PowerUp powerUp) {
+    public void onPowerUpCollected(Player player, PowerUp.Type type) {
         SoundManager.getInstance().playSound("powerup_collect");
 
         // Afficher le type de power-up collecté
-        String message = player.getName() + ": " + powerUp.getType().getName();
+        String message = player.getName() + ": " + type.getName();
         System.out.println("Power-up collecté: " + message);
 
         // Afficher temporairement ce message
@@ -819,4 +860,10 @@ public class GameController implements GameModel.GameModelListener {
         }).start();
     }
 
+    /**
+     * @return Entrées des joueurs (latence entrée → tick mesurée)
+     */
+    public PlayerInput getPlayerInput() {
+        return playerInput;
+    }
 }
@@ -0,0 +1,177 @@
+package fr.amu.iut.bomberman.controller;
+
+import fr.amu.iut.bomberman.model.PlayerInput;
+import fr.amu.iut.bomberman.utils.SettingsManager;
+import javafx.scene.input.KeyCode;
+
+import java.util.prefs.Preferences;
+
+/**
+ * Table des touches du jeu, indexée par l'ordinal du {@link KeyCode}
+ * <p>
+ * Chaque case contient le joueur et le bit d'action ({@link PlayerInput}) associés à la touche :
+ * un appui se traduit par une lecture de tableau, sans recherche ni boxing. Les touches sont
+ * chargées depuis le {@link SettingsManager} (clés {@code controls.p1.up}, ..., renseignées par
+ * l'écran des paramètres), avec repli sur les anciennes préférences ({@code key.p1.up}, ...) pour
+ * les touches choisies avant l'enregistrement dans les paramètres.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class KeyBindings {
+
+    public static final String SETTINGS_PREFIX = "controls.";
+    // Préfixe des touches dans les anciennes préférences de l'écran des paramètres
+    private static final String LEGACY_PREFIX = "key.";
+
+    // Actions configurables, dans l'ordre des clés de paramètres
+    private static final String[] ACTION_NAMES = {"up", "down", "left", "right", "bomb"};
+    private static final int[] ACTION_BITS = {PlayerInput.UP, PlayerInput.DOWN, PlayerInput.LEFT, PlayerInput.RIGHT, PlayerInput.BOMB};
+    // Touches par défaut, par joueur puis par action (copie fournie par defaultKeys())
+    private static final KeyCode[][] DEFAULT_KEYS = {
+            {KeyCode.Z, KeyCode.S, KeyCode.Q, KeyCode.D, KeyCode.SPACE},
+            {KeyCode.UP, KeyCode.DOWN, KeyCode.LEFT, KeyCode.RIGHT, KeyCode.ENTER}
+    };
+
+    // Case : (joueur << 8) | bit d'action, 0 si la touche n'est pas utilisée
+    private static final int PLAYER_SHIFT = 8;
+    private static final int ACTION_MASK = 0xFF;
+
+    private final short[] table = new short[KeyCode.values().length];
+
+    private KeyBindings() {
+    }
+
+    /**
+     * Touches par défaut (ZQSD + Espace, flèches + Entrée)
+     */
+    public static KeyBindings defaults() {
+        KeyBindings bindings = new KeyBindings();
+        for (int player = 0; player < DEFAULT_KEYS.length; player++) {
+            for (int action = 0; action < ACTION_BITS.length; action++) {
+                bindings.bind(DEFAULT_KEYS[player][action], player + 1, ACTION_BITS[action]);
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * Charge les touches depuis les paramètres (voir {@link #loadKeys(SettingsManager)})
+     *
+     * @param settings Paramètres du jeu
+     */
+    public static KeyBindings load(SettingsManager settings) {
+        KeyCode[][] keys = loadKeys(settings);
+        KeyBindings bindings = new KeyBindings();
+        for (int player = 0; player < keys.length; player++) {
+            for (int action = 0; action < ACTION_BITS.length; action++) {
+                bindings.bind(keys[player][action], player + 1, ACTION_BITS[action]);
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * @return Touches par défaut, par joueur puis par action (nouveau tableau)
+     */
+    public static KeyCode[][] defaultKeys() {
+        KeyCode[][] keys = new KeyCode[DEFAULT_KEYS.length][];
+        for (int player = 0; player < keys.length; player++) {
+            keys[player] = DEFAULT_KEYS[player].clone();
+        }
+        return keys;
+    }
+
+    /**
+     * @return Nombre d'actions configurables par joueur
+     */
+    public static int getActionCount() {
+        return ACTION_NAMES.length;
+    }
+
+    /**
+     * Lit la touche de chaque action, par joueur puis par action (haut, bas, gauche, droite, bombe)
+     * Ordre de recherche : paramètres du jeu, anciennes préférences, touche par défaut.
+     * Une touche inconnue (fichier modifié à la main) est remplacée par la touche par défaut.
+     *
+     * @param settings Paramètres du jeu
+     * @return Touches lues (nouveau tableau)
+     */
+    public static KeyCode[][] loadKeys(SettingsManager settings) {
+        Preferences legacy = Preferences.userNodeForPackage(KeyBindings.class);
+        KeyCode[][] keys = new KeyCode[DEFAULT_KEYS.length][ACTION_NAMES.length];
+        for (int player = 0; player < DEFAULT_KEYS.length; player++) {
+            for (int action = 0; action < ACTION_NAMES.length; action++) {
+                KeyCode defaultKey = DEFAULT_KEYS[player][action];
+                String legacyName = legacy.get(LEGACY_PREFIX + "p" + (player + 1) + "." + ACTION_NAMES[action], defaultKey.name());
+                String name = settings.getStringSetting(settingKey(player + 1, action), legacyName);
+                try {
+                    keys[player][action] = KeyCode.valueOf(name);
+                } catch (IllegalArgumentException e) {
+                    System.err.println("Touche inconnue dans les paramètres : " + name);
+                    keys[player][action] = defaultKey;
+                }
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Clé de paramètre d'une action
+     *
+     * @param playerId Numéro du joueur
+     * @param action   Indice de l'action (haut, bas, gauche, droite, bombe), de 0 à {@link #getActionCount()} - 1
+     */
+    public static String settingKey(int playerId, int action) {
+        return SETTINGS_PREFIX + "p" + playerId + "." + ACTION_NAMES[action];
+    }
+
+    /**
+     * Associe une touche à une action (remplace l'association précédente de la touche)
+     */
+    public void bind(KeyCode code, int playerId, int action) {
+        table[code.ordinal()] = (short) ((playerId << PLAYER_SHIFT) | action);
+    }
+
+    /**
+     * @return Joueur commandé par la touche, 0 si elle n'est pas utilisée
+     */
+    public int getPlayer(KeyCode code) {
+        return table[code.ordinal()] >> PLAYER_SHIFT;
+    }
+
+    /**
+     * @return Bit d'action de la touche, 0 si elle n'est pas utilisée
+     */
+    public int getAction(KeyCode code) {
+        return table[code.ordinal()] & ACTION_MASK;
+    }
+
+    /**
+     * Transmet l'appui sur une touche
+     *
+     * @return true si la touche est une touche du jeu
+     */
+    public boolean press(PlayerInput input, KeyCode code) {
+        int entry = table[code.ordinal()];
+        if (entry == 0) {
+            return false;
+        }
+        input.press(entry >> PLAYER_SHIFT, entry & ACTION_MASK);
+        return true;
+    }
+
+    /**
+     * Transmet le relâchement d'une touche
+     *
+     * @return true si la touche est une touche du jeu
+     */
+    public boolean release(PlayerInput input, KeyCode code) {
+        int entry = table[code.ordinal()];
+        if (entry == 0) {
+            return false;
+        }
+        input.release(entry >> PLAYER_SHIFT, entry & ACTION_MASK);
+        return true;
+    }
+}
@@ -3,6 +3,7 @@ package fr.amu.iut.bomberman.controller;
 import fr.amu.iut.bomberman.model.PlayerProfile;
 import fr.amu.iut.bomberman.utils.FullScreenManager;
 import fr.amu.iut.bomberman.utils.ProfileManager;
+import fr.amu.iut.bomberman.utils.SettingsManager;
 import fr.amu.iut.bomberman.utils.SoundManager;
 import fr.amu.iut.bomberman.utils.ThemeManager;
 import javafx.application.Platform;
@@ -25,7 +26,7 @@ import java.util.Objects;
 /**
  * Contrôleur pour la sélection des joueurs
  * Permet de choisir les profils avant de commencer une partie
- * Version modifiée : Sans choix de difficulté du bot (niveau Normal par défaut)
+ * Version modifiée : Sans choix de difficulté du bot dans cet écran (réglage "gameplay.botDifficulty", Normal par défaut)
  *
  * @author Groupe_3_6
  * @version 1.1
@@ -55,7 +56,7 @@ public class PlayerSelectionController {
     private boolean botModeEnabled = false;
     private final PlayerProfile botProfile = new PlayerProfile("Bot", "Bomberman", "BOT");
 
-    // Niveau de difficulté fixe du bot
+    // Niveau de difficulté du bot par défaut (réglage "gameplay.botDifficulty" : Facile, Normal, Difficile)
     private static final String BOT_DIFFICULTY = "Normal";
 
     private ProfileManager profileManager;
@@ -361,7 +362,7 @@ public class PlayerSelectionController {
 
     /**
      * Gère le clic sur "Commencer"
-     * Version modifiée : Utilise toujours "Normal" comme difficulté du bot
+     * Version modifiée : Difficulté du bot lue dans les paramètres ("Normal" par défaut)
      */
     @FXML
     private void handleStartGame() {
@@ -396,10 +397,11 @@ public class PlayerSelectionController {
             // Obtenir le contrôleur et démarrer le jeu
             GameController gameController = loader.getController();
 
-            // Si mode bot activé, utiliser la difficulté par défaut "Normal"
+            // Si mode bot activé, utiliser la difficulté des paramètres ("Normal" par défaut)
             if (botModeEnabled) {
-                System.out.println("Démarrage du jeu contre bot - Difficulté: " + BOT_DIFFICULTY);
-                gameController.startGameWithBot(profile1, BOT_DIFFICULTY, rounds, timeInSeconds);
+                String difficulty = SettingsManager.getInstance().getStringSetting("gameplay.botDifficulty", BOT_DIFFICULTY);
+                System.out.println("Démarrage du jeu contre bot - Difficulté: " + difficulty);
+                gameController.startGameWithBot(profile1, difficulty, rounds, timeInSeconds);
             } else {
                 gameController.startGame(profile1, profile2, rounds, timeInSeconds);
             }
@@ -1,6 +1,7 @@
 package fr.amu.iut.bomberman.controller;
 
 import fr.amu.iut.bomberman.utils.SceneManager;
+import fr.amu.iut.bomberman.utils.SettingsManager;
 import fr.amu.iut.bomberman.utils.SoundManager;
 import fr.amu.iut.bomberman.utils.ThemeManager;
 import javafx.event.EventHandler;
@@ -78,8 +79,9 @@ public class SettingsController {
     private ThemeManager themeManager;
     private Preferences preferences;
 
-    // Map des contrôles
+    // Map des contrôles, par clé de paramètre (KeyBindings.settingKey)
     private Map<String, KeyCode> keyBindings;
+    private Button[][] controlButtons;               // Boutons par joueur puis par action
     private Button currentKeyButton;
 
     /**
@@ -91,6 +93,10 @@ public class SettingsController {
         themeManager = ThemeManager.getInstance();
         preferences = Preferences.userNodeForPackage(SettingsController.class);
         keyBindings = new HashMap<>();
+        controlButtons = new Button[][]{
+                {p1UpButton, p1DownButton, p1LeftButton, p1RightButton, p1BombButton},
+                {p2UpButton, p2DownButton, p2LeftButton, p2RightButton, p2BombButton}
+        };
 
         loadSettings();
         setupListeners();
@@ -143,17 +149,11 @@ public class SettingsController {
         });
 
         // Boutons de contrôle
-        setupControlButton(p1UpButton, "p1.up");
-        setupControlButton(p1DownButton, "p1.down");
-        setupControlButton(p1LeftButton, "p1.left");
-        setupControlButton(p1RightButton, "p1.right");
-        setupControlButton(p1BombButton, "p1.bomb");
-
-        setupControlButton(p2UpButton, "p2.up");
-        setupControlButton(p2DownButton, "p2.down");
-        setupControlButton(p2LeftButton, "p2.left");
-        setupControlButton(p2RightButton, "p2.right");
-        setupControlButton(p2BombButton, "p2.bomb");
+        for (int player = 0; player < controlButtons.length; player++) {
+            for (int action = 0; action < KeyBindings.getActionCount(); action++) {
+                setupControlButton(controlButtons[player][action], KeyBindings.settingKey(player + 1, action));
+            }
+        }
     }
 
     /**
@@ -244,37 +244,36 @@ public class SettingsController {
 
     /**
      * Charge les raccourcis clavier
+     * Mêmes touches que celles lues par le jeu (paramètres, anciennes préférences, touches par défaut)
      */
     private void loadKeyBindings() {
-        // Contrôles par défaut
-        keyBindings.put("p1.up", KeyCode.valueOf(preferences.get("key.p1.up", "Z")));
-        keyBindings.put("p1.down", KeyCode.valueOf(preferences.get("key.p1.down", "S")));
-        keyBindings.put("p1.left", KeyCode.valueOf(preferences.get("key.p1.left", "Q")));
-        keyBindings.put("p1.right", KeyCode.valueOf(preferences.get("key.p1.right", "D")));
-        keyBindings.put("p1.bomb", KeyCode.valueOf(preferences.get("key.p1.bomb", "SPACE")));
-
-        keyBindings.put("p2.up", KeyCode.valueOf(preferences.get("key.p2.up", "UP")));
-        keyBindings.put("p2.down", KeyCode.valueOf(preferences.get("key.p2.down", "DOWN")));
-        keyBindings.put("p2.left", KeyCode.valueOf(preferences.get("key.p2.left", "LEFT")));
-        keyBindings.put("p2.right", KeyCode.valueOf(preferences.get("key.p2.right", "RIGHT")));
-        keyBindings.put("p2.bomb", KeyCode.valueOf(preferences.get("key.p2.bomb", "ENTER")));
+        putKeyBindings(KeyBindings.loadKeys(SettingsManager.getInstance()));
+    }
+
+    /**
+     * Remplace les contrôles affichés
+     *
+     * @param keys Touches par joueur puis par action (ordre de KeyBindings.settingKey)
+     */
+    private void putKeyBindings(KeyCode[][] keys) {
+        keyBindings.clear();
+        for (int player = 0; player < keys.length; player++) {
+            for (int action = 0; action < KeyBindings.getActionCount(); action++) {
+                keyBindings.put(KeyBindings.settingKey(player + 1, action), keys[player][action]);
+            }
+        }
     }
 
     /**
      * Met à jour l'affichage des boutons de contrôle
      */
     private void updateControlButtons() {
-        p1UpButton.setText(getKeyName(keyBindings.get("p1.up")));
-        p1DownButton.setText(getKeyName(keyBindings.get("p1.down")));
-        p1LeftButton.setText(getKeyName(keyBindings.get("p1.left")));
-        p1RightButton.setText(getKeyName(keyBindings.get("p1.right")));
-        p1BombButton.setText(getKeyName(keyBindings.get("p1.bomb")));
-
-        p2UpButton.setText(getKeyName(keyBindings.get("p2.up")));
-        p2DownButton.setText(getKeyName(keyBindings.get("p2.down")));
-        p2LeftButton.setText(getKeyName(keyBindings.get("p2.left")));
-        p2RightButton.setText(getKeyName(keyBindings.get("p2.right")));
-        p2BombButton.setText(getKeyName(keyBindings.get("p2.bomb")));
+        for (int player = 0; player < controlButtons.length; player++) {
+            for (int action = 0; action < KeyBindings.getActionCount(); action++) {
+                String key = KeyBindings.settingKey(player + 1, action);
+                controlButtons[player][action].setText(getKeyName(keyBindings.get(key)));
+            }
+        }
     }
 
     /**
@@ -310,19 +309,7 @@ public class SettingsController {
      */
     @FXML
     private void handleResetControls() {
-        keyBindings.clear();
-        keyBindings.put("p1.up", KeyCode.Z);
-        keyBindings.put("p1.down", KeyCode.S);
-        keyBindings.put("p1.left", KeyCode.Q);
-        keyBindings.put("p1.right", KeyCode.D);
-        keyBindings.put("p1.bomb", KeyCode.SPACE);
-
-        keyBindings.put("p2.up", KeyCode.UP);
-        keyBindings.put("p2.down", KeyCode.DOWN);
-        keyBindings.put("p2.left", KeyCode.LEFT);
-        keyBindings.put("p2.right", KeyCode.RIGHT);
-        keyBindings.put("p2.bomb", KeyCode.ENTER);
-
+        putKeyBindings(KeyBindings.defaultKeys());
         updateControlButtons();
     }
 
@@ -370,9 +357,12 @@ public class SettingsController {
         stage.setFullScreen(fullscreen);
 
         // Contrôles
+        // Les touches sont lues par le jeu (KeyBindings) depuis les paramètres : une seule écriture du fichier
+        SettingsManager settings = SettingsManager.getInstance();
         for (Map.Entry<String, KeyCode> entry : keyBindings.entrySet()) {
-            preferences.put("key." + entry.getKey(), entry.getValue().toString());
+            settings.putStringSetting(entry.getKey(), entry.getValue().name());
         }
+        settings.saveSettings();
 
         showInfo();
     }
@@ -0,0 +1,77 @@
+package fr.amu.iut.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Options communes des programmes de mesure ({@link RolloutBenchmark}, {@link BotDecisionBenchmark})
+ * <p>
+ * Chaque programme indique les options qu'il accepte ; les autres gardent leur valeur par défaut.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+final class BenchmarkOptions {
+
+    static final String SECONDS = "--seconds";
+    static final String SEED = "--seed";
+    static final String THREADS = "--threads";
+    static final String DEPTH = "--depth";
+
+    long seconds = 5;
+    long seed = 1;
+    int threads = Runtime.getRuntime().availableProcessors();
+    int depth = MonteCarloSearch.DEFAULT_DEPTH;
+
+    private BenchmarkOptions() {
+    }
+
+    /**
+     * Lit les options de la ligne de commande
+     *
+     * @param args     Arguments du programme (paires option valeur)
+     * @param accepted Options acceptées par le programme
+     * @throws IllegalArgumentException Si une option est inconnue, sans valeur ou invalide
+     */
+    static BenchmarkOptions parse(String[] args, String... accepted) {
+        BenchmarkOptions options = new BenchmarkOptions();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (!Arrays.asList(accepted).contains(option)) {
+                throw new IllegalArgumentException("Option inconnue : " + option);
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Valeur manquante pour " + option);
+            }
+            String value = args[i + 1];
+            try {
+                switch (option) {
+                    case SECONDS -> options.seconds = Long.parseLong(value);
+                    case SEED -> options.seed = Long.parseLong(value);
+                    case THREADS -> options.threads = Integer.parseInt(value);
+                    case DEPTH -> options.depth = Integer.parseInt(value);
+                    default -> throw new IllegalArgumentException("Option inconnue : " + option);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valeur invalide pour " + option + " : " + value);
+            }
+        }
+        if (options.seconds <= 0 || options.threads <= 0 || options.depth <= 0) {
+            throw new IllegalArgumentException("Les valeurs doivent être strictement positives");
+        }
+        return options;
+    }
+
+    /**
+     * Lit les options, ou affiche l'erreur et l'usage puis quitte le programme (code 2)
+     */
+    static BenchmarkOptions parseOrExit(String usage, String[] args, String... accepted) {
+        try {
+            return parse(args, accepted);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(usage);
+            System.exit(2);
+            return null;
+        }
+    }
+}
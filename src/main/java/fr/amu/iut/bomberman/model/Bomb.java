@@ -1,85 +1,66 @@
 package fr.amu.iut.bomberman.model;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Représente une bombe dans le jeu
+ * Vue sur un emplacement du stockage en colonnes du plateau ({@link EntityStore}) :
+ * les bombes sont créées par {@link GameBoard#addBomb(int, int, int, int)}.
+ * Une référence n'est valable que tant que la bombe est sur le plateau ;
+ * l'emplacement (et donc cet objet) est ensuite réutilisé pour une autre bombe.
  *
  * @author Groupe_3_6
  * @version 1.0
  */
 public class Bomb {
 
-    private final int x;
-    private final int y;
-    private final int firePower;
-    private final int ownerId;
-    private double timeRemaining;
-    private boolean forceExplode;
-
-    // Joueurs qui peuvent traverser cette bombe
-    private final Set<Integer> canTraverse;
-
     public static final double EXPLOSION_TIME = 3.0; // 3 secondes
+    public static final int FUSE_TICKS = (int) (EXPLOSION_TIME * GameEngine.TICKS_PER_SECOND);
 
-    /**
-     * Constructeur
-     */
-    public Bomb(int x, int y, int firePower, int ownerId) {
-        this.x = x;
-        this.y = y;
-        this.firePower = firePower;
-        this.ownerId = ownerId;
-        this.timeRemaining = EXPLOSION_TIME;
-        this.forceExplode = false;
-        this.canTraverse = new HashSet<>();
-
-        System.out.println("Nouvelle bombe créée à (" + x + ", " + y + ") par joueur " + ownerId);
-    }
+    private final EntityStore<Bomb> store;
+    final int slot;
 
     /**
-     * Met à jour la bombe
+     * Constructeur (une vue par emplacement, créée par le stockage)
      */
-    public void update(double deltaTime) {
-        if (!forceExplode) {
-            timeRemaining -= deltaTime;
-        }
+    Bomb(EntityStore<Bomb> store, int slot) {
+        this.store = store;
+        this.slot = slot;
     }
 
     /**
      * Vérifie si la bombe doit exploser
+     *
+     * @param currentTick Tick courant du plateau
      */
-    public boolean shouldExplode() {
-        return timeRemaining <= 0 || forceExplode;
+    public boolean shouldExplode(int currentTick) {
+        return currentTick >= store.timer[slot];
     }
 
     /**
-     * Force l'explosion de la bombe (réaction en chaîne)
+     * @param currentTick Tick courant du plateau
+     * @return Nombre de ticks avant l'explosion (0 si elle est due)
      */
-    public void forceExplode() {
-        this.forceExplode = true;
-        this.timeRemaining = 0;
-        System.out.println("Bombe à (" + x + ", " + y + ") forcée d'exploser!");
+    public int getTicksRemaining(int currentTick) {
+        return Math.max(0, store.timer[slot] - currentTick);
     }
 
     /**
      * Retourne le pourcentage de temps restant (1.0 = vient d'être placée, 0.0 = va exploser)
+     *
+     * @param currentTick Tick courant du plateau
      */
-    public double getTimePercentage() {
-        return Math.max(0, timeRemaining / EXPLOSION_TIME);
+    public double getTimePercentage(int currentTick) {
+        return Math.min(1.0, (double) getTicksRemaining(currentTick) / FUSE_TICKS);
     }
 
     /**
      * Définit si un joueur peut traverser cette bombe
+     * (les traces sont émises par le {@link GameModel}, qui peut les couper)
      */
     public void setCanBeTraversedBy(int playerId, boolean canTraverse) {
         if (canTraverse) {
-            this.canTraverse.add(playerId);
-            System.out.println("Joueur " + playerId + " peut traverser la bombe à (" + x + ", " + y + ")");
+            store.mask[slot] |= playerBit(playerId);
         } else {
-            this.canTraverse.remove(playerId);
-            System.out.println("Joueur " + playerId + " ne peut plus traverser la bombe à (" + x + ", " + y + ")");
+            store.mask[slot] &= ~playerBit(playerId);
         }
     }
 
@@ -87,24 +68,43 @@ public class Bomb {
      * Vérifie si un joueur peut traverser cette bombe
      */
     public boolean canBeTraversedBy(int playerId) {
-        return canTraverse.contains(playerId);
+        return (store.mask[slot] & playerBit(playerId)) != 0;
+    }
+
+    /**
+     * @return Masque des joueurs autorisés à traverser la bombe (bit identifiant - 1)
+     */
+    public int getTraversalMask() {
+        return store.mask[slot];
+    }
+
+    static int playerBit(int playerId) {
+        return playerId >= 1 && playerId <= Integer.SIZE ? 1 << (playerId - 1) : 0;
+    }
+
+    int getDetonationTick() {
+        return store.timer[slot];
+    }
+
+    int getSequence() {
+        return store.sequence[slot];
     }
 
     // Getters
     public int getX() {
-        return x;
+        return store.x[slot];
     }
 
     public int getY() {
-        return y;
+        return store.y[slot];
     }
 
     public int getFirePower() {
-        return firePower;
+        return store.fire[slot];
     }
 
     public int getOwnerId() {
-        return ownerId;
+        return store.owner[slot];
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,136 @@
+package fr.amu.iut.bomberman.model;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Mesure du temps d'une décision des bots à priorités fixes (difficultés Facile et Normal)
+ * <p>
+ * Une partie reproductible entre deux bots est sauvegardée à chaque décision ({@link GameSnapshot}),
+ * puis chaque bot redécide en boucle sur ces positions, comme sur un thread du {@link BotPlanner}.
+ * Le temps de référence est celui de la décision qui suit la restauration d'une position, comme à
+ * chaque tick du {@link BotPlanner} (champs de distances et carte du danger recalculés). Les décisions
+ * suivantes sur la même position (caches du plateau valides) sont données à titre indicatif.
+ * La mesure est précédée d'une exécution à vide (compilation JIT).
+ * <p>
+ * Exemple : {@code mvn javafx:run@decisions -Djavafx.args="--seconds 10 --seed 3"}
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class BotDecisionBenchmark {
+
+    static final String USAGE = "Usage : BotDecisionBenchmark [--seconds S] [--seed N]";
+
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    // Durée maximale de la partie dont les positions sont sauvegardées
+    private static final int MAX_TICKS = 60 * GameEngine.TICKS_PER_SECOND;
+    // Décisions répétées sur chaque position une fois les caches du plateau valides
+    private static final int WARM_DECISIONS = 16;
+
+    private BotDecisionBenchmark() {
+    }
+
+    /**
+     * Point d'entrée en ligne de commande
+     */
+    public static void main(String[] args) {
+        BenchmarkOptions options = BenchmarkOptions.parseOrExit(USAGE, args,
+                BenchmarkOptions.SECONDS, BenchmarkOptions.SEED);
+        long seconds = options.seconds;
+        long seed = options.seed;
+
+        // Parties silencieuses : les traces de debug ne font pas partie de la mesure
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, seed, false);
+        List<byte[]> positions = positions(gameModel);
+        BotPlayer[] bots = createBots(gameModel);
+        GameModel view = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 0, false);
+
+        PrintStream console = System.out;
+        console.println("=== DÉCISIONS DES BOTS : plateau " + GameBoard.GRID_WIDTH + "x" + GameBoard.GRID_HEIGHT
+                + ", " + positions.size() + " positions, graine " + seed + " ===");
+        measure(view, positions, bots, WARMUP_NANOS);
+        Result result = measure(view, positions, bots, seconds * 1_000_000_000L);
+        console.printf("Décision après restauration (BotPlanner) : %,.0f ns (%,d décisions)%n",
+                result.coldNanos / (double) result.coldDecisions, result.coldDecisions);
+        console.printf("Décision répétée sur la même position (caches valides) : %,.0f ns (%,d décisions)%n",
+                result.warmNanos / (double) result.warmDecisions, result.warmDecisions);
+    }
+
+    /**
+     * Joue une partie entre deux bots et la sauvegarde avant chaque décision, jusqu'à la fin du round
+     *
+     * @param gameModel Partie à jouer (non démarrée, créée silencieuse)
+     * @return Positions sauvegardées, dans l'ordre de la partie
+     */
+    static List<byte[]> positions(GameModel gameModel) {
+        gameModel.startNewGame("Bot1", "Bot2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+        BotScheduler scheduler = new BotScheduler();
+        for (BotPlayer bot : createBots(gameModel)) {
+            scheduler.register(bot);
+        }
+        engine.setBotScheduler(scheduler);
+
+        List<byte[]> positions = new ArrayList<>();
+        for (int i = 0; i < MAX_TICKS && gameModel.getGameState() == GameModel.GameState.PLAYING; i++) {
+            if (i % BotPlayer.DECISION_TICKS == 0) {
+                positions.add(GameSnapshot.capture(gameModel));
+            }
+            engine.tick();
+        }
+        return positions;
+    }
+
+    /**
+     * Un bot à priorités fixes par joueur, chacun ayant l'autre pour adversaire
+     */
+    static BotPlayer[] createBots(GameModel gameModel) {
+        BotPlayer[] bots = new BotPlayer[gameModel.getPlayerCount()];
+        for (int id = 1; id <= bots.length; id++) {
+            bots[id - 1] = new BotPlayer(gameModel.getPlayer(id), gameModel.getGameBoard(), gameModel.splitRandom());
+            bots[id - 1].setOpponents(gameModel.getPlayer(3 - id));
+        }
+        return bots;
+    }
+
+    /**
+     * Fait décider les bots sur chaque position, en boucle, pendant la durée demandée
+     * Seules les décisions sont chronométrées, pas les restaurations.
+     */
+    static Result measure(GameModel view, List<byte[]> positions, BotPlayer[] bots, long durationNanos) {
+        Result result = new Result();
+        long end = System.nanoTime() + durationNanos;
+        while (System.nanoTime() < end) {
+            for (byte[] position : positions) {
+                GameSnapshot.restore(view, position);
+                long start = System.nanoTime();
+                for (BotPlayer bot : bots) {
+                    bot.plan(view);
+                }
+                long cold = System.nanoTime();
+                for (int i = 0; i < WARM_DECISIONS; i++) {
+                    for (BotPlayer bot : bots) {
+                        bot.plan(view);
+                    }
+                }
+                result.coldNanos += cold - start;
+                result.warmNanos += System.nanoTime() - cold;
+                result.coldDecisions += bots.length;
+                result.warmDecisions += (long) WARM_DECISIONS * bots.length;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Temps cumulés d'une mesure
+     */
+    static final class Result {
+        long coldNanos;
+        long coldDecisions;
+        long warmNanos;
+        long warmDecisions;
+    }
+}
@@ -0,0 +1,315 @@
+package fr.amu.iut.bomberman.model;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Planification des bots sur des threads de travail, à partir d'un instantané immuable de la partie
+ * <p>
+ * Quand un bot doit décider, le {@link BotScheduler} le confie au planificateur : l'état de la partie
+ * est sauvegardé une seule fois pour le tick ({@link GameSnapshot}, tableau d'octets jamais modifié
+ * ensuite), puis le bot décide sur un thread de travail, dans une copie privée de la partie restaurée
+ * depuis cet instantané. Le thread de la simulation (le thread JavaFX en jeu) ne paie que la
+ * sauvegarde : une recherche plus coûteuse ne retarde ni la boucle de jeu ni le rendu.
+ * <p>
+ * Les décisions terminées sont appliquées à la partie réelle à la frontière de tick suivante, jamais
+ * pendant un tick. Pour chaque décision sont mesurés le temps de planification et l'ancienneté de
+ * l'instantané au moment de l'application (en ticks).
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class BotPlanner {
+
+    // Nombre de threads par défaut : la moitié des cœurs, entre 1 et 4
+    public static final int DEFAULT_THREADS = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+    private final GameModel gameModel;
+    private final ExecutorService workers;
+
+    // Copie privée de la partie pour chaque thread de travail
+    private final ThreadLocal<View> views;
+
+    // Décision en cours pour chaque bot de l'ordonnanceur (indice d'inscription), null si aucune
+    private Plan[] plans = new Plan[4];
+
+    // Instantané du tick courant, capturé au plus une fois par tick
+    private byte[] snapshot;
+    private long snapshotTick = -1;
+
+    // Statistiques des décisions
+    private long plannedCount;
+    private long appliedCount;
+    private long discardedCount;
+    private long totalPlanningNanos;
+    private long maxPlanningNanos;
+    private long totalStaleness;
+    private long maxStaleness;
+
+    /**
+     * Constructeur avec {@link #DEFAULT_THREADS} threads de travail
+     *
+     * @param gameModel Partie réelle des bots
+     */
+    public BotPlanner(GameModel gameModel) {
+        this(gameModel, DEFAULT_THREADS);
+    }
+
+    /**
+     * Constructeur
+     *
+     * @param gameModel Partie réelle des bots
+     * @param threads   Nombre de threads de travail (au moins 1)
+     */
+    public BotPlanner(GameModel gameModel, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Nombre de threads invalide : " + threads);
+        }
+        this.gameModel = gameModel;
+        GameBoard board = gameModel.getGameBoard();
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int playerCount = gameModel.getPlayerCount();
+        // Copies silencieuses : aucune trace de debug depuis les threads de travail
+        this.views = ThreadLocal.withInitial(() -> new View(new GameModel(width, height, playerCount, 0, false)));
+
+        // Threads démons : ils n'empêchent pas l'application de se fermer
+        this.workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "bot-planner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @return true si une décision du bot est en cours (ou terminée mais pas encore appliquée)
+     */
+    boolean isPlanning(int slot) {
+        return slot < plans.length && plans[slot] != null;
+    }
+
+    /**
+     * Lance la décision d'un bot sur l'état actuel de la partie (appelé sur le thread de la simulation)
+     *
+     * @param slot Indice du bot dans l'ordonnanceur
+     * @param bot  Bot qui décide
+     * @param tick Tick courant de l'ordonnanceur
+     */
+    void submit(int slot, BotPlayer bot, long tick) {
+        if (snapshotTick != tick) {
+            snapshot = GameSnapshot.capture(gameModel);
+            snapshotTick = tick;
+        }
+        if (slot >= plans.length) {
+            plans = Arrays.copyOf(plans, Math.max(plans.length * 2, slot + 1));
+        }
+
+        Plan plan = new Plan(bot, tick, gameModel.getCurrentRound());
+        byte[] data = snapshot;
+        plan.task = workers.submit(() -> run(plan, data));
+        plans[slot] = plan;
+    }
+
+    /**
+     * Décide sur la copie de la partie du thread de travail (restaurée si l'instantané a changé)
+     */
+    private void run(Plan plan, byte[] data) {
+        try {
+            if (plan.cancelled) {
+                return; // Abandonnée avant d'avoir commencé
+            }
+            long start = System.nanoTime();
+            View view = views.get();
+            // Les décisions ne modifient pas la copie : elle sert à tous les bots du même instantané
+            if (view.restored != data) {
+                GameSnapshot.restore(view.model, data);
+                view.restored = data;
+            }
+            plan.bot.plan(view.model);
+            plan.planningNanos = System.nanoTime() - start;
+        } finally {
+            plan.finished.countDown();
+        }
+    }
+
+    /**
+     * Applique les décisions terminées (appelé sur le thread de la simulation, entre deux ticks)
+     * Une décision prise pendant un autre round, ou devenue périmée, est abandonnée.
+     *
+     * @param tick Tick courant de l'ordonnanceur
+     */
+    void applyCompleted(long tick) {
+        for (int slot = 0; slot < plans.length; slot++) {
+            Plan plan = plans[slot];
+            if (plan == null || !plan.task.isDone()) {
+                continue;
+            }
+            plans[slot] = null;
+            if (!await(plan)) {
+                continue;
+            }
+
+            plannedCount++;
+            totalPlanningNanos += plan.planningNanos;
+            maxPlanningNanos = Math.max(maxPlanningNanos, plan.planningNanos);
+            long staleness = tick - plan.tick;
+            totalStaleness += staleness;
+            maxStaleness = Math.max(maxStaleness, staleness);
+
+            if (plan.round == gameModel.getCurrentRound() && plan.bot.applyDecision()) {
+                appliedCount++;
+            } else {
+                discardedCount++;
+            }
+        }
+    }
+
+    /**
+     * Attend la fin des décisions en cours, sans les appliquer
+     * Les appliquer au tick suivant rend la partie reproductible (simulation sans interface, tests).
+     */
+    public void awaitPlans() {
+        for (Plan plan : plans) {
+            if (plan != null) {
+                try {
+                    plan.task.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    // Signalé lors de l'application
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true si la décision s'est terminée normalement
+     */
+    private boolean await(Plan plan) {
+        try {
+            plan.task.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            System.err.println("Échec de la planification d'un bot : " + e.getCause());
+            discardedCount++;
+            return false;
+        }
+    }
+
+    /**
+     * Abandonne les décisions en cours (nouvelle partie, bots désinscrits)
+     * Une décision déjà commencée ne s'interrompt pas : on attend sa fin, pour qu'elle n'écrive plus
+     * dans son bot quand celui-ci est de nouveau planifié ou décide sur le thread de la simulation.
+     */
+    public void cancel() {
+        for (Plan plan : plans) {
+            if (plan != null) {
+                plan.cancelled = true;
+            }
+        }
+        for (int slot = 0; slot < plans.length; slot++) {
+            Plan plan = plans[slot];
+            if (plan == null) {
+                continue;
+            }
+            try {
+                plan.finished.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            plans[slot] = null;
+        }
+        snapshot = null;
+        snapshotTick = -1;
+    }
+
+    /**
+     * Abandonne les décisions en cours et arrête les threads de travail
+     */
+    public void shutdown() {
+        cancel();
+        workers.shutdownNow();
+    }
+
+    // Getters
+
+    /**
+     * @return Nombre de décisions terminées et mesurées
+     */
+    public long getPlannedCount() {
+        return plannedCount;
+    }
+
+    public long getAppliedCount() {
+        return appliedCount;
+    }
+
+    /**
+     * @return Nombre de décisions abandonnées (périmées ou en échec)
+     */
+    public long getDiscardedCount() {
+        return discardedCount;
+    }
+
+    /**
+     * @return Temps moyen de planification d'une décision, en millisecondes
+     */
+    public double getAveragePlanningMillis() {
+        return plannedCount == 0 ? 0 : totalPlanningNanos / 1e6 / plannedCount;
+    }
+
+    public double getMaxPlanningMillis() {
+        return maxPlanningNanos / 1e6;
+    }
+
+    /**
+     * @return Ancienneté moyenne de l'instantané au moment de l'application, en ticks
+     */
+    public double getAverageStaleness() {
+        return plannedCount == 0 ? 0 : (double) totalStaleness / plannedCount;
+    }
+
+    public long getMaxStaleness() {
+        return maxStaleness;
+    }
+
+    /**
+     * Copie de la partie propre à un thread de travail
+     */
+    private static final class View {
+        final GameModel model;
+        byte[] restored;
+
+        View(GameModel model) {
+            this.model = model;
+        }
+    }
+
+    /**
+     * Décision d'un bot en cours de planification
+     */
+    private static final class Plan {
+        final BotPlayer bot;
+        final long tick;
+        final int round;
+        Future<?> task;
+        long planningNanos; // Écrit par le thread de travail, lu après la fin de la tâche
+        volatile boolean cancelled;
+        final CountDownLatch finished = new CountDownLatch(1); // Fin de la tâche, même abandonnée
+
+        Plan(BotPlayer bot, long tick, int round) {
+            this.bot = bot;
+            this.tick = tick;
+            this.round = round;
+        }
+    }
+}
@@ -1,21 +1,21 @@
 package fr.amu.iut.bomberman.model;
 
 import fr.amu.iut.bomberman.utils.Direction;
-import javafx.application.Platform;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.function.LongSupplier;
 
 /**
  * Intelligence artificielle équilibrée pour un joueur bot Bomberman
  * <p>
  * FONCTIONNALITÉS PRINCIPALES :
- * - Détection intelligente des zones dangereuses (toutes les bombes + puissance variable)
+ * - Détection des zones dangereuses par la carte du danger du plateau (réactions en chaîne comprises)
  * - Placement stratégique de bombes avec vérification d'évasion
  * - Évasion multi-niveaux (proche puis étendue)
  * - Prévention des boucles de mouvement
- * - Recherche optimisée de murs cassables
+ * - Plus courts chemins (champs de distances du plateau) vers murs, power-ups et adversaires
+ * - Décision séparée de son application : planification possible sur un instantané ({@link BotPlanner})
+ * - Difficulté Difficile : actions choisies par recherche Monte-Carlo ({@link MonteCarloSearch})
+ * - Décision par priorités sans allocation : mémoire en tableaux d'entiers, traces de debug désactivables
  *
  * @author Groupe_3_6
  * @version 2.4 Clean
@@ -23,128 +23,184 @@ import java.util.Random;
 public class BotPlayer {
     // ================ CONFIGURATION ================
     private static final int DECISION_DELAY = 800;        // Délai entre chaque décision (ms)
+    static final int DECISION_TICKS = DECISION_DELAY * GameEngine.TICKS_PER_SECOND / 1000; // Même délai en ticks
     private static final int BOMB_COOLDOWN = 1500;        // Délai minimum entre bombes (ms)
-    private static final int BOMB_AVOIDANCE_DURATION = 3500; // Durée d'évitement des bombes du bot (ms)
     private static final int MAX_RECENT_ACTIONS = 5;      // Nombre d'actions mémorisées pour éviter les boucles
+    private static final int POWER_UP_DETOUR = 3;         // Cases de détour acceptées pour un power-up plutôt qu'un mur
+
+    private static final int NO_CELL = -1;                // Pas de case (aucune décision, aucun déplacement)
+
+    // Types d'actions mémorisées, empaquetés avec l'indice de la case dans les bits de poids faible
+    private static final int ACTION_MOVE = 0;             // Déplacement vers une case
+    private static final int ACTION_ESCAPE = 1;           // Fuite depuis une case
+    private static final int ACTION_BOMB = 2;             // Bombe posée sur une case
+    private static final int ACTION_BITS = 2;             // Bits réservés au type d'action
+    private static final int NO_ACTION = -1;              // Décision qui n'est pas mémorisée (recherche)
+
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
 
     private final GameBoard gameBoard;                    // Plateau de jeu
     private final Player botControlledPlayer;             // Joueur contrôlé par le bot
-    private final Random random = new Random();           // Générateur de nombres aléatoires
+    private final GameRandom random;                      // Branche du générateur de la partie
+    private final LongSupplier clock;                     // Horloge en millisecondes (null : horloge du plateau)
+    private Player[] opponents = new Player[0];           // Adversaires à poursuivre quand il n'y a plus de murs
+    private GameModel gameModel;                          // Partie réelle (seulement avec une recherche)
+    private MonteCarloSearch search;                      // Recherche Monte-Carlo (null : priorités fixes)
+    private boolean verbose;                              // Traces de debug de chaque décision
+
+    // ================ VUE DE LA DÉCISION ================
+    // Monde lu pendant une décision : la partie réelle, ou sa copie restaurée depuis un instantané (BotPlanner)
+    private GameModel model;                              // Partie lue (null sans recherche ni instantané)
+    private GameBoard board;                              // Plateau lu
+    private Player self;                                  // Joueur du bot dans ce monde
+    private Player[] others = new Player[0];              // Adversaires dans ce monde
 
     // ================ ÉTAT DU BOT ================
-    private boolean isActive = false;                     // Statut d'activité du bot
-    private Thread botThread;                             // Thread d'exécution du bot
-    private long lastBombTime = 0;                        // Timestamp de la dernière bombe placée
+    private long lastBombTime = -BOMB_COOLDOWN;           // Timestamp de la dernière bombe placée
+
+    // ================ DÉCISION EN ATTENTE ================
+    private int decisionCell = NO_CELL;                   // Case du bot au moment de la décision
+    private int moveCell = NO_CELL;                       // Case voisine visée (NO_CELL : rester sur place)
+    private boolean bombRequested;                        // Bombe à poser sur la case de décision
+    private int decisionAction = NO_ACTION;               // Action mémorisée si la décision est appliquée
 
     // ================ MÉMOIRE DU BOT ================
-    private final List<BombPosition> botPlacedBombs = new ArrayList<>();  // Bombes placées par le bot
-    private final List<String> recentActions = new ArrayList<>();         // Actions récentes pour éviter les boucles
+    // Actions récentes pour éviter les boucles : tampon circulaire d'actions empaquetées (type et case)
+    private final int[] recentActions = new int[MAX_RECENT_ACTIONS];
+    private int recentStart;                              // Indice de l'action la plus ancienne
+    private int recentCount;                              // Nombre d'actions mémorisées
+    private final Direction[] shuffledDirections = DIRECTIONS.clone(); // Ordre aléatoire des directions, réutilisé
+
+    // ================ CONSTRUCTEUR & CONTRÔLE ================
 
     /**
-     * Classe interne : Position d'une bombe avec sa puissance d'explosion
-     * Permet le calcul précis des zones dangereuses
+     * Constructeur : Crée un bot contrôlant un joueur donné
+     * Les délais du bot suivent l'horloge du plateau (temps de jeu : suspendus pendant les pauses)
      */
-    private static class BombPosition {
-        int x, y;                    // Position de la bombe sur la grille
-        long placementTime;          // Timestamp du placement
-        int firepower;               // Puissance d'explosion de la bombe
-
-        BombPosition(int x, int y, long time, int firepower) {
-            this.x = x;                              // Coordonnée X
-            this.y = y;                              // Coordonnée Y
-            this.placementTime = time;               // Heure de placement
-            this.firepower = firepower;              // Puissance d'explosion
-        }
-
-        /**
-         * Vérifie si la bombe a expiré et peut être oubliée
-         */
-        boolean isExpired(long currentTime) {
-            // Calcule si le temps d'évitement est dépassé
-            return currentTime - placementTime > BOMB_AVOIDANCE_DURATION;
-        }
-
-        /**
-         * Vérifie si une position est dans la zone d'explosion de cette bombe
-         */
-        boolean isInExplosionZone(int checkX, int checkY) {
-            // Explosion horizontale (même ligne Y)
-            if (checkY == y && Math.abs(checkX - x) <= firepower) {
-                return true;                         // Position dans la zone horizontale
-            }
-            // Explosion verticale (même colonne X)
-            return checkX == x && Math.abs(checkY - y) <= firepower;                         // Position dans la zone verticale
-// Position hors de portée
-        }
+    public BotPlayer(Player player, GameBoard gameBoard, GameRandom random) {
+        this(player, gameBoard, random, null);
     }
 
-    // ================ CONSTRUCTEUR & CONTRÔLE ================
-
     /**
-     * Constructeur : Crée un bot contrôlant un joueur donné
+     * Constructeur avec une horloge fournie (simulation sans interface, plus rapide que le temps réel)
+     *
+     * @param clock Temps courant en millisecondes, utilisé pour les délais du bot (null : horloge du plateau lu)
      */
-    public BotPlayer(Player player, GameBoard gameBoard) {
+    public BotPlayer(Player player, GameBoard gameBoard, GameRandom random, LongSupplier clock) {
         // Initialiser le profil du bot
         // ================ COMPOSANTS PRINCIPAUX ================
         // Profil du bot
         this.botControlledPlayer = player;           // Sauvegarder le joueur à contrôler
         this.gameBoard = gameBoard;                  // Sauvegarder la référence du plateau
-        System.out.println("Bot créé avec stratégie équilibrée intelligente");
+        this.random = random;                        // Aléa reproductible, propre à ce bot
+        this.clock = clock;                          // Horloge des délais (cooldown, évitement)
+        useLiveWorld();                              // Décider sur la partie réelle par défaut
     }
 
     /**
-     * Active le bot : démarre le thread de décision
+     * Définit les adversaires que le bot poursuit une fois les murs cassables épuisés
      */
-    public void activate() {
-        if (isActive) return;                        // Éviter les doubles activations
+    public void setOpponents(Player... opponents) {
+        this.opponents = opponents.clone();
+        this.others = opponents.clone();
+    }
+
+    /**
+     * Fait choisir les actions du bot par une recherche Monte-Carlo plutôt que par ses priorités fixes
+     *
+     * @param gameModel Partie réelle du bot (simulée par la recherche quand le bot décide sur le thread du jeu)
+     * @param search    Recherche à utiliser (null pour revenir aux priorités fixes)
+     */
+    public void setSearch(GameModel gameModel, MonteCarloSearch search) {
+        this.gameModel = gameModel;
+        this.search = search;
+        useLiveWorld();
+    }
 
-        isActive = true;                             // Marquer comme actif
-        System.out.println("Bot activé - Joueur contrôlé: " + botControlledPlayer.getName());
+    /**
+     * Active les traces de debug de chaque décision (désactivées par défaut : une décision n'alloue rien)
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
 
-        // Créer et démarrer le thread du bot
-        botThread = new Thread(this::runBotLogic);   // Créer le thread avec la logique
-        botThread.setDaemon(true);                   // Thread daemon (se ferme avec l'app)
-        botThread.setName("Bot-Thread");             // Nommer le thread pour le debug
-        botThread.start();                           // Démarrer le thread
+    // ================ LOGIQUE PRINCIPALE ================
 
-        // Première décision immédiate
-        Platform.runLater(this::makeDecision);       // Programmer la première décision
+    /**
+     * Prend une décision immédiatement, sur le thread appelant, et l'applique à la partie
+     * Appelé au début d'un tick par le {@link BotScheduler} de la partie (ou directement en test)
+     */
+    public void step() {
+        makeDecision();
+        applyDecision();
     }
 
     /**
-     * Désactive le bot : arrête le thread de décision
+     * Prend une décision sur une copie de la partie, sans rien modifier de la partie réelle
+     * La décision reste en attente jusqu'à {@link #applyDecision()}. Appelé par un thread de
+     * travail du {@link BotPlanner} : la copie ne doit pas changer pendant l'appel.
+     *
+     * @param view Copie de la partie (mêmes joueurs, restaurée depuis un instantané)
      */
-    public void deactivate() {
-        if (!isActive) return;                       // Si déjà inactif, ne rien faire
-        System.out.println("Désactivation du bot...");
-        isActive = false;                            // Marquer comme inactif
-        if (botThread != null) {
-            botThread.interrupt();                   // Interrompre le thread
+    void plan(GameModel view) {
+        model = view;
+        board = view.getGameBoard();
+        self = view.getPlayer(botControlledPlayer.getPlayerId());
+        for (int i = 0; i < opponents.length; i++) {
+            others[i] = view.getPlayer(opponents[i].getPlayerId());
+        }
+        try {
+            makeDecision();
+        } finally {
+            useLiveWorld();                          // Ne pas retenir la copie
         }
     }
 
-    // ================ LOGIQUE PRINCIPALE ================
-
     /**
-     * BOUCLE PRINCIPALE : Exécute les décisions du bot à intervalles réguliers
+     * Applique à la partie réelle la décision en attente (bombe puis déplacement)
+     * Une décision périmée est abandonnée : joueur mort ou qui n'est plus sur la case d'où
+     * elle a été prise, case visée devenue infranchissable. Seule une décision appliquée est
+     * mémorisée (prévention des boucles, délai entre deux bombes).
+     *
+     * @return true si la décision a été appliquée
      */
-    private void runBotLogic() {
-        // Boucle tant que le bot est actif
-        while (isActive && !Thread.currentThread().isInterrupted()) {
-            try {
-                // Vérifier si le joueur est encore vivant
-                if (botControlledPlayer.isAlive()) {
-                    // Programmer une décision dans le thread JavaFX
-                    Platform.runLater(this::makeDecision);
+    boolean applyDecision() {
+        int cell = decisionCell;
+        decisionCell = NO_CELL;
+        if (cell == NO_CELL || !botControlledPlayer.isAlive()) {
+            return false;                            // Rien à appliquer
+        }
+
+        int width = gameBoard.getWidth();
+        int gridX = (int) Math.floor(botControlledPlayer.getX());
+        int gridY = (int) Math.floor(botControlledPlayer.getY());
+        if (gridY * width + gridX != cell) {
+            return false;                            // Le bot a changé de case depuis la décision
+        }
+
+        if (decisionAction != NO_ACTION) {
+            addRecentAction(decisionAction, cell);   // Mémoriser l'action appliquée
+        }
+
+        if (bombRequested && botControlledPlayer.canPlaceBomb()) {
+            int firepower = botControlledPlayer.getFirePower();
+            if (gameBoard.addBomb(gridX, gridY, firepower, botControlledPlayer.getPlayerId()) != null) {
+                botControlledPlayer.incrementBombsPlaced(); // Incrémenter le compteur
+                lastBombTime = currentTime();        // Mettre à jour le timestamp
+                if (verbose) {
+                    log("BOMBE placée à (" + gridX + ", " + gridY + ") puissance " + firepower);
                 }
-                // Attendre avant la prochaine décision
-                Thread.sleep(DECISION_DELAY);
-            } catch (InterruptedException e) {
-                // Thread interrompu = arrêt propre
-                Thread.currentThread().interrupt();
-                break;                               // Sortir de la boucle
             }
         }
+
+        if (moveCell != NO_CELL) {
+            int targetX = moveCell % width;
+            int targetY = moveCell / width;
+            if (gameBoard.isWalkable(targetX, targetY) && !gameBoard.hasBomb(targetX, targetY)) {
+                moveToPosition(targetX, targetY);    // Effectuer le déplacement
+            }
+        }
+        return true;
     }
 
     /**
@@ -157,197 +213,126 @@ public class BotPlayer {
      */
     private void makeDecision() {
         // Vérifier que le joueur existe et est vivant
-        if (botControlledPlayer == null || !botControlledPlayer.isAlive()) {
+        moveCell = NO_CELL;
+        bombRequested = false;
+        decisionCell = NO_CELL;
+        decisionAction = NO_ACTION;
+        if (self == null || !self.isAlive()) {
             return;                                  // Arrêter si conditions non remplies
         }
 
-        // Nettoyage des données expirées
-        cleanExpiredBombs();                         // Supprimer les anciennes bombes
-        cleanRecentActions();                        // Supprimer les anciennes actions
-
         // Récupérer la position actuelle du bot
-        int botX = (int) Math.floor(botControlledPlayer.getX());
-        int botY = (int) Math.floor(botControlledPlayer.getY());
+        int botX = (int) Math.floor(self.getX());
+        int botY = (int) Math.floor(self.getY());
+        decisionCell = botY * board.getWidth() + botX;
+
+        // DIFFICULTÉ DIFFICILE : l'action vient de la recherche Monte-Carlo
+        if (search != null && model != null) {
+            decideBySearch(botX, botY);
+            return;                                  // Une seule action par décision
+        }
 
         // PRIORITÉ 1 : SURVIE - Fuir les zones dangereuses
         if (isInExtendedDanger(botX, botY)) {
-            System.out.println("BOT: ZONE DANGEREUSE - Fuite intelligente !");
-            addRecentAction("ESCAPE_" + botX + "_" + botY); // Mémoriser l'action
+            log("ZONE DANGEREUSE - Fuite intelligente !");
+            decisionAction = ACTION_ESCAPE;          // Mémorisée à l'application
             escapeFromExtendedDanger();              // Exécuter la fuite
             return;                                  // Une seule action par décision
         }
 
         // PRIORITÉ 2 : ATTAQUE - Placer bombe si avantageux
         if (shouldPlaceBombHere(botX, botY)) {
-            System.out.println("BOT: Placement de bombe stratégique");
-            addRecentAction("BOMB_" + botX + "_" + botY); // Mémoriser l'action
+            log("Placement de bombe stratégique");
+            decisionAction = ACTION_BOMB;            // Mémorisée à l'application
             placeBombAndEscape();                    // Placer la bombe et fuir
             return;                                  // Une seule action par décision
         }
 
         // PRIORITÉ 3 : MOUVEMENT - Chercher des objectifs
-        System.out.println("BOT: Recherche d'objectif");
-        addRecentAction("MOVE_" + botX + "_" + botY); // Mémoriser l'action
+        log("Recherche d'objectif");
+        decisionAction = ACTION_MOVE;                // Mémorisée à l'application
         moveIntelligently();                         // Se déplacer intelligemment
     }
 
-    // ================ DÉTECTION DES DANGERS ================
-
-    /**
-     * DÉTECTION AVANCÉE : Vérifie si le bot est dans une zone dangereuse
-     * Prend en compte :
-     * - Toutes les bombes sur le plateau
-     * - La puissance d'explosion variable (power-ups)
-     * - Les obstacles qui bloquent les explosions
-     */
-    private boolean isInExtendedDanger(int botX, int botY) {
-        // Vérifier toutes les bombes sur le plateau
-        for (int x = 0; x < GameBoard.GRID_WIDTH; x++) {
-            for (int y = 0; y < GameBoard.GRID_HEIGHT; y++) {
-                // Si une bombe est présente à cette position
-                if (gameBoard.getTile(x, y) == GameBoard.TileType.BOMB) {
-                    // Estimer la puissance maximale pour la sécurité
-                    int estimatedFirepower = Math.max(botControlledPlayer.getFirePower(), 3);
-
-                    // Vérifier si le bot est dans le rayon de cette bombe
-                    if (isInBombRange(botX, botY, x, y, estimatedFirepower)) {
-                        return true;                 // Danger détecté
-                    }
-                }
-            }
-        }
-
-        // Vérifier les bombes placées par le bot (puissance connue)
-        for (BombPosition bomb : botPlacedBombs) {
-            // Vérifier si le bot est dans la zone d'explosion
-            if (bomb.isInExplosionZone(botX, botY)) {
-                return true;                         // Danger des propres bombes
-            }
-        }
-
-        return false;                                // Aucun danger détecté
-    }
-
     /**
-     * CALCUL PRÉCIS : Vérifie si une position est dans le rayon d'une bombe
-     * Tient compte des murs qui bloquent l'explosion
+     * RECHERCHE : Simule des suites de partie dans le budget de temps et retient la meilleure action
      */
-    private boolean isInBombRange(int posX, int posY, int bombX, int bombY, int firepower) {
-        // Vérification horizontale (même ligne Y)
-        if (posY == bombY && Math.abs(posX - bombX) <= firepower) {
-            // Vérifier si l'explosion n'est pas bloquée
-            return !isExplosionBlockedByWalls(bombX, bombY, posX, posY);
+    private void decideBySearch(int botX, int botY) {
+        int action = search.search(model, self.getPlayerId(), random);
+        Direction dir = MonteCarloSearch.directionOf(action);
+        bombRequested = MonteCarloSearch.hasBomb(action);
+        switch (dir) {
+            case UP -> planMove(botX, botY - 1);     // Aller vers le haut
+            case DOWN -> planMove(botX, botY + 1);   // Aller vers le bas
+            case LEFT -> planMove(botX - 1, botY);   // Aller vers la gauche
+            case RIGHT -> planMove(botX + 1, botY);  // Aller vers la droite
+        }
+        if (verbose) {
+            log("Recherche Monte-Carlo - " + dir + (bombRequested ? " avec bombe" : "")
+                    + " (" + search.getLastIterations() + " simulations)");
         }
-        // Vérification verticale (même colonne X)
-        if (posX == bombX && Math.abs(posY - bombY) <= firepower) {
-            // Vérifier si l'explosion n'est pas bloquée
-            return !isExplosionBlockedByWalls(bombX, bombY, posX, posY);
-        }
-        return false;                                // Position hors de portée
     }
 
+    // ================ DÉTECTION DES DANGERS ================
+
     /**
-     * PHYSIQUE DU JEU : Vérifie si l'explosion est bloquée par des murs
+     * DÉTECTION AVANCÉE : Vérifie si une case est dans une zone dangereuse
+     * Lecture en O(1) de la carte du danger du plateau, qui prend en compte :
+     * - Toutes les bombes posées (celles du bot comme celles des adversaires)
+     * - La puissance réelle de chaque bombe et les murs qui bloquent le souffle
+     * - Les réactions en chaîne (une bombe touchée explose avec la première)
+     * - Les flammes encore actives
      */
-    private boolean isExplosionBlockedByWalls(int fromX, int fromY, int toX, int toY) {
-        // Calculer la direction de l'explosion
-        int dx = Integer.signum(toX - fromX);
-        int dy = Integer.signum(toY - fromY);
-
-        // Commencer à la première case après la bombe
-        int currentX = fromX + dx;
-        int currentY = fromY + dy;
-
-        // Parcourir le chemin de l'explosion
-        while (currentX != toX || currentY != toY) {
-            // Vérifier les limites de la carte
-            if (currentX < 0 || currentX >= GameBoard.GRID_WIDTH ||
-                    currentY < 0 || currentY >= GameBoard.GRID_HEIGHT) {
-                return true; // Hors limites = explosion bloquée
-            }
-
-            // Vérifier le type de case
-            GameBoard.TileType tile = gameBoard.getTile(currentX, currentY);
-            if (tile == GameBoard.TileType.WALL || tile == GameBoard.TileType.BREAKABLE_WALL) {
-                return true; // Mur = explosion bloquée
-            }
-
-            // Avancer vers la position cible
-            currentX += dx;
-            currentY += dy;
-        }
-
-        return false;                                // Chemin libre = explosion non bloquée
+    private boolean isInExtendedDanger(int x, int y) {
+        return board.isInDanger(x, y);
     }
 
     // ================ ÉVASION INTELLIGENTE ================
 
     /**
-     * ÉVASION AVANCÉE : Trouve la position sûre la plus proche dans un rayon étendu
-     * Algorithme : Recherche en losange par rayons croissants
+     * ÉVASION AVANCÉE : Trouve la position sûre la plus proche en nombre de pas
+     * Algorithme : Parcours du champ de distances du bot (cases par distance croissante)
      */
     private void escapeFromExtendedDanger() {
         // Récupérer la position actuelle
-        int botX = (int) Math.floor(botControlledPlayer.getX());
-        int botY = (int) Math.floor(botControlledPlayer.getY());
-
-        // Variables pour la meilleure position trouvée
-        int bestX = -1, bestY = -1;
-        int minDistance = Integer.MAX_VALUE;
-
-        // Recherche par rayons croissants (1, 2, 3, 4 cases)
-        for (int radius = 1; radius <= 4; radius++) {
-            // Parcourir toutes les positions à ce rayon
-            for (int dx = -radius; dx <= radius; dx++) {
-                for (int dy = -radius; dy <= radius; dy++) {
-                    // Parcours en losange (distance Manhattan = radius)
-                    if (Math.abs(dx) + Math.abs(dy) != radius) continue;
-
-                    // Calculer la position à vérifier
-                    int checkX = botX + dx;
-                    int checkY = botY + dy;
-
-                    // Vérifier si cette position est sûre
-                    if (isSafePosition(checkX, checkY) && !isInExtendedDanger(checkX, checkY)) {
-                        // Calculer la distance réelle
-                        int distance = Math.abs(dx) + Math.abs(dy);
-                        if (distance < minDistance) {
-                            minDistance = distance;  // Nouvelle meilleure distance
-                            bestX = checkX;          // Sauvegarder la position X
-                            bestY = checkY;          // Sauvegarder la position Y
-                        }
-                    }
-                }
+        int botX = (int) Math.floor(self.getX());
+        int botY = (int) Math.floor(self.getY());
+        DistanceField field = distanceField(botX, botY);
+        int width = board.getWidth();
+
+        // Première case atteignable hors de danger (la plus proche par le plus court chemin)
+        for (int i = 1; field.hasReachedCell(i); i++) {
+            int cell = field.getReachedCell(i);
+            int checkX = cell % width;
+            int checkY = cell / width;
+            if (!isSafePosition(checkX, checkY) || isInExtendedDanger(checkX, checkY)) {
+                continue;                                // Case encore exposée
+            }
+
+            // Première case du chemin vers cette position sûre
+            Direction bestDir = field.getFirstStep(checkX, checkY);
+            int newX = botX, newY = botY;
+            switch (bestDir) {
+                case UP -> newY--;                       // Aller vers le haut
+                case DOWN -> newY++;                     // Aller vers le bas
+                case LEFT -> newX--;                     // Aller vers la gauche
+                case RIGHT -> newX++;                    // Aller vers la droite
             }
-            if (bestX != -1) break; // Position trouvée, arrêter la recherche
-        }
-
-        // Se déplacer vers la position sûre trouvée
-        if (bestX != -1) {
-            // Calculer la meilleure direction
-            Direction bestDir = getBestDirectionTo(botX, botY, bestX, bestY);
-            if (bestDir != Direction.NONE) {
-                // Calculer la prochaine position
-                int newX = botX, newY = botY;
-                switch (bestDir) {
-                    case UP -> newY--;           // Aller vers le haut
-                    case DOWN -> newY++;         // Aller vers le bas
-                    case LEFT -> newX--;         // Aller vers la gauche
-                    case RIGHT -> newX++;        // Aller vers la droite
-                }
 
-                // Vérifier que cette position est sûre
-                if (isSafePosition(newX, newY)) {
-                    moveToPosition(newX, newY);  // Effectuer le déplacement
-                    System.out.println("BOT: Fuite intelligente réussie vers " + bestDir);
-                    return;                      // Fuite réussie
+            // Vérifier que cette position est sûre
+            if (isSafePosition(newX, newY)) {
+                planMove(newX, newY);                   // Effectuer le déplacement
+                if (verbose) {
+                    log("Fuite intelligente réussie vers " + bestDir);
                 }
+                return;                                  // Fuite réussie
             }
+            break;                                       // Chemin bloqué par une bombe du bot
         }
 
         // Plan de secours : évasion simple
-        System.out.println("BOT: Fuite d'urgence !");
-        escapeFromDanger();                          // Utiliser la méthode de secours
+        log("Fuite d'urgence !");
+        escapeFromDanger();                              // Utiliser la méthode de secours
     }
 
     /**
@@ -355,12 +340,11 @@ public class BotPlayer {
      */
     private void escapeFromDanger() {
         // Récupérer la position actuelle
-        int botX = (int) Math.floor(botControlledPlayer.getX());
-        int botY = (int) Math.floor(botControlledPlayer.getY());
+        int botX = (int) Math.floor(self.getX());
+        int botY = (int) Math.floor(self.getY());
 
         // Préparer toutes les directions possibles
-        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-        shuffleArray(directions); // Randomiser pour éviter les patterns
+        Direction[] directions = shuffledDirections(); // Randomiser pour éviter les patterns
 
         // Tester chaque direction
         for (Direction dir : directions) {
@@ -375,13 +359,15 @@ public class BotPlayer {
 
             // Vérifier si cette position est sûre
             if (isSafePosition(newX, newY) && !isInExtendedDanger(newX, newY)) {
-                moveToPosition(newX, newY);      // Effectuer le déplacement
-                System.out.println("BOT: Fuite d'urgence vers " + dir);
+                planMove(newX, newY);           // Effectuer le déplacement
+                if (verbose) {
+                    log("Fuite d'urgence vers " + dir);
+                }
                 return;                          // Fuite réussie
             }
         }
 
-        System.out.println("BOT: Aucune échappatoire trouvée !");
+        log("Aucune échappatoire trouvée !");
     }
 
     // ================ STRATÉGIE DE BOMBE ================
@@ -396,19 +382,19 @@ public class BotPlayer {
      */
     private boolean shouldPlaceBombHere(int x, int y) {
         // Vérifications de base
-        long currentTime = System.currentTimeMillis();
+        long currentTime = currentTime();
         // Vérifier le cooldown et la capacité
-        if (currentTime - lastBombTime < BOMB_COOLDOWN || !botControlledPlayer.canPlaceBomb()) {
+        if (currentTime - lastBombTime < BOMB_COOLDOWN || !self.canPlaceBomb()) {
             return false;                        // Conditions non remplies
         }
 
         // Vérifier qu'il n'y a pas déjà une bombe
-        if (gameBoard.getTile(x, y) == GameBoard.TileType.BOMB) {
+        if (board.hasBomb(x, y)) {
             return false; // Déjà une bombe ici
         }
 
         // Vérifier s'il y a des cibles valides
-        int firepower = botControlledPlayer.getFirePower();
+        int firepower = self.getFirePower();
         boolean hasTarget = hasValidTargetsInRange(x, y, firepower);
 
         // Placer seulement s'il y a des cibles ET possibilité d'évasion
@@ -419,11 +405,8 @@ public class BotPlayer {
      * DÉTECTION DE CIBLES : Cherche des murs cassables dans le rayon d'action
      */
     private boolean hasValidTargetsInRange(int x, int y, int firepower) {
-        // Vérifier dans les 4 directions
-        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-
         // Tester chaque direction
-        for (Direction dir : directions) {
+        for (Direction dir : DIRECTIONS) {
             // Vérifier chaque case dans la portée
             for (int i = 1; i <= firepower; i++) {
                 // Calculer la position à vérifier
@@ -437,13 +420,12 @@ public class BotPlayer {
                 }
 
                 // Vérifier les limites de la carte
-                if (checkX < 0 || checkX >= GameBoard.GRID_WIDTH ||
-                        checkY < 0 || checkY >= GameBoard.GRID_HEIGHT) {
+                if (!board.isValidPosition(checkX, checkY)) {
                     break;                       // Hors limites, arrêter cette direction
                 }
 
                 // Vérifier le type de case
-                GameBoard.TileType tile = gameBoard.getTile(checkX, checkY);
+                GameBoard.TileType tile = board.getTile(checkX, checkY);
                 if (tile == GameBoard.TileType.BREAKABLE_WALL) {
                     return true; // Cible trouvée !
                 }
@@ -459,11 +441,8 @@ public class BotPlayer {
      * VÉRIFICATION D'ÉVASION : S'assure qu'il y a au moins une sortie
      */
     private boolean canEscapeFromPosition(int bombX, int bombY) {
-        // Vérifier toutes les directions possibles
-        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-
         // Tester chaque direction d'évasion
-        for (Direction dir : directions) {
+        for (Direction dir : DIRECTIONS) {
             // Calculer la position d'évasion
             int escapeX = bombX, escapeY = bombY;
             switch (dir) {
@@ -473,8 +452,8 @@ public class BotPlayer {
                 case RIGHT -> escapeX++;         // Évasion vers la droite
             }
 
-            // Vérifier si cette position est sûre
-            if (isSafePosition(escapeX, escapeY)) {
+            // Vérifier si cette position est sûre (ni obstruée, ni menacée par une autre bombe)
+            if (isSafePosition(escapeX, escapeY) && !isInExtendedDanger(escapeX, escapeY)) {
                 return true; // Au moins une sortie disponible
             }
         }
@@ -483,28 +462,20 @@ public class BotPlayer {
     }
 
     /**
-     * PLACEMENT ET ÉVASION : Place la bombe et s'échappe immédiatement
+     * PLACEMENT ET ÉVASION : Demande la bombe et s'échappe immédiatement
+     * La bombe est posée par {@link #applyDecision()}, avant le déplacement d'évasion
      */
     private void placeBombAndEscape() {
         // Récupérer la position actuelle
-        int gridX = (int) Math.floor(botControlledPlayer.getX());
-        int gridY = (int) Math.floor(botControlledPlayer.getY());
-        int firepower = botControlledPlayer.getFirePower();
-
-        // Créer et placer la bombe
-        Bomb bomb = new Bomb(gridX, gridY, firepower, botControlledPlayer.getPlayerId());
-        gameBoard.addBomb(bomb);                 // Ajouter au plateau
-        botControlledPlayer.incrementBombsPlaced(); // Incrémenter le compteur
+        int gridX = (int) Math.floor(self.getX());
+        int gridY = (int) Math.floor(self.getY());
 
-        // Mémoriser cette bombe pour l'éviter
-        botPlacedBombs.add(new BombPosition(gridX, gridY, System.currentTimeMillis(), firepower));
-        lastBombTime = System.currentTimeMillis(); // Mettre à jour le timestamp
-
-        System.out.println("BOT: BOMBE placée à (" + gridX + ", " + gridY + ") puissance " + firepower);
+        // Demander la bombe sur la case du bot
+        // Le délai entre deux bombes repart quand la bombe est réellement posée
+        bombRequested = true;
 
         // Évasion immédiate
-        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-        shuffleArray(directions);                // Randomiser les directions
+        Direction[] directions = shuffledDirections(); // Randomiser les directions
 
         // Chercher une direction d'évasion
         for (Direction dir : directions) {
@@ -519,62 +490,76 @@ public class BotPlayer {
 
             // Vérifier si cette position est sûre
             if (isSafePosition(escapeX, escapeY)) {
-                moveToPosition(escapeX, escapeY); // Effectuer l'évasion
-                System.out.println("BOT: Évasion réussie vers " + dir);
+                planMove(escapeX, escapeY);      // Effectuer l'évasion
+                if (verbose) {
+                    log("Évasion réussie vers " + dir);
+                }
                 return;                          // Évasion réussie
             }
         }
 
-        System.out.println("BOT: Placement de bombe sans évasion possible");
+        log("Placement de bombe sans évasion possible");
     }
 
     // ================ MOUVEMENT INTELLIGENT ================
 
     /**
-     * MOUVEMENT STRATÉGIQUE : Cherche des objectifs intéressants
-     * Priorité : Murs cassables > Exploration
+     * MOUVEMENT STRATÉGIQUE : Cherche des objectifs intéressants par le plus court chemin
+     * Priorité : Power-ups proches > Murs cassables > Adversaires > Exploration
      */
     private void moveIntelligently() {
         // Récupérer la position actuelle
-        int botX = (int) Math.floor(botControlledPlayer.getX());
-        int botY = (int) Math.floor(botControlledPlayer.getY());
-
-        // Chercher le mur cassable le plus proche
-        int closestX = -1, closestY = -1;
-        int minDistance = Integer.MAX_VALUE;
-
-        // Parcourir toute la carte
-        for (int x = 0; x < GameBoard.GRID_WIDTH; x++) {
-            for (int y = 0; y < GameBoard.GRID_HEIGHT; y++) {
-                // Si un mur cassable est trouvé
-                if (gameBoard.getTile(x, y) == GameBoard.TileType.BREAKABLE_WALL) {
-                    // Calculer la distance Manhattan
-                    int distance = Math.abs(x - botX) + Math.abs(y - botY);
-                    if (distance < minDistance) {
-                        minDistance = distance;  // Nouvelle distance minimale
-                        closestX = x;            // Sauvegarder position X
-                        closestY = y;            // Sauvegarder position Y
-                    }
-                }
+        int botX = (int) Math.floor(self.getX());
+        int botY = (int) Math.floor(self.getY());
+        DistanceField field = distanceField(botX, botY);
+        int width = board.getWidth();
+
+        // Case libre la plus proche contre un mur cassable, et power-up le plus proche
+        int wallSpot = field.findNearestNextTo(board.getBreakableWalls());
+        int powerUp = field.findNearest(board.getPowerUpLayer());
+
+        // Un power-up vaut un petit détour par rapport au mur le plus proche
+        if (powerUp != DistanceField.UNREACHABLE && (wallSpot == DistanceField.UNREACHABLE
+                || field.getDistance(powerUp % width, powerUp / width)
+                <= field.getDistance(wallSpot % width, wallSpot / width) + POWER_UP_DETOUR)) {
+            moveTowardsTarget(field, powerUp % width, powerUp / width, "power-up");
+            return;
+        }
+
+        // Si un mur cassable est accessible
+        if (wallSpot != DistanceField.UNREACHABLE) {
+            // Se diriger vers la case d'où le bombarder
+            moveTowardsTarget(field, wallSpot % width, wallSpot / width, "mur cassable");
+            return;
+        }
+
+        // Plus de mur accessible : poursuivre l'adversaire le plus proche
+        Player target = null;
+        int targetDistance = Integer.MAX_VALUE;
+        for (Player opponent : others) {
+            if (!opponent.isAlive()) continue;
+            int distance = field.getDistance((int) Math.floor(opponent.getX()), (int) Math.floor(opponent.getY()));
+            if (distance != DistanceField.UNREACHABLE && distance < targetDistance) {
+                target = opponent;
+                targetDistance = distance;
             }
         }
-
-        // Si un mur cassable a été trouvé
-        if (closestX != -1) {
-            // Se diriger vers ce mur
-            moveTowardsTarget(botX, botY, closestX, closestY, "mur cassable");
+        if (target != null) {
+            moveTowardsTarget(field, (int) Math.floor(target.getX()), (int) Math.floor(target.getY()), "adversaire");
         } else {
-            // Pas de mur cassable, explorer le centre
-            exploreMap();
+            // Rien d'accessible, explorer le centre
+            exploreMap(field);
         }
     }
 
     /**
-     * MOUVEMENT VERS CIBLE : Se dirige vers un objectif en évitant les répétitions
+     * MOUVEMENT VERS CIBLE : Fait le premier pas du plus court chemin en évitant les répétitions
      */
-    private void moveTowardsTarget(int fromX, int fromY, int targetX, int targetY, String targetType) {
-        // Calculer la meilleure direction vers la cible
-        Direction bestDir = getBestDirectionTo(fromX, fromY, targetX, targetY);
+    private void moveTowardsTarget(DistanceField field, int targetX, int targetY, String targetType) {
+        // Première direction du plus court chemin vers la cible (O(1))
+        Direction bestDir = field.getFirstStep(targetX, targetY);
+        int fromX = field.getSourceX();
+        int fromY = field.getSourceY();
 
         // Si une direction valide a été trouvée
         if (bestDir != Direction.NONE) {
@@ -587,16 +572,15 @@ public class BotPlayer {
                 case RIGHT -> newX++;            // Aller vers la droite
             }
 
-            // Créer une clé pour cette action
-            String moveAction = "MOVE_" + newX + "_" + newY;
-
             // Vérifier que le mouvement est sûr et non répétitif
             if (isSafePosition(newX, newY) &&
                     !isInExtendedDanger(newX, newY) &&
-                    !hasRecentAction(moveAction)) {
+                    !hasRecentAction(ACTION_MOVE, newY * board.getWidth() + newX)) {
 
-                moveToPosition(newX, newY);      // Effectuer le déplacement
-                System.out.println("BOT: Avance vers " + targetType + " (" + targetX + "," + targetY + ") - " + bestDir);
+                planMove(newX, newY);           // Effectuer le déplacement
+                if (verbose) {
+                    log("Avance vers " + targetType + " (" + targetX + "," + targetY + ") - " + bestDir);
+                }
                 return;                          // Mouvement réussi
             }
         }
@@ -608,17 +592,13 @@ public class BotPlayer {
     /**
      * EXPLORATION : Se dirige vers le centre de la carte
      */
-    private void exploreMap() {
-        // Récupérer la position actuelle
-        int botX = (int) Math.floor(botControlledPlayer.getX());
-        int botY = (int) Math.floor(botControlledPlayer.getY());
-
+    private void exploreMap(DistanceField field) {
         // Calculer le centre de la carte
-        int centerX = GameBoard.GRID_WIDTH / 2;
-        int centerY = GameBoard.GRID_HEIGHT / 2;
+        int centerX = board.getWidth() / 2;
+        int centerY = board.getHeight() / 2;
 
         // Se diriger vers le centre
-        moveTowardsTarget(botX, botY, centerX, centerY, "centre de la carte");
+        moveTowardsTarget(field, centerX, centerY, "centre de la carte");
     }
 
     /**
@@ -626,12 +606,11 @@ public class BotPlayer {
      */
     private void moveRandomlySmartly() {
         // Récupérer la position actuelle
-        int botX = (int) Math.floor(botControlledPlayer.getX());
-        int botY = (int) Math.floor(botControlledPlayer.getY());
+        int botX = (int) Math.floor(self.getX());
+        int botY = (int) Math.floor(self.getY());
 
         // Préparer toutes les directions
-        Direction[] directions = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
-        shuffleArray(directions);                // Randomiser l'ordre
+        Direction[] directions = shuffledDirections(); // Randomiser l'ordre
 
         // Tester chaque direction
         for (Direction dir : directions) {
@@ -644,43 +623,29 @@ public class BotPlayer {
                 case RIGHT -> newX++;            // Aller vers la droite
             }
 
-            // Créer une clé pour cette action
-            String moveAction = "MOVE_" + newX + "_" + newY;
-
             // Vérifier que le mouvement est sûr et non répétitif
             if (isSafePosition(newX, newY) &&
                     !isInExtendedDanger(newX, newY) &&
-                    !hasRecentAction(moveAction)) {
+                    !hasRecentAction(ACTION_MOVE, newY * board.getWidth() + newX)) {
 
-                moveToPosition(newX, newY);      // Effectuer le déplacement
-                System.out.println("BOT: Mouvement intelligent aléatoire - " + dir);
+                planMove(newX, newY);           // Effectuer le déplacement
+                if (verbose) {
+                    log("Mouvement intelligent aléatoire - " + dir);
+                }
                 return;                          // Mouvement réussi
             }
         }
 
-        System.out.println("BOT: Aucun mouvement intelligent possible");
+        log("Aucun mouvement intelligent possible");
     }
 
     // ================ UTILITAIRES ================
 
     /**
-     * CALCUL DE DIRECTION : Trouve la meilleure direction vers une cible
+     * PLUS COURTS CHEMINS : Champ de distances depuis la case du bot (mis en cache par le plateau)
      */
-    private Direction getBestDirectionTo(int fromX, int fromY, int toX, int toY) {
-        // Calculer les différences de coordonnées
-        int dx = toX - fromX;
-        int dy = toY - fromY;
-
-        // Prioriser la direction avec la plus grande distance
-        if (Math.abs(dx) > Math.abs(dy)) {
-            // Distance horizontale plus grande
-            return dx > 0 ? Direction.RIGHT : Direction.LEFT;
-        } else if (dy != 0) {
-            // Distance verticale plus grande ou égale
-            return dy > 0 ? Direction.DOWN : Direction.UP;
-        }
-
-        return Direction.NONE;                   // Déjà à la destination
+    private DistanceField distanceField(int botX, int botY) {
+        return board.getDistanceField(self.getPlayerId() - 1, botX, botY);
     }
 
     /**
@@ -688,28 +653,42 @@ public class BotPlayer {
      */
     private boolean isSafePosition(int x, int y) {
         // Vérifier les limites de la carte
-        if (x < 0 || x >= GameBoard.GRID_WIDTH || y < 0 || y >= GameBoard.GRID_HEIGHT) {
+        if (!board.isValidPosition(x, y)) {
             return false;                        // Position hors limites
         }
 
         // Vérifier les obstacles sur cette case
-        GameBoard.TileType tile = gameBoard.getTile(x, y);
-        if (tile == GameBoard.TileType.WALL ||
-                tile == GameBoard.TileType.BREAKABLE_WALL ||
-                tile == GameBoard.TileType.BOMB) {
+        if (!board.isWalkable(x, y) || board.hasBomb(x, y)) {
             return false;                        // Case obstruée
         }
 
-        // Éviter les positions des bombes du bot
-        for (BombPosition bomb : botPlacedBombs) {
-            if (bomb.x == x && bomb.y == y) {
-                return false;                    // Position occupée par une bombe du bot
-            }
-        }
-
         return true;                             // Position sûre et traversable
     }
 
+    /**
+     * HORLOGE : Temps courant en millisecondes (horloge fournie, sinon ticks du plateau lu)
+     */
+    private long currentTime() {
+        return clock != null ? clock.getAsLong() : board.getCurrentTick() * 1000L / GameEngine.TICKS_PER_SECOND;
+    }
+
+    /**
+     * VUE PAR DÉFAUT : Les décisions lisent la partie réelle
+     */
+    private void useLiveWorld() {
+        model = gameModel;
+        board = gameBoard;
+        self = botControlledPlayer;
+        System.arraycopy(opponents, 0, others, 0, opponents.length);
+    }
+
+    /**
+     * DÉCISION : Retient la case voisine où aller (appliqué par {@link #applyDecision()})
+     */
+    private void planMove(int gridX, int gridY) {
+        moveCell = gridY * board.getWidth() + gridX;
+    }
+
     /**
      * DÉPLACEMENT PHYSIQUE : Change la position du joueur contrôlé
      */
@@ -724,47 +703,39 @@ public class BotPlayer {
     // ================ GESTION DE LA MÉMOIRE ================
 
     /**
-     * PRÉVENTION DES BOUCLES : Mémorise une action récente
+     * PRÉVENTION DES BOUCLES : Mémorise une action récente (la plus ancienne est oubliée)
      */
-    private void addRecentAction(String action) {
-        recentActions.add(action);               // Ajouter l'action à la liste
-        // Maintenir la taille de la liste sous la limite
-        if (recentActions.size() > MAX_RECENT_ACTIONS) {
-            recentActions.remove(0);             // Supprimer la plus ancienne
+    private void addRecentAction(int kind, int cell) {
+        int action = cell << ACTION_BITS | kind;
+        if (recentCount < MAX_RECENT_ACTIONS) {
+            recentActions[(recentStart + recentCount) % MAX_RECENT_ACTIONS] = action;
+            recentCount++;
+        } else {
+            recentActions[recentStart] = action; // Remplacer la plus ancienne
+            recentStart = (recentStart + 1) % MAX_RECENT_ACTIONS;
         }
     }
 
     /**
-     * VÉRIFICATION D'HISTORIQUE : Vérifie si une action a été faite récemment
-     */
-    private boolean hasRecentAction(String action) {
-        // Chercher cette action dans la liste des actions récentes
-        return recentActions.contains(action);
-    }
-
-    /**
-     * NETTOYAGE MÉMOIRE : Supprime les actions trop anciennes
+     * VÉRIFICATION D'HISTORIQUE : Vérifie si une action a été faite récemment sur cette case
      */
-    private void cleanRecentActions() {
-        // Maintenir la taille de la liste sous la limite
-        while (recentActions.size() > MAX_RECENT_ACTIONS) {
-            recentActions.remove(0);             // Supprimer la plus ancienne
+    private boolean hasRecentAction(int kind, int cell) {
+        int action = cell << ACTION_BITS | kind;
+        for (int i = 0; i < recentCount; i++) {
+            if (recentActions[(recentStart + i) % MAX_RECENT_ACTIONS] == action) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
-     * NETTOYAGE BOMBES : Supprime les bombes expirées de la mémoire
-     */
-    private void cleanExpiredBombs() {
-        long currentTime = System.currentTimeMillis();
-        // Supprimer toutes les bombes expirées de la liste
-        botPlacedBombs.removeIf(bomb -> bomb.isExpired(currentTime));
-    }
-
-    /**
-     * RANDOMISATION : Mélange un tableau (algorithme de Fisher-Yates)
+     * RANDOMISATION : Les 4 directions dans un ordre aléatoire (algorithme de Fisher-Yates)
+     * Le tableau est réutilisé d'une décision à l'autre : il n'est valable que jusqu'au mélange suivant.
      */
-    private void shuffleArray(Direction[] array) {
+    private Direction[] shuffledDirections() {
+        Direction[] array = shuffledDirections;
+        System.arraycopy(DIRECTIONS, 0, array, 0, array.length);
         // Parcourir le tableau de la fin vers le début
         for (int i = array.length - 1; i > 0; i--) {
             // Choisir un index aléatoire entre 0 et i
@@ -774,6 +745,22 @@ public class BotPlayer {
             array[index] = array[i];             // Placer l'élément i à la position index
             array[i] = temp;                     // Placer l'élément index à la position i
         }
+        return array;
     }
 
-}
\ No newline at end of file
+    /**
+     * TRACE : Message de debug d'une décision (seulement si les traces sont activées)
+     */
+    private void log(String message) {
+        if (verbose) {
+            System.out.println("BOT: " + message);
+        }
+    }
+
+    /**
+     * @return Joueur contrôlé par le bot
+     */
+    public Player getPlayer() {
+        return botControlledPlayer;
+    }
+}
@@ -0,0 +1,160 @@
+package fr.amu.iut.bomberman.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ordonnanceur commun des bots d'une partie
+ * <p>
+ * Le {@link GameEngine} l'appelle au début de chaque tick de jeu ({@link #tick()}) : les décisions
+ * des bots sont donc prises entre deux ticks, sur le thread de la simulation, sans aucun thread
+ * dédié. Chaque bot décide une fois toutes les {@code cadence} ticks ; les bots sont répartis sur
+ * les ticks de la période (décalage selon l'ordre d'inscription), ce qui lisse le coût quand une
+ * partie compte des centaines de bots.
+ * <p>
+ * Comme le moteur ne fait pas avancer le jeu hors de l'état PLAYING, les bots sont naturellement
+ * suspendus pendant les pauses et entre les rounds.
+ * <p>
+ * Avec un {@link BotPlanner}, les bots ne décident plus sur le thread de la simulation : leur
+ * décision est planifiée en tâche de fond et appliquée à une frontière de tick suivante.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class BotScheduler {
+
+    private final List<BotPlayer> bots = new ArrayList<>();
+
+    // Bots par tick de la période (indices dans bots), reconstruits quand la cadence change
+    private int[][] buckets;
+    private int[] bucketSizes;
+    private int cadence;
+
+    private long tickCount;
+    private long decisions;
+
+    // Planification en tâche de fond (null : les bots décident sur le thread de la simulation)
+    private BotPlanner planner;
+
+    /**
+     * Constructeur avec la cadence par défaut des bots ({@link BotPlayer#DECISION_TICKS})
+     */
+    public BotScheduler() {
+        this(BotPlayer.DECISION_TICKS);
+    }
+
+    /**
+     * Constructeur
+     *
+     * @param cadence Nombre de ticks entre deux décisions d'un même bot
+     */
+    public BotScheduler(int cadence) {
+        setCadence(cadence);
+    }
+
+    /**
+     * Inscrit un bot ; il prendra sa première décision au plus tard dans {@code cadence} ticks
+     */
+    public void register(BotPlayer bot) {
+        bots.add(bot);
+        addToBucket(bots.size() - 1);
+    }
+
+    /**
+     * Désinscrit tous les bots
+     */
+    public void clear() {
+        bots.clear();
+        Arrays.fill(bucketSizes, 0);
+        if (planner != null) {
+            planner.cancel();
+        }
+    }
+
+    /**
+     * Fait décider les bots dont c'est le tour (appelé par le moteur au début de chaque tick)
+     * Avec un planificateur, les décisions terminées depuis le tick précédent sont d'abord appliquées,
+     * puis celles des bots dont c'est le tour sont lancées (sauf si la précédente est encore en cours).
+     */
+    public void tick() {
+        if (planner != null) {
+            planner.applyCompleted(tickCount);
+        }
+
+        int bucket = (int) (tickCount % cadence);
+        int[] due = buckets[bucket];
+        for (int i = 0; i < bucketSizes[bucket]; i++) {
+            BotPlayer bot = bots.get(due[i]);
+            if (!bot.getPlayer().isAlive()) {
+                continue;
+            }
+            if (planner == null) {
+                bot.step();
+                decisions++;
+            } else if (!planner.isPlanning(due[i])) {
+                planner.submit(due[i], bot, tickCount);
+                decisions++;
+            }
+        }
+        tickCount++;
+    }
+
+    /**
+     * Fait planifier les décisions des bots sur des threads de travail
+     *
+     * @param planner Planificateur créé sur la partie de ces bots (null pour décider sur le thread de la simulation)
+     */
+    public void setPlanner(BotPlanner planner) {
+        if (this.planner != null) {
+            this.planner.cancel();
+        }
+        this.planner = planner;
+    }
+
+    public BotPlanner getPlanner() {
+        return planner;
+    }
+
+    /**
+     * Change la cadence des décisions (les bots sont répartis de nouveau sur la période)
+     *
+     * @param cadence Nombre de ticks entre deux décisions d'un même bot (au moins 1)
+     */
+    public void setCadence(int cadence) {
+        if (cadence < 1) {
+            throw new IllegalArgumentException("Cadence des bots invalide : " + cadence);
+        }
+        this.cadence = cadence;
+        this.buckets = new int[cadence][4];
+        this.bucketSizes = new int[cadence];
+        for (int i = 0; i < bots.size(); i++) {
+            addToBucket(i);
+        }
+    }
+
+    private void addToBucket(int index) {
+        int bucket = index % cadence;
+        if (bucketSizes[bucket] == buckets[bucket].length) {
+            buckets[bucket] = Arrays.copyOf(buckets[bucket], bucketSizes[bucket] * 2);
+        }
+        buckets[bucket][bucketSizes[bucket]++] = index;
+    }
+
+    // Getters
+
+    public int getCadence() {
+        return cadence;
+    }
+
+    public int getBotCount() {
+        return bots.size();
+    }
+
+    /**
+     * @return Nombre total de décisions prises depuis la création
+     */
+    public long getDecisionCount() {
+        return decisions;
+    }
+}
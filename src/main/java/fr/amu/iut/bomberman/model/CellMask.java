@@ -0,0 +1,111 @@
+package fr.amu.iut.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Masque de bits sur les cases du plateau (une couche : murs, bombes, feu...)
+ * Une case d'indice {@code y * largeur + x} correspond à un bit d'un tableau de {@code long}.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class CellMask {
+
+    private final long[] words;
+    private final int size;
+
+    /**
+     * Constructeur
+     *
+     * @param size Nombre de cases couvertes par le masque
+     */
+    public CellMask(int size) {
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+
+    /**
+     * Active le bit d'une case
+     */
+    public void set(int index) {
+        words[index >>> 6] |= 1L << index;
+    }
+
+    /**
+     * Désactive le bit d'une case
+     */
+    public void clear(int index) {
+        words[index >>> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Active ou désactive le bit d'une case
+     */
+    public void set(int index, boolean value) {
+        if (value) {
+            set(index);
+        } else {
+            clear(index);
+        }
+    }
+
+    /**
+     * Vérifie si le bit d'une case est actif
+     */
+    public boolean get(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Vérifie si la case est active dans ce masque ou dans un autre (même taille)
+     */
+    public boolean getEither(CellMask other, int index) {
+        return ((words[index >>> 6] | other.words[index >>> 6]) & (1L << index)) != 0;
+    }
+
+    /**
+     * Désactive toutes les cases
+     */
+    public void clearAll() {
+        Arrays.fill(words, 0L);
+    }
+
+    /**
+     * Copie le contenu d'un autre masque de même taille
+     */
+    public void copyFrom(CellMask other) {
+        System.arraycopy(other.words, 0, words, 0, words.length);
+    }
+
+    /**
+     * Retourne l'indice de la prochaine case active à partir de {@code fromIndex}, ou -1
+     */
+    public int nextSetBit(int fromIndex) {
+        if (fromIndex >= size) return -1;
+        int wordIndex = fromIndex >>> 6;
+        long word = words[wordIndex] & (-1L << fromIndex);
+        while (true) {
+            if (word != 0) {
+                int index = (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+                return index < size ? index : -1;
+            }
+            if (++wordIndex == words.length) return -1;
+            word = words[wordIndex];
+        }
+    }
+
+    /**
+     * Compte les cases actives
+     */
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+}
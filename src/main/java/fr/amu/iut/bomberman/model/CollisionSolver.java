@@ -0,0 +1,176 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+/**
+ * Déplacement des joueurs sur la grille avec collisions balayées
+ * <p>
+ * Le mouvement est traité un axe à la fois : le bord avant de la hitbox parcourt les colonnes
+ * (ou lignes) franchies une par une, et s'arrête contre la première case bloquante (mur, mur
+ * destructible, bombe non traversable). Aucune case n'est donc sautée, quelle que soit la vitesse
+ * ou la durée du pas, et le coût est proportionnel au nombre de cases franchies.
+ * <p>
+ * Seules les cases nouvellement recouvertes sont testées : un joueur qui chevauche déjà une case
+ * bloquante (bombe posée sous lui) n'est jamais coincé. Quand le joueur bute contre un coin alors
+ * que son centre est en face d'un passage, il glisse vers l'axe de ce passage.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+final class CollisionSolver {
+
+    // Demi-côté de la hitbox d'un joueur (en cases)
+    static final double PLAYER_RADIUS = 0.3;
+
+    // Tolérance sur les bords (une hitbox collée à un mur ne le chevauche pas)
+    private static final double EPSILON = 1e-9;
+
+    private final GameBoard gameBoard;
+
+    CollisionSolver(GameBoard gameBoard) {
+        this.gameBoard = gameBoard;
+    }
+
+    /**
+     * Déplace un joueur dans une direction, en glissant sur les coins si besoin
+     *
+     * @param player    Joueur à déplacer
+     * @param direction Direction du mouvement ({@link Direction#NONE} ou null : aucun mouvement)
+     * @param distance  Distance demandée (en cases)
+     * @return true si la position du joueur a changé
+     */
+    boolean move(Player player, Direction direction, double distance) {
+        if (direction == null || direction == Direction.NONE) {
+            return false;
+        }
+        boolean horizontal = direction == Direction.LEFT || direction == Direction.RIGHT;
+        double signedDistance = (direction == Direction.LEFT || direction == Direction.UP) ? -distance : distance;
+
+        double travelled = sweep(player, horizontal, signedDistance);
+        double remaining = distance - Math.abs(travelled);
+        if (remaining <= EPSILON) {
+            return travelled != 0;
+        }
+
+        // Bloqué : glisser vers le passage si le centre du joueur est en face
+        double slide = cornerSlide(player, horizontal, signedDistance > 0, remaining);
+        return travelled != 0 || slide != 0;
+    }
+
+    /**
+     * Avance le joueur sur un axe jusqu'à la première case bloquante
+     *
+     * @return Distance parcourue (signée)
+     */
+    private double sweep(Player player, boolean horizontal, double signedDistance) {
+        double position = horizontal ? player.getX() : player.getY();
+        double lateral = horizontal ? player.getY() : player.getX();
+        int lateralFirst = firstCell(lateral - PLAYER_RADIUS);
+        int lateralLast = lastCell(lateral + PLAYER_RADIUS);
+
+        double target = position + signedDistance;
+        if (signedDistance > 0) {
+            // Cases entrées par le bord avant (droite ou bas)
+            int from = lastCell(position + PLAYER_RADIUS) + 1;
+            int to = lastCell(target + PLAYER_RADIUS);
+            for (int cell = from; cell <= to; cell++) {
+                if (isLineBlocked(player, horizontal, cell, lateralFirst, lateralLast)) {
+                    target = Math.max(position, cell - PLAYER_RADIUS);
+                    break;
+                }
+            }
+        } else if (signedDistance < 0) {
+            // Cases entrées par le bord avant (gauche ou haut)
+            int from = firstCell(position - PLAYER_RADIUS) - 1;
+            int to = firstCell(target - PLAYER_RADIUS);
+            for (int cell = from; cell >= to; cell--) {
+                if (isLineBlocked(player, horizontal, cell, lateralFirst, lateralLast)) {
+                    target = Math.min(position, cell + 1 + PLAYER_RADIUS);
+                    break;
+                }
+            }
+        }
+
+        if (horizontal) {
+            player.setPosition(target, player.getY());
+        } else {
+            player.setPosition(player.getX(), target);
+        }
+        return target - position;
+    }
+
+    /**
+     * Décale le joueur sur l'axe perpendiculaire vers l'axe du passage qui lui fait face
+     *
+     * @return Distance de glissement (signée)
+     */
+    private double cornerSlide(Player player, boolean horizontal, boolean forward, double remaining) {
+        double position = horizontal ? player.getX() : player.getY();
+        double lateral = horizontal ? player.getY() : player.getX();
+        int lateralFirst = firstCell(lateral - PLAYER_RADIUS);
+        int lateralLast = lastCell(lateral + PLAYER_RADIUS);
+        if (lateralFirst == lateralLast) {
+            return 0; // Aligné sur une seule case : bloqué de face
+        }
+
+        // Case bloquante qui a arrêté le joueur
+        int blockedCell = forward ? lastCell(position + PLAYER_RADIUS) + 1 : firstCell(position - PLAYER_RADIUS) - 1;
+        int centerCell = (int) Math.floor(lateral);
+        int otherCell = centerCell == lateralFirst ? lateralLast : lateralFirst;
+        if (isLineBlocked(player, horizontal, blockedCell, centerCell, centerCell)
+                || !isLineBlocked(player, horizontal, blockedCell, otherCell, otherCell)) {
+            return 0;
+        }
+
+        double offset = (centerCell + 0.5) - lateral;
+        double slide = Math.copySign(Math.min(remaining, Math.abs(offset)), offset);
+        return sweep(player, !horizontal, slide);
+    }
+
+    /**
+     * @return true si une des cases de la ligne (ou colonne) {@code cell} entre les bornes latérales bloque le joueur
+     */
+    private boolean isLineBlocked(Player player, boolean horizontal, int cell, int lateralFirst, int lateralLast) {
+        for (int lateral = lateralFirst; lateral <= lateralLast; lateral++) {
+            boolean free = horizontal ? isFree(player, cell, lateral) : isFree(player, lateral, cell);
+            if (!free) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Vérifie qu'une case peut être occupée par le joueur (index par case du plateau)
+     */
+    boolean isFree(Player player, int tileX, int tileY) {
+        if (!gameBoard.isValidPosition(tileX, tileY) || !gameBoard.isWalkable(tileX, tileY)) {
+            return false;
+        }
+        Bomb bomb = gameBoard.getBombAt(tileX, tileY);
+        // Le joueur peut traverser sa propre bombe tant qu'il ne l'a pas quittée
+        return bomb == null || bomb.canBeTraversedBy(player.getPlayerId());
+    }
+
+    /**
+     * @return true si la hitbox centrée en (x, y) chevauche la case
+     */
+    static boolean overlaps(double x, double y, int tileX, int tileY) {
+        return firstCell(x - PLAYER_RADIUS) <= tileX && tileX <= lastCell(x + PLAYER_RADIUS)
+                && firstCell(y - PLAYER_RADIUS) <= tileY && tileY <= lastCell(y + PLAYER_RADIUS);
+    }
+
+    /**
+     * @return Première case recouverte à partir du bord {@code edge}
+     */
+    static int firstCell(double edge) {
+        return (int) Math.floor(edge + EPSILON);
+    }
+
+    /**
+     * @return Dernière case recouverte jusqu'au bord {@code edge}
+     */
+    static int lastCell(double edge) {
+        return (int) Math.ceil(edge - EPSILON) - 1;
+    }
+}
@@ -0,0 +1,259 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Champ de distances en largeur (BFS) depuis une case du plateau
+ * <p>
+ * Pour chaque case atteignable : distance en cases, case précédente sur un plus court chemin et
+ * première direction à prendre depuis la source. Les murs et les bombes bloquent le passage (la
+ * case source est toujours traversable, le joueur pouvant se tenir sur sa propre bombe).
+ * <p>
+ * Les champs sont calculés et mis en cache par le {@link GameBoard}
+ * ({@link GameBoard#getDistanceField(int, int, int)}) : ils ne sont recalculés que lorsque la
+ * source change ou que la carte des cases traversables est modifiée.
+ * <p>
+ * Le parcours n'avance qu'à la demande : une requête sur une cible proche (mur cassable voisin,
+ * case sûre) ne développe que les cases plus proches qu'elle. Un champ n'est donc valable que tant
+ * que la carte traversable ne change pas ; il faut le redemander au plateau après une modification.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class DistanceField {
+
+    public static final int UNREACHABLE = -1;
+
+    // Directions dans l'ordre HAUT, BAS, GAUCHE, DROITE (ordre des voisins de chaque case)
+    private static final Direction[] STEPS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+    private static final byte NO_STEP = -1;
+
+    private final int width;
+    private final int height;
+
+    // Voisins de chaque case, 4 par case dans l'ordre de STEPS (-1 hors du plateau) : ni division
+    // ni test de bord dans les parcours
+    private final int[] neighbors;
+
+    // Indexés par case (y * largeur + x) ; une distance n'a de sens que si la case est marquée
+    // du numéro du calcul courant (pas de remise à zéro des tableaux à chaque calcul)
+    private final int[] mark;
+    private int generation;
+    private final int[] distance;
+    private final int[] predecessor;
+    private final byte[] firstStep;
+
+    // Cases atteintes, par distance croissante (file du parcours) ; les cases d'indice head
+    // et plus n'ont pas encore été développées
+    private final int[] order;
+    private int reachedCount;
+    private int head;
+
+    // Obstacles du plateau parcouru
+    private CellMask solidWalls;
+    private CellMask breakableWalls;
+    private CellMask bombLayer;
+
+    private int source = -1;
+    private int walkableVersion = -1;
+
+    DistanceField(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.neighbors = new int[width * height * STEPS.length];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int base = (y * width + x) * STEPS.length;
+                neighbors[base] = y > 0 ? (y - 1) * width + x : -1;
+                neighbors[base + 1] = y < height - 1 ? (y + 1) * width + x : -1;
+                neighbors[base + 2] = x > 0 ? y * width + x - 1 : -1;
+                neighbors[base + 3] = x < width - 1 ? y * width + x + 1 : -1;
+            }
+        }
+        this.mark = new int[width * height];
+        this.distance = new int[width * height];
+        this.predecessor = new int[width * height];
+        this.firstStep = new byte[width * height];
+        this.order = new int[width * height];
+    }
+
+    /**
+     * @return true si le champ correspond à cette source et à cette version de la carte
+     */
+    boolean isValid(int sourceCell, int version) {
+        return source == sourceCell && walkableVersion == version;
+    }
+
+    /**
+     * Repart d'une case : seule la source est atteinte, le parcours avance ensuite à la demande
+     *
+     * @param board      Plateau parcouru
+     * @param sourceCell Case de départ (indice plat)
+     * @param version    Version de la carte traversable utilisée
+     */
+    void compute(GameBoard board, int sourceCell, int version) {
+        source = sourceCell;
+        walkableVersion = version;
+        if (++generation == 0) {
+            Arrays.fill(mark, 0);                    // Numéros épuisés : repartir de 1
+            generation = 1;
+        }
+        solidWalls = board.getSolidWalls();
+        breakableWalls = board.getBreakableWalls();
+        bombLayer = board.getBombLayer();
+
+        mark[sourceCell] = generation;
+        distance[sourceCell] = 0;
+        predecessor[sourceCell] = sourceCell;
+        firstStep[sourceCell] = NO_STEP;
+        order[0] = sourceCell;
+        reachedCount = 1;
+        head = 0;
+    }
+
+    /**
+     * Avance le parcours jusqu'à avoir atteint au moins {@code count} cases (ou toutes)
+     *
+     * @return true si au moins {@code count} cases sont atteignables
+     */
+    private boolean reach(int count) {
+        int current = generation;
+        while (reachedCount < count && head < reachedCount) {
+            int cell = order[head++];
+            int base = cell * STEPS.length;
+            for (int step = 0; step < STEPS.length; step++) {
+                int next = neighbors[base + step];
+                if (next < 0 || mark[next] == current
+                        || solidWalls.getEither(breakableWalls, next) || bombLayer.get(next)) {
+                    continue;
+                }
+                mark[next] = current;
+                distance[next] = distance[cell] + 1;
+                predecessor[next] = cell;
+                // La première direction est héritée de la case précédente, sauf autour de la source
+                firstStep[next] = cell == source ? (byte) step : firstStep[cell];
+                order[reachedCount++] = next;
+            }
+        }
+        return reachedCount >= count;
+    }
+
+    /**
+     * @return Distance en cases depuis la source, ou {@link #UNREACHABLE}
+     */
+    public int getDistance(int x, int y) {
+        return isReached(x, y) ? distance[y * width + x] : UNREACHABLE;
+    }
+
+    /**
+     * @return Case précédente (indice plat) sur un plus court chemin, ou {@link #UNREACHABLE}
+     */
+    public int getPredecessor(int x, int y) {
+        return isReached(x, y) ? predecessor[y * width + x] : UNREACHABLE;
+    }
+
+    /**
+     * @return Première direction à prendre depuis la source pour atteindre la case au plus court,
+     * NONE si elle est inaccessible ou si c'est la source
+     */
+    public Direction getFirstStep(int x, int y) {
+        if (!isReached(x, y)) {
+            return Direction.NONE;
+        }
+        byte step = firstStep[y * width + x];
+        return step == NO_STEP ? Direction.NONE : STEPS[step];
+    }
+
+    /**
+     * Case atteignable la plus proche contenue dans un masque (power-ups, adversaires...)
+     *
+     * @return Indice plat de la case, ou {@link #UNREACHABLE}
+     */
+    public int findNearest(CellMask targets) {
+        if (targets.nextSetBit(0) < 0) {
+            return UNREACHABLE;                      // Aucune cible : inutile de tout parcourir
+        }
+        for (int i = 0; reach(i + 1); i++) {
+            if (targets.get(order[i])) {
+                return order[i];
+            }
+        }
+        return UNREACHABLE;
+    }
+
+    /**
+     * Case atteignable la plus proche voisine d'une case du masque (par exemple pour poser une bombe
+     * contre un mur cassable, lui-même infranchissable)
+     *
+     * @return Indice plat de la case, ou {@link #UNREACHABLE}
+     */
+    public int findNearestNextTo(CellMask targets) {
+        if (targets.nextSetBit(0) < 0) {
+            return UNREACHABLE;
+        }
+        for (int i = 0; reach(i + 1); i++) {
+            int cell = order[i];
+            int base = cell * STEPS.length;
+            for (int step = 0; step < STEPS.length; step++) {
+                int next = neighbors[base + step];
+                if (next >= 0 && targets.get(next)) {
+                    return cell;
+                }
+            }
+        }
+        return UNREACHABLE;
+    }
+
+    /**
+     * @return true si la case est sur le plateau et atteignable (parcours avancé au besoin)
+     */
+    private boolean isReached(int x, int y) {
+        if (x < 0 || y < 0 || x >= width || y >= height) {
+            return false;
+        }
+        int cell = y * width + x;
+        while (mark[cell] != generation) {
+            if (!reach(reachedCount + 1)) {
+                return false;                        // Parcours terminé sans atteindre la case
+            }
+        }
+        return true;
+    }
+
+    // Getters
+
+    public int getSourceX() {
+        return source % width;
+    }
+
+    public int getSourceY() {
+        return source / width;
+    }
+
+    /**
+     * @return Nombre de cases atteignables depuis la source (source comprise ; parcours complet)
+     */
+    public int getReachableCount() {
+        reach(order.length);
+        return reachedCount;
+    }
+
+    /**
+     * @return true s'il existe une i-ème case atteignable (parcours avancé juste assez)
+     */
+    public boolean hasReachedCell(int i) {
+        return reach(i + 1);
+    }
+
+    /**
+     * @return i-ème case atteinte, par distance croissante (indice plat)
+     */
+    public int getReachedCell(int i) {
+        if (!reach(i + 1)) {
+            throw new IndexOutOfBoundsException("Case atteignable " + i + " sur " + reachedCount);
+        }
+        return order[i];
+    }
+}
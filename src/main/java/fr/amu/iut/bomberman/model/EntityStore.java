@@ -0,0 +1,314 @@
+package fr.amu.iut.bomberman.model;
+
+import java.util.Arrays;
+
+/**
+ * Stockage en colonnes (« struct of arrays ») des entités d'un plateau : bombes ou flammes
+ * <p>
+ * Chaque entité occupe un emplacement ({@code slot}) dans des tableaux primitifs parallèles :
+ * position, échéance, propriétaire, portée, type, masque de traversée et ordre de création.
+ * Les emplacements libérés sont chaînés dans une liste libre et réutilisés en priorité ;
+ * les tableaux ne grandissent (par doublement) que si toutes les places sont prises.
+ * <p>
+ * Les emplacements actifs sont aussi rangés dans un tableau dense (parcours contigu, retrait
+ * en O(1) par échange avec le dernier) et, si une échéance est programmée, dans une roue de
+ * temporisation ({@link #WHEEL_SIZE} cases, une par tick modulo la taille).
+ * <p>
+ * Un objet {@code H} (par exemple {@link Bomb}) est créé une seule fois par emplacement et sert
+ * de vue sur ses colonnes : il désigne une autre entité quand l'emplacement est réutilisé.
+ * Le stockage est donc aussi le réservoir de ces objets ({@link PoolMetrics}).
+ *
+ * @param <H> Type des vues sur les emplacements
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+final class EntityStore<H> implements PoolMetrics {
+
+    // Taille supérieure à la mèche d'une bombe : chaque case ne contient que des échéances dues
+    static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int NONE = -1;
+    private static final int MAX_PREFILL = 1 << 16;
+
+    /**
+     * Crée la vue d'un emplacement (appelé une seule fois par emplacement)
+     */
+    @FunctionalInterface
+    interface HandleFactory<H> {
+        H create(EntityStore<H> store, int slot);
+    }
+
+    private final HandleFactory<H> handleFactory;
+
+    // Colonnes (indexées par emplacement)
+    short[] x;
+    short[] y;
+    int[] timer;     // Tick d'échéance (explosion, extinction)
+    byte[] owner;    // Identifiant du joueur propriétaire
+    byte[] fire;     // Portée
+    byte[] type;     // Ordinal d'un type (Explosion.Type...)
+    int[] mask;      // Joueurs autorisés à traverser (bit identifiant - 1)
+    int[] sequence;  // Ordre de création, départage les échéances simultanées
+    private Object[] handles;
+
+    // Chaînage dans la roue (le suivant sert aussi de chaînage de la liste libre)
+    private int[] wheelNext;
+    private int[] wheelPrev;
+    private final int[] wheelHeads;
+
+    // Emplacements actifs, contigus
+    private int[] dense;
+    private int[] denseIndex; // NONE si l'emplacement est libre
+    private int size;
+
+    private int freeHead = NONE;
+    private int highWater; // Emplacements déjà utilisés au moins une fois
+
+    // Statistiques du réservoir
+    private long acquisitions;
+    private long hits;
+
+    /**
+     * Constructeur
+     *
+     * @param handleFactory Création des vues par emplacement
+     */
+    EntityStore(HandleFactory<H> handleFactory) {
+        this(handleFactory, INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructeur avec une capacité initiale
+     *
+     * @param handleFactory   Création des vues par emplacement
+     * @param initialCapacity Nombre d'emplacements alloués d'emblée
+     */
+    EntityStore(HandleFactory<H> handleFactory, int initialCapacity) {
+        this.handleFactory = handleFactory;
+        this.wheelHeads = new int[WHEEL_SIZE];
+        Arrays.fill(wheelHeads, NONE);
+        allocateColumns(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * Crée d'avance les vues de {@code count} emplacements et les range dans la liste libre,
+     * pour que les premières acquisitions n'allouent rien
+     */
+    void prefill(int count) {
+        int target = Math.min(count, MAX_PREFILL);
+        if (target > x.length) {
+            allocateColumns(Integer.highestOneBit(target - 1) << 1);
+        }
+        while (highWater < target) {
+            int slot = highWater++;
+            handles[slot] = handleFactory.create(this, slot);
+            denseIndex[slot] = NONE;
+            wheelNext[slot] = freeHead;
+            wheelPrev[slot] = NONE;
+            freeHead = slot;
+        }
+    }
+
+    /**
+     * Occupe un emplacement (libre en priorité, sinon nouveau) et l'ajoute aux entités actives
+     * Les autres colonnes gardent les valeurs de l'occupant précédent : à renseigner par l'appelant.
+     *
+     * @return Emplacement attribué
+     */
+    int allocate(int entityX, int entityY) {
+        int slot;
+        acquisitions++;
+        if (freeHead != NONE) {
+            slot = freeHead;
+            freeHead = wheelNext[slot];
+            hits++;
+        } else {
+            if (highWater == x.length) {
+                allocateColumns(x.length * 2);
+            }
+            slot = highWater++;
+            handles[slot] = handleFactory.create(this, slot);
+        }
+
+        x[slot] = (short) entityX;
+        y[slot] = (short) entityY;
+        wheelNext[slot] = NONE;
+        wheelPrev[slot] = NONE;
+        denseIndex[slot] = size;
+        dense[size++] = slot;
+        return slot;
+    }
+
+    /**
+     * Libère un emplacement : retrait de la roue et des actifs, ajout à la liste libre
+     * Les colonnes restent lisibles jusqu'à la prochaine réutilisation de l'emplacement.
+     */
+    void release(int slot) {
+        unschedule(slot);
+
+        int index = denseIndex[slot];
+        int last = dense[--size];
+        dense[index] = last;
+        denseIndex[last] = index;
+        denseIndex[slot] = NONE;
+
+        wheelNext[slot] = freeHead;
+        freeHead = slot;
+    }
+
+    /**
+     * Libère tous les emplacements (les tableaux sont conservés)
+     */
+    void clear() {
+        while (size > 0) {
+            release(dense[size - 1]);
+        }
+        Arrays.fill(wheelHeads, NONE);
+    }
+
+    /**
+     * Programme l'échéance d'un emplacement actif
+     */
+    void schedule(int slot, int tick) {
+        unschedule(slot);
+        timer[slot] = tick;
+        int bucket = tick & WHEEL_MASK;
+        int head = wheelHeads[bucket];
+        wheelPrev[slot] = NONE;
+        wheelNext[slot] = head;
+        if (head != NONE) {
+            wheelPrev[head] = slot;
+        }
+        wheelHeads[bucket] = slot;
+    }
+
+    /**
+     * Retire un emplacement de la roue (sans effet s'il n'y est pas)
+     */
+    void unschedule(int slot) {
+        int prev = wheelPrev[slot];
+        int next = wheelNext[slot];
+        if (prev != NONE) {
+            wheelNext[prev] = next;
+        } else {
+            int bucket = timer[slot] & WHEEL_MASK;
+            if (wheelHeads[bucket] != slot) {
+                return; // Pas programmé
+            }
+            wheelHeads[bucket] = next;
+        }
+        if (next != NONE) {
+            wheelPrev[next] = prev;
+        }
+        wheelPrev[slot] = NONE;
+        wheelNext[slot] = NONE;
+    }
+
+    /**
+     * @return Premier emplacement rangé dans la case de la roue de ce tick, ou -1
+     */
+    int firstScheduled(int tick) {
+        return wheelHeads[tick & WHEEL_MASK];
+    }
+
+    /**
+     * @return Emplacement suivant dans la même case de la roue, ou -1
+     */
+    int nextScheduled(int slot) {
+        return wheelNext[slot];
+    }
+
+    /**
+     * @return Nombre d'entités actives
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Emplacement de la i-ème entité active
+     */
+    int slotAt(int index) {
+        return dense[index];
+    }
+
+    /**
+     * @return Position de l'emplacement parmi les entités actives, ou -1 s'il est libre
+     */
+    int indexOf(int slot) {
+        return denseIndex[slot];
+    }
+
+    boolean isActive(int slot) {
+        return slot >= 0 && slot < highWater && denseIndex[slot] != NONE;
+    }
+
+    @SuppressWarnings("unchecked")
+    H handle(int slot) {
+        return (H) handles[slot];
+    }
+
+    /**
+     * @return Nombre d'emplacements disponibles sans agrandir les tableaux
+     */
+    int capacity() {
+        return x.length;
+    }
+
+    @Override
+    public int getPoolSize() {
+        return highWater;
+    }
+
+    @Override
+    public int getInUse() {
+        return size;
+    }
+
+    @Override
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    @Override
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Agrandit toutes les colonnes (seule allocation du stockage)
+     */
+    private void allocateColumns(int capacity) {
+        if (x == null) {
+            x = new short[capacity];
+            y = new short[capacity];
+            timer = new int[capacity];
+            owner = new byte[capacity];
+            fire = new byte[capacity];
+            type = new byte[capacity];
+            mask = new int[capacity];
+            sequence = new int[capacity];
+            handles = new Object[capacity];
+            wheelNext = new int[capacity];
+            wheelPrev = new int[capacity];
+            dense = new int[capacity];
+            denseIndex = new int[capacity];
+            return;
+        }
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        timer = Arrays.copyOf(timer, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        fire = Arrays.copyOf(fire, capacity);
+        type = Arrays.copyOf(type, capacity);
+        mask = Arrays.copyOf(mask, capacity);
+        sequence = Arrays.copyOf(sequence, capacity);
+        handles = Arrays.copyOf(handles, capacity);
+        wheelNext = Arrays.copyOf(wheelNext, capacity);
+        wheelPrev = Arrays.copyOf(wheelPrev, capacity);
+        dense = Arrays.copyOf(dense, capacity);
+        denseIndex = Arrays.copyOf(denseIndex, capacity);
+    }
+}
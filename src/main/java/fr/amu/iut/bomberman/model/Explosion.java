@@ -2,6 +2,8 @@ package fr.amu.iut.bomberman.model;
 
 /**
  * Représente une explosion dans le jeu
+ * Vue sur un emplacement du stockage en colonnes du plateau ({@link EntityStore}),
+ * valable tant que la flamme brûle.
  *
  * @author Groupe_3_6
  * @version 1.0
@@ -18,58 +20,62 @@ public class Explosion {
         END_RIGHT       // Fin vers la droite
     }
 
-    private final int x;
-    private final int y;
-    private final Type type;
-    private double timeRemaining;
+    private static final Type[] TYPES = Type.values();
 
     public static final double DURATION = 0.5; // 0.5 secondes
+    public static final int DURATION_TICKS = (int) (DURATION * GameEngine.TICKS_PER_SECOND);
+
+    private final EntityStore<Explosion> store;
+    final int slot;
 
     /**
-     * Constructeur
+     * Constructeur (une vue par emplacement, créée par le stockage)
      */
-    public Explosion(int x, int y, Type type) {
-        this.x = x;
-        this.y = y;
-        this.type = type;
-        this.timeRemaining = DURATION;
+    Explosion(EntityStore<Explosion> store, int slot) {
+        this.store = store;
+        this.slot = slot;
     }
 
     /**
-     * Met à jour l'explosion
+     * Vérifie si l'explosion est terminée
+     *
+     * @param currentTick Tick courant du plateau
      */
-    public void update(double deltaTime) {
-        timeRemaining -= deltaTime;
+    public boolean isFinished(int currentTick) {
+        return currentTick >= store.timer[slot];
     }
 
     /**
-     * Vérifie si l'explosion est terminée
+     * @param currentTick Tick courant du plateau
+     * @return Nombre de ticks avant extinction
      */
-    public boolean isFinished() {
-        return timeRemaining <= 0;
+    public int getTicksRemaining(int currentTick) {
+        return Math.max(0, store.timer[slot] - currentTick);
     }
 
     /**
      * Retourne l'intensité de l'explosion (1.0 = début, 0.0 = fin)
+     *
+     * @param currentTick Tick courant du plateau
      */
-    public double getIntensity() {
-        return Math.max(0, timeRemaining / DURATION);
+    public double getIntensity(int currentTick) {
+        return Math.min(1.0, (double) getTicksRemaining(currentTick) / DURATION_TICKS);
+    }
+
+    int getExpiryTick() {
+        return store.timer[slot];
     }
 
     // Getters
     public int getX() {
-        return x;
+        return store.x[slot];
     }
 
     public int getY() {
-        return y;
+        return store.y[slot];
     }
 
     public Type getType() {
-        return type;
-    }
-
-    public double getTimeRemaining() {
-        return timeRemaining;
+        return TYPES[store.type[slot]];
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,41 @@
 package fr.amu.iut.bomberman.model;
 
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.RandomAccess;
 
 /**
  * Classe représentant le plateau de jeu
  * Gère la grille, les murs, les bombes et les power-ups
+ * <p>
+ * La grille est stockée dans un tableau plat de {@code byte} (indice {@code y * largeur + x}),
+ * doublé de couches de bits ({@link CellMask}) pour les murs, les bombes, le feu et les power-ups.
+ * Les bombes et les flammes sont rangées en colonnes dans des {@link EntityStore} ;
+ * les power-ups (un au plus par case) dans un tableau de types indexé par case.
  *
  * @author Groupe_3_6
  * @version 1.0
  */
 public class GameBoard {
 
+    // Dimensions classiques (plateau par défaut)
     public static final int GRID_WIDTH = 15;
     public static final int GRID_HEIGHT = 13;
 
+    // Bornes des dimensions configurables (impaires, pour le pattern en damier)
+    public static final int MIN_SIZE = 7;
+    public static final int MAX_SIZE = 1000;
+
+    // Demi-côté de la zone sans murs destructibles autour d'une case de départ
+    private static final int SPAWN_ZONE_RADIUS = 2;
+
+    // Au-delà, le plateau n'est pas affiché dans la console
+    private static final int DEBUG_PRINT_MAX_CELLS = GRID_WIDTH * GRID_HEIGHT;
+
     // Types de tuiles
     public enum TileType {
         EMPTY,
@@ -30,25 +46,213 @@ public class GameBoard {
         POWER_UP
     }
 
-    private final TileType[][] grid;
-    private final List<Bomb> bombs;
-    private final List<PowerUp> powerUps;
-    private final List<Explosion> explosions;
-    private final Random random;
+    // Tables de correspondance code -> type (évite values() qui copie le tableau)
+    private static final TileType[] TILE_TYPES = TileType.values();
+    private static final PowerUp.Type[] POWER_UP_TYPES = PowerUp.Type.values();
+
+    // Tailles des éléments sérialisés (voir writeState)
+    private static final int BOMB_BYTES = Integer.BYTES + 2 + 3 * Integer.BYTES;
+    private static final int EXPLOSION_BYTES = Integer.BYTES + 1 + Integer.BYTES;
+    private static final int POWER_UP_BYTES = Integer.BYTES + 1;
+
+    // Instances de bombes et de flammes créées d'avance (réutilisées d'un round à l'autre)
+    private static final int PREFILLED_BOMBS_PER_PLAYER = 8;
+    private static final int PREFILLED_FLAMES_PER_BOMB = 9; // Centre + 4 branches de portée 2
+
+    // Directions de propagation : HAUT, BAS, GAUCHE, DROITE
+    private static final int[][] DIRECTIONS = {
+            {0, -1}, // HAUT
+            {0, 1},  // BAS
+            {-1, 0}, // GAUCHE
+            {1, 0}   // DROITE
+    };
+
+    private static final Explosion.Type[] DIRECTION_TYPES = {
+            Explosion.Type.VERTICAL,   // HAUT
+            Explosion.Type.VERTICAL,   // BAS
+            Explosion.Type.HORIZONTAL, // GAUCHE
+            Explosion.Type.HORIZONTAL  // DROITE
+    };
+
+    private static final Explosion.Type[] END_TYPES = {
+            Explosion.Type.END_UP,    // HAUT
+            Explosion.Type.END_DOWN,  // BAS
+            Explosion.Type.END_LEFT,  // GAUCHE
+            Explosion.Type.END_RIGHT  // DROITE
+    };
+
+    // Probabilités par défaut : power-up laissé par un mur détruit, puis vie extra parmi ces power-ups
+    public static final double DEFAULT_POWER_UP_DROP_CHANCE = 0.3;
+    public static final double DEFAULT_EXTRA_LIFE_CHANCE = 0.1;
+
+    // Distribution des power-ups courants
+    private static final PowerUp.Type[] COMMON_POWER_UPS = {
+            PowerUp.Type.BOMB_UP,
+            PowerUp.Type.FIRE_UP,
+            PowerUp.Type.SPEED_UP
+    };
+
+    private final int width;
+    private final int height;
+
+    // Grille plate : un octet (ordinal du TileType) par case
+    private final byte[] cells;
+
+    // Couches de bits par case
+    private final CellMask solidWalls;
+    private final CellMask breakableWalls;
+    private final CellMask bombLayer;
+    private final CellMask fireLayer;
+    private final CellMask powerUpLayer;
+
+    // Index d'occupation par case, mis à jour incrémentalement (requêtes en O(1))
+    private static final int NO_BOMB = -1;
+    private final int[] bombAt;            // Emplacement de la bombe dans le stockage, ou NO_BOMB
+    private final byte[] powerUpTypes;     // Ordinal du type, valable si la case est dans powerUpLayer
+    private final short[] fireCount;       // Nombre d'explosions actives sur la case
+
+    // Table des cases de départ (indice plat), une par joueur, et zones gardées libres autour
+    private final int[] spawnCells;
+    private final CellMask spawnZones;
+
+    // Incrémenté à chaque modification d'une tuile (remplace l'ancienne propriété observable)
+    private int gridVersion;
+
+    // Incrémenté à chaque changement des cases traversables (tuiles ou bombes) ; champs de distances
+    // mis en cache par joueur, recalculés seulement si la carte ou la case du joueur a changé
+    private int walkableVersion;
+    private final DistanceField[] distanceFields;
+
+    // Bombes et flammes en colonnes (tableaux primitifs parallèles, emplacements réutilisés)
+    private final EntityStore<Bomb> bombs;
+    private final EntityStore<Explosion> flames;
+
+    // Vues en lecture seule créées une fois (aucune copie par appel)
+    private final List<Bomb> bombsView;
+    private final List<Explosion> explosionsView;
+
+    // Tampon réutilisé pour les bombes qui explosent pendant un tick
+    private final List<Bomb> explodedBuffer;
+    private final List<Bomb> explodedView;
+
+    // État des cases touchées pendant la résolution d'une réaction en chaîne
+    private static final byte BLAST_NONE = 0;
+    private static final byte BLAST_FIRE = 1;
+    private static final byte BLAST_WALL = 2; // Mur détruit pendant ce tick
+    private final byte[] blastState;
+    private final int[] blastCells; // Cases à remettre à zéro après la résolution
+    private int blastCellCount;
+
+    // Carte du danger : tick absolu auquel chaque case prendra feu à cause des bombes posées,
+    // réactions en chaîne comprises (NO_DANGER sinon). Mise à jour incrémentale à la pose d'une bombe,
+    // reconstruite au besoin quand des bombes explosent ou que des murs changent
+    public static final int NO_DANGER = Integer.MAX_VALUE;
+    private final int[] fireTick;
+    private final int[] chainTick;      // Tick d'explosion effectif de la bombe de la case
+    private final int[] dangerWork;     // Pile des bombes dont le souffle est à propager
+    private final boolean[] dangerQueued;
+    private int dangerWorkSize;
+    private boolean dangerDirty;
 
-    // Observable pour les changements
-    private final ObjectProperty<TileType[][]> gridProperty;
+    // Horloge du plateau (nombre de ticks simulés) et compteur de pose des bombes
+    private int currentTick;
+    private int nextBombSequence;
+
+    // Générateur propre à la partie (fourni par le GameModel, jamais partagé entre parties)
+    private final GameRandom random;
+
+    // Réglages d'équilibrage des power-ups
+    private double powerUpDropChance = DEFAULT_POWER_UP_DROP_CHANCE;
+    private double extraLifeChance = DEFAULT_EXTRA_LIFE_CHANCE;
+
+    // Traces de debug des bombes, explosions et power-ups (coupées sur les copies de simulation)
+    private boolean verbose;
 
     /**
-     * Constructeur du plateau de jeu
+     * Constructeur du plateau de jeu classique (15x13, 2 joueurs)
      */
     public GameBoard() {
-        this.grid = new TileType[GRID_WIDTH][GRID_HEIGHT];
-        this.bombs = new ArrayList<>();
-        this.powerUps = new ArrayList<>();
-        this.explosions = new ArrayList<>();
-        this.random = new Random();
-        this.gridProperty = new SimpleObjectProperty<>(grid);
+        this(GRID_WIDTH, GRID_HEIGHT);
+    }
+
+    /**
+     * Constructeur d'un plateau aux dimensions choisies pour la partie (2 joueurs)
+     *
+     * @param width  Largeur en cases (impaire, entre {@link #MIN_SIZE} et {@link #MAX_SIZE})
+     * @param height Hauteur en cases (impaire, entre {@link #MIN_SIZE} et {@link #MAX_SIZE})
+     */
+    public GameBoard(int width, int height) {
+        this(width, height, 2);
+    }
+
+    /**
+     * Constructeur d'un plateau pour un nombre de joueurs donné
+     *
+     * @param width       Largeur en cases (impaire, entre {@link #MIN_SIZE} et {@link #MAX_SIZE})
+     * @param height      Hauteur en cases (impaire, entre {@link #MIN_SIZE} et {@link #MAX_SIZE})
+     * @param playerCount Nombre de cases de départ à réserver
+     */
+    public GameBoard(int width, int height, int playerCount) {
+        this(width, height, playerCount, new GameRandom(System.nanoTime()));
+    }
+
+    /**
+     * Constructeur d'un plateau reproductible
+     * Toute l'aléa du plateau (murs, power-ups) est tiré de {@code random}
+     *
+     * @param width       Largeur en cases (impaire, entre {@link #MIN_SIZE} et {@link #MAX_SIZE})
+     * @param height      Hauteur en cases (impaire, entre {@link #MIN_SIZE} et {@link #MAX_SIZE})
+     * @param playerCount Nombre de cases de départ à réserver
+     * @param random      Générateur de la partie (ou une branche obtenue par {@code split()})
+     */
+    public GameBoard(int width, int height, int playerCount, GameRandom random) {
+        this(width, height, playerCount, random, true);
+    }
+
+    /**
+     * Constructeur d'un plateau reproductible, avec ou sans traces de debug dès sa création
+     * (copies de simulation des bots : pas d'affichage du plateau initial)
+     *
+     * @param verbose Traces de debug du plateau
+     */
+    GameBoard(int width, int height, int playerCount, GameRandom random, boolean verbose) {
+        if (!isValidSize(width) || !isValidSize(height)) {
+            throw new IllegalArgumentException("Dimensions de plateau invalides : " + width + "x" + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.spawnCells = computeSpawnCells(playerCount);
+        this.spawnZones = new CellMask(width * height);
+        for (int spawnCell : spawnCells) {
+            markSpawnZone(spawnCell % width, spawnCell / width);
+        }
+        this.cells = new byte[width * height];
+        this.solidWalls = new CellMask(cells.length);
+        this.breakableWalls = new CellMask(cells.length);
+        this.bombLayer = new CellMask(cells.length);
+        this.fireLayer = new CellMask(cells.length);
+        this.powerUpLayer = new CellMask(cells.length);
+        this.bombAt = new int[cells.length];
+        this.powerUpTypes = new byte[cells.length];
+        this.fireCount = new short[cells.length];
+        this.bombs = new EntityStore<>(Bomb::new);
+        this.flames = new EntityStore<>(Explosion::new);
+        int prefilledBombs = Math.max(1, playerCount) * PREFILLED_BOMBS_PER_PLAYER;
+        bombs.prefill(prefilledBombs);
+        flames.prefill(Math.min(cells.length, prefilledBombs * PREFILLED_FLAMES_PER_BOMB));
+        this.bombsView = new StoreView<>(bombs);
+        this.explosionsView = new StoreView<>(flames);
+        this.explodedBuffer = new ArrayList<>();
+        this.explodedView = Collections.unmodifiableList(explodedBuffer);
+        this.blastState = new byte[cells.length];
+        this.blastCells = new int[cells.length];
+        this.fireTick = new int[cells.length];
+        this.chainTick = new int[cells.length];
+        this.dangerWork = new int[cells.length];
+        this.dangerQueued = new boolean[cells.length];
+        this.random = random;
+        this.distanceFields = new DistanceField[spawnCells.length];
+        this.verbose = verbose;
 
         initializeBoard();
     }
@@ -58,39 +262,45 @@ public class GameBoard {
      */
     private void initializeBoard() {
         // Remplir avec des cases vides
-        for (int x = 0; x < GRID_WIDTH; x++) {
-            for (int y = 0; y < GRID_HEIGHT; y++) {
-                grid[x][y] = TileType.EMPTY;
-            }
-        }
+        Arrays.fill(cells, (byte) TileType.EMPTY.ordinal());
+        solidWalls.clearAll();
+        breakableWalls.clearAll();
+        bombLayer.clearAll();
+        fireLayer.clearAll();
+        powerUpLayer.clearAll();
+        Arrays.fill(bombAt, NO_BOMB);
+        Arrays.fill(fireCount, (short) 0);
 
         // Ajouter les murs indestructibles (pattern en damier)
-        for (int x = 0; x < GRID_WIDTH; x++) {
-            for (int y = 0; y < GRID_HEIGHT; y++) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 // Bordures
-                if (x == 0 || x == GRID_WIDTH - 1 || y == 0 || y == GRID_HEIGHT - 1) {
-                    grid[x][y] = TileType.WALL;
+                if (x == 0 || x == width - 1 || y == 0 || y == height - 1) {
+                    writeTile(index(x, y), TileType.WALL);
                 }
                 // Pattern damier
                 else if (x % 2 == 0 && y % 2 == 0) {
-                    grid[x][y] = TileType.WALL;
+                    writeTile(index(x, y), TileType.WALL);
                 }
             }
         }
 
-        // Ajouter des murs destructibles aléatoirement
+        // Ajouter des murs destructibles aléatoirement (jamais dans les zones de départ)
         generateBreakableWalls();
 
-        // S'assurer que les zones de départ sont libres
-        clearStartingAreas();
-
         // Debug: afficher les zones de spawn
-        System.out.println("=== PLATEAU INITIALISÉ ===");
-        System.out.println("Zone Joueur 1: cases (1,1), (2,1), (1,2) libres");
-        System.out.println("Zone Joueur 2: cases (13,11), (12,11), (13,10) libres");
-        printBoardDebug();
-
-        updateGridProperty();
+        if (verbose) {
+            System.out.println("=== PLATEAU INITIALISÉ (" + width + "x" + height + ") ===");
+            for (int i = 0; i < spawnCells.length; i++) {
+                System.out.println("Zone Joueur " + (i + 1) + ": autour de (" + getSpawnX(i) + "," + getSpawnY(i) + ") libre");
+            }
+            if (width * height <= DEBUG_PRINT_MAX_CELLS) {
+                printBoardDebug();
+            }
+        }
+        gridVersion++;
+        walkableVersion++;
+        dangerDirty = true;
     }
 
     /**
@@ -98,13 +308,13 @@ public class GameBoard {
      */
     private void printBoardDebug() {
         System.out.println("État du plateau (zones de spawn):");
-        for (int y = 0; y < GRID_HEIGHT; y++) {
-            for (int x = 0; x < GRID_WIDTH; x++) {
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
                 // Marquer les zones de spawn
-                if ((x == 1 && y == 1) || (x == 13 && y == 11)) {
+                if (isSpawnCell(index(x, y))) {
                     System.out.print("S "); // Spawn
                 } else {
-                    switch (grid[x][y]) {
+                    switch (getTile(x, y)) {
                         case EMPTY -> System.out.print(". ");
                         case WALL -> System.out.print("# ");
                         case BREAKABLE_WALL -> System.out.print("B ");
@@ -118,25 +328,39 @@ public class GameBoard {
 
     /**
      * Génère des murs destructibles sur le plateau
+     * Tirage en une seule passe (sélection séquentielle) : chaque case libre est retenue avec
+     * la probabilité {@code murs restants / cases libres restantes}, ce qui place exactement
+     * le nombre de murs voulu en temps linéaire, même sur un plateau de 1000x1000.
      */
     private void generateBreakableWalls() {
-        int wallCount = (int) ((GRID_WIDTH * GRID_HEIGHT) * 0.3); // 30% de murs destructibles
-
-        for (int i = 0; i < wallCount; i++) {
-            int x, y;
-            int attempts = 0;
-            do {
-                x = random.nextInt(GRID_WIDTH);
-                y = random.nextInt(GRID_HEIGHT);
-                attempts++;
-                // Éviter une boucle infinie
-                if (attempts > 1000) break;
-            } while (grid[x][y] != TileType.EMPTY || isStartingArea(x, y));
-
-            if (attempts <= 1000 && grid[x][y] == TileType.EMPTY) {
-                grid[x][y] = TileType.BREAKABLE_WALL;
+        int wallCount = (int) ((width * height) * 0.3); // 30% de murs destructibles
+
+        // Compter les cases candidates
+        int candidates = 0;
+        for (int cell = 0; cell < cells.length; cell++) {
+            if (isWallCandidate(cell)) {
+                candidates++;
             }
         }
+
+        int remaining = Math.min(wallCount, candidates);
+        for (int cell = 0; cell < cells.length && remaining > 0; cell++) {
+            if (!isWallCandidate(cell)) {
+                continue;
+            }
+            if (random.nextInt(candidates) < remaining) {
+                writeTile(cell, TileType.BREAKABLE_WALL);
+                remaining--;
+            }
+            candidates--;
+        }
+    }
+
+    /**
+     * Vérifie si une case peut recevoir un mur destructible
+     */
+    private boolean isWallCandidate(int cell) {
+        return cells[cell] == TileType.EMPTY.ordinal() && !isStartingArea(cell % width, cell / width);
     }
 
     /**
@@ -147,94 +371,168 @@ public class GameBoard {
      * @return true si c'est une zone de départ
      */
     private boolean isStartingArea(int x, int y) {
-        // Zone joueur 1 (coin haut-gauche) - 3x3 autour de (1,1)
-        if (x >= 1 && x <= 3 && y >= 1 && y <= 3) {
-            return true;
-        }
-
-        // Zone joueur 2 (coin bas-droit) - 3x3 autour de (13,11)
-        return x >= 11 && x <= 13 && y >= 9 && y <= 11;
+        return spawnZones.get(index(x, y));
     }
 
     /**
-     * Nettoie les zones de départ des joueurs
+     * Marque la zone gardée libre autour d'une case de départ (bordures exclues)
      */
-    private void clearStartingAreas() {
-        // Zone Joueur 1 - autour de (1,1)
-        clearArea(1, 1);
-
-        // Zone Joueur 2 - autour de (13,11)
-        clearArea(13, 11);
+    private void markSpawnZone(int centerX, int centerY) {
+        for (int x = Math.max(1, centerX - SPAWN_ZONE_RADIUS); x <= Math.min(width - 2, centerX + SPAWN_ZONE_RADIUS); x++) {
+            for (int y = Math.max(1, centerY - SPAWN_ZONE_RADIUS); y <= Math.min(height - 2, centerY + SPAWN_ZONE_RADIUS); y++) {
+                spawnZones.set(index(x, y));
+            }
+        }
     }
 
     /**
-     * Nettoie une zone autour d'une position
+     * Calcule la table des cases de départ
+     * Les cases candidates sont celles de coordonnées impaires sur l'anneau intérieur du plateau.
+     * Les quatre coins sont pris en premier (le joueur 2 en face du joueur 1), puis chaque joueur
+     * suivant reçoit la candidate la plus éloignée (distance de Manhattan) des cases déjà choisies.
+     *
+     * @param playerCount Nombre de joueurs
+     * @return Indices plats des cases de départ, dans l'ordre des joueurs
      */
-    private void clearArea(int centerX, int centerY) {
-        for (int x = Math.max(1, centerX - 2); x <= Math.min(GRID_WIDTH - 2, centerX + 2); x++) {
-            for (int y = Math.max(1, centerY - 2); y <= Math.min(GRID_HEIGHT - 2, centerY + 2); y++) {
-                // Ne pas toucher aux murs indestructibles du pattern damier
-                if (!(x % 2 == 0 && y % 2 == 0)) {
-                    grid[x][y] = TileType.EMPTY;
+    private int[] computeSpawnCells(int playerCount) {
+        // Anneau intérieur : lignes 1 et hauteur-2, colonnes 1 et largeur-2 (coordonnées impaires)
+        int[] candidates = new int[width + height];
+        int candidateCount = 0;
+        for (int x = 1; x <= width - 2; x += 2) {
+            candidates[candidateCount++] = index(x, 1);
+            candidates[candidateCount++] = index(x, height - 2);
+        }
+        for (int y = 3; y <= height - 4; y += 2) {
+            candidates[candidateCount++] = index(1, y);
+            candidates[candidateCount++] = index(width - 2, y);
+        }
+
+        if (playerCount < 1 || playerCount > candidateCount) {
+            throw new IllegalArgumentException("Impossible de placer " + playerCount
+                    + " joueurs sur un plateau " + width + "x" + height);
+        }
+
+        int[] corners = {
+                index(1, 1),
+                index(width - 2, height - 2),
+                index(width - 2, 1),
+                index(1, height - 2)
+        };
+
+        int[] spawns = new int[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            if (i < corners.length) {
+                spawns[i] = corners[i];
+                continue;
+            }
+            // Candidate la plus éloignée des cases déjà choisies (la première en cas d'égalité)
+            int best = -1;
+            int bestDistance = -1;
+            for (int c = 0; c < candidateCount; c++) {
+                int distance = Integer.MAX_VALUE;
+                for (int j = 0; j < i; j++) {
+                    distance = Math.min(distance, manhattan(candidates[c], spawns[j]));
+                }
+                if (distance > bestDistance) {
+                    bestDistance = distance;
+                    best = candidates[c];
                 }
             }
+            spawns[i] = best;
         }
+        return spawns;
+    }
+
+    private int manhattan(int cellA, int cellB) {
+        return Math.abs(cellA % width - cellB % width) + Math.abs(cellA / width - cellB / width);
+    }
+
+    private boolean isSpawnCell(int cell) {
+        for (int spawnCell : spawnCells) {
+            if (spawnCell == cell) return true;
+        }
+        return false;
     }
 
     /**
-     * Ajoute une bombe au plateau
+     * Pose une bombe sur le plateau, qui explosera dans {@link Bomb#FUSE_TICKS} ticks
+     *
+     * @param x         Position X
+     * @param y         Position Y
+     * @param firePower Portée de l'explosion
+     * @param ownerId   Identifiant du joueur qui la pose
+     * @return La bombe, ou null si la case est hors plateau ou contient déjà une bombe
      */
-    public void addBomb(Bomb bomb) {
-        bombs.add(bomb);
-        System.out.println("Bombe ajoutée à (" + bomb.getX() + ", " + bomb.getY() + ")");
+    public Bomb addBomb(int x, int y, int firePower, int ownerId) {
+        if (!isValidPosition(x, y)) {
+            return null;
+        }
+        int cell = index(x, y);
+        if (bombAt[cell] != NO_BOMB) {
+            return null;
+        }
+        int slot = insertBomb(x, y, firePower, ownerId, nextBombSequence++, 0);
+        bombs.schedule(slot, currentTick + Bomb.FUSE_TICKS);
+        // Une bombe posée dans un souffle à venir explosera avec lui
+        chainTick[cell] = Math.min(currentTick + Bomb.FUSE_TICKS, fireTick[cell]);
+        propagateDanger(cell);
+        if (verbose) {
+            System.out.println("Nouvelle bombe créée à (" + x + ", " + y + ") par joueur " + ownerId);
+        }
+        return bombs.handle(slot);
     }
 
     /**
-     * Fait exploser une bombe
+     * Force une bombe du plateau à exploser au prochain tick (avec sa réaction en chaîne)
      */
-    public void explodeBomb(Bomb bomb) {
-        int centerX = bomb.getX();
-        int centerY = bomb.getY();
-        int range = bomb.getFirePower();
-
-        // Centre de l'explosion
-        addExplosion(centerX, centerY, Explosion.Type.CENTER);
+    public void forceExplode(Bomb bomb) {
+        if (!bombs.isActive(bomb.slot) || bombAt[index(bomb.getX(), bomb.getY())] != bomb.slot) {
+            return;
+        }
+        bombs.schedule(bomb.slot, currentTick + 1);
+        int cell = index(bomb.getX(), bomb.getY());
+        if (currentTick + 1 < chainTick[cell]) {
+            chainTick[cell] = currentTick + 1;
+            propagateDanger(cell);
+        }
+        if (verbose) {
+            System.out.println("Bombe à (" + bomb.getX() + ", " + bomb.getY() + ") forcée d'exploser!");
+        }
+    }
 
-        // Détruire les murs destructibles au centre
-        if (getTile(centerX, centerY) == TileType.BREAKABLE_WALL) {
-            setTile(centerX, centerY, TileType.EMPTY);
-            // Chance de laisser un power-up
-            if (Math.random() < 0.3) {
-                addRandomPowerUp(centerX, centerY);
-            }
+    /**
+     * Résout en un seul tick toutes les réactions en chaîne
+     * Les bombes de {@code explodedBuffer} servent de liste de travail : chaque bombe touchée
+     * par le souffle est retirée de l'index et ajoutée en fin de liste, puis explose à son tour.
+     * L'ordre est déterministe (ordre de pose, puis ordre de propagation HAUT, BAS, GAUCHE, DROITE).
+     */
+    private void resolveChainReactions() {
+        for (int i = 0; i < explodedBuffer.size(); i++) {
+            detonate(explodedBuffer.get(i));
         }
 
-        // Directions : HAUT, BAS, GAUCHE, DROITE
-        int[][] directions = {
-                {0, -1}, // HAUT
-                {0, 1},  // BAS
-                {-1, 0}, // GAUCHE
-                {1, 0}   // DROITE
-        };
+        // Remettre à zéro uniquement les cases touchées
+        for (int i = 0; i < blastCellCount; i++) {
+            blastState[blastCells[i]] = BLAST_NONE;
+        }
+        blastCellCount = 0;
+    }
 
-        Explosion.Type[] directionTypes = {
-                Explosion.Type.VERTICAL,   // HAUT
-                Explosion.Type.VERTICAL,   // BAS
-                Explosion.Type.HORIZONTAL, // GAUCHE
-                Explosion.Type.HORIZONTAL  // DROITE
-        };
+    /**
+     * Fait exploser une bombe (appelé par la résolution des réactions en chaîne)
+     */
+    private void detonate(Bomb bomb) {
+        int centerX = bomb.getX();
+        int centerY = bomb.getY();
+        int range = bomb.getFirePower();
 
-        Explosion.Type[] endTypes = {
-                Explosion.Type.END_UP,    // HAUT
-                Explosion.Type.END_DOWN,  // BAS
-                Explosion.Type.END_LEFT,  // GAUCHE
-                Explosion.Type.END_RIGHT  // DROITE
-        };
+        // Centre de l'explosion
+        burnCell(index(centerX, centerY), Explosion.Type.CENTER);
 
         // Propager l'explosion dans chaque direction
-        for (int dir = 0; dir < directions.length; dir++) {
-            int dx = directions[dir][0];
-            int dy = directions[dir][1];
+        for (int dir = 0; dir < DIRECTIONS.length; dir++) {
+            int dx = DIRECTIONS[dir][0];
+            int dy = DIRECTIONS[dir][1];
 
             for (int i = 1; i <= range; i++) {
                 int x = centerX + dx * i;
@@ -246,117 +544,337 @@ public class GameBoard {
                 }
 
                 // Vérifier les obstacles
-                TileType tile = getTile(x, y);
-                if (tile == TileType.WALL) {
+                int cell = index(x, y);
+                if (solidWalls.get(cell)) {
                     break; // Mur solide arrête l'explosion
                 }
+                // Un mur détruit pendant ce tick arrête aussi les souffles suivants
+                boolean breakable = breakableWalls.get(cell) || blastState[cell] == BLAST_WALL;
 
                 // Ajouter l'explosion
-                if (i == range || tile == TileType.BREAKABLE_WALL) {
+                if (i == range || breakable) {
                     // Fin de la branche d'explosion
-                    addExplosion(x, y, endTypes[dir]);
+                    burnCell(cell, END_TYPES[dir]);
                 } else {
                     // Milieu de la branche
-                    addExplosion(x, y, directionTypes[dir]);
+                    burnCell(cell, DIRECTION_TYPES[dir]);
                 }
 
-                // Détruire les murs destructibles
-                if (tile == TileType.BREAKABLE_WALL) {
-                    setTile(x, y, TileType.EMPTY);
-                    // Chance de laisser un power-up
-                    if (Math.random() < 0.3) {
-                        addRandomPowerUp(x, y);
-                    }
+                if (breakable) {
                     break; // Mur destructible arrête l'explosion
                 }
 
-                // Faire exploser les autres bombes (réaction en chaîne)
-                Bomb bombAtPosition = getBombAt(x, y);
-                if (bombAtPosition != null && bombAtPosition != bomb) {
-                    bombAtPosition.forceExplode();
+                // Faire exploser les autres bombes (réaction en chaîne, même tick)
+                int chainedSlot = bombAt[cell];
+                if (chainedSlot != NO_BOMB) {
+                    Bomb chained = bombs.handle(chainedSlot);
+                    removeBomb(chained);
+                    explodedBuffer.add(chained);
                 }
             }
         }
 
-        System.out.println("Explosion créée au centre (" + centerX + ", " + centerY + ") avec portée " + range);
+        if (verbose) {
+            System.out.println("Explosion créée au centre (" + centerX + ", " + centerY + ") avec portée " + range);
+        }
+    }
+
+    /**
+     * Met le feu à une case, une seule fois par résolution même si plusieurs souffles s'y croisent
+     * Détruit le mur destructible éventuel (avec une chance de laisser un power-up)
+     */
+    private void burnCell(int cell, Explosion.Type type) {
+        if (blastState[cell] != BLAST_NONE) {
+            return;
+        }
+        blastCells[blastCellCount++] = cell;
+
+        int x = cell % width;
+        int y = cell / width;
+        addExplosion(x, y, type);
+
+        if (breakableWalls.get(cell)) {
+            blastState[cell] = BLAST_WALL;
+            setTile(x, y, TileType.EMPTY);
+            // Chance de laisser un power-up
+            if (random.nextDouble() < powerUpDropChance) {
+                addRandomPowerUp(x, y);
+            }
+        } else {
+            blastState[cell] = BLAST_FIRE;
+        }
+    }
+
+    // ==================== CARTE DU DANGER ====================
+
+    /**
+     * Nombre de ticks avant que la case ne soit en feu, en tenant compte des murs, de la puissance
+     * des bombes et des réactions en chaîne (O(1) ; la carte est reconstruite au besoin)
+     *
+     * @param x Position X
+     * @param y Position Y
+     * @return 0 si la case brûle déjà, {@link #NO_DANGER} si aucune bombe posée ne l'atteindra
+     */
+    public int getTicksUntilFire(int x, int y) {
+        if (!isValidPosition(x, y)) {
+            return NO_DANGER;
+        }
+        int cell = index(x, y);
+        if (fireLayer.get(cell)) {
+            return 0;
+        }
+        if (dangerDirty) {
+            rebuildDangerMap();
+        }
+        int tick = fireTick[cell];
+        return tick == NO_DANGER ? NO_DANGER : Math.max(0, tick - currentTick);
+    }
+
+    /**
+     * @return true si la case brûle ou sera atteinte par une bombe déjà posée
+     */
+    public boolean isInDanger(int x, int y) {
+        return getTicksUntilFire(x, y) != NO_DANGER;
+    }
+
+    /**
+     * Reconstruit toute la carte du danger à partir des bombes posées (O(bombes x portée))
+     */
+    private void rebuildDangerMap() {
+        dangerDirty = false;
+        Arrays.fill(fireTick, NO_DANGER);
+        for (int i = 0; i < bombs.size(); i++) {
+            int slot = bombs.slotAt(i);
+            int cell = index(bombs.x[slot], bombs.y[slot]);
+            chainTick[cell] = bombs.timer[slot];
+            pushDanger(cell);
+        }
+        propagateDanger(-1);
     }
 
     /**
-     * Obtient la bombe à une position donnée
+     * Propage les souffles des bombes en attente (et de {@code cell} si positive) : chaque case prend
+     * le tick le plus tôt qui l'atteint et chaque bombe touchée plus tôt que prévu est avancée à son
+     * tour (réaction en chaîne). Les ticks ne font que diminuer, la propagation se termine donc.
      */
-    private Bomb getBombAt(int x, int y) {
-        for (Bomb bomb : bombs) {
-            if (bomb.getX() == x && bomb.getY() == y) {
-                return bomb;
+    private void propagateDanger(int cell) {
+        if (dangerDirty) {
+            return; // La reconstruction complète prendra la bombe en compte
+        }
+        if (cell >= 0) {
+            pushDanger(cell);
+        }
+        while (dangerWorkSize > 0) {
+            int bombCell = dangerWork[--dangerWorkSize];
+            dangerQueued[bombCell] = false;
+            int tick = chainTick[bombCell];
+            int range = bombs.fire[bombAt[bombCell]];
+            int centerX = bombCell % width;
+            int centerY = bombCell / width;
+            fireTick[bombCell] = Math.min(fireTick[bombCell], tick);
+
+            // Même parcours que detonate : arrêt aux murs, un mur cassable prend feu et arrête le souffle
+            for (int[] direction : DIRECTIONS) {
+                for (int i = 1; i <= range; i++) {
+                    int x = centerX + direction[0] * i;
+                    int y = centerY + direction[1] * i;
+                    if (!isValidPosition(x, y)) {
+                        break;
+                    }
+                    int next = index(x, y);
+                    if (solidWalls.get(next)) {
+                        break;
+                    }
+                    fireTick[next] = Math.min(fireTick[next], tick);
+                    if (breakableWalls.get(next)) {
+                        break;
+                    }
+                    if (bombLayer.get(next) && chainTick[next] > tick) {
+                        chainTick[next] = tick;
+                        pushDanger(next);
+                    }
+                }
             }
         }
-        return null;
+    }
+
+    private void pushDanger(int cell) {
+        if (!dangerQueued[cell]) {
+            dangerQueued[cell] = true;
+            dangerWork[dangerWorkSize++] = cell;
+        }
+    }
+
+    /**
+     * Obtient la bombe à une position donnée (index par case, O(1))
+     *
+     * @param x Position X
+     * @param y Position Y
+     * @return La bombe, ou null
+     */
+    public Bomb getBombAt(int x, int y) {
+        if (!isValidPosition(x, y)) {
+            return null;
+        }
+        int slot = bombAt[index(x, y)];
+        return slot == NO_BOMB ? null : bombs.handle(slot);
+    }
+
+    /**
+     * Obtient le type du power-up à une position donnée (index par case, O(1))
+     *
+     * @param x Position X
+     * @param y Position Y
+     * @return Le type du power-up, ou null
+     */
+    public PowerUp.Type getPowerUpAt(int x, int y) {
+        return hasPowerUp(x, y) ? POWER_UP_TYPES[powerUpTypes[index(x, y)]] : null;
     }
 
     /**
      * Ajoute une explosion
      */
     private void addExplosion(int x, int y, Explosion.Type type) {
-        explosions.add(new Explosion(x, y, type));
+        insertFlame(x, y, type.ordinal(), currentTick + Explosion.DURATION_TICKS);
+        int cell = index(x, y);
+        fireCount[cell]++;
+        fireLayer.set(cell);
     }
 
     /**
      * Ajoute un power-up aléatoire à une position
      */
     private void addRandomPowerUp(int x, int y) {
-        // Distribution des power-ups
-        PowerUp.Type[] commonTypes = {
-                PowerUp.Type.BOMB_UP,
-                PowerUp.Type.FIRE_UP,
-                PowerUp.Type.SPEED_UP
-        };
-
         PowerUp.Type randomType;
-        if (Math.random() < 0.1) { // 10% de chance pour une vie extra
+        if (random.nextDouble() < extraLifeChance) { // Vie extra (10% par défaut)
             randomType = PowerUp.Type.EXTRA_LIFE;
         } else {
-            randomType = commonTypes[random.nextInt(commonTypes.length)];
+            randomType = COMMON_POWER_UPS[random.nextInt(COMMON_POWER_UPS.length)];
         }
 
-        powerUps.add(new PowerUp(x, y, randomType));
-        System.out.println("Power-up " + randomType + " ajouté à (" + x + ", " + y + ")");
+        int cell = index(x, y);
+        if (powerUpLayer.get(cell)) {
+            return; // Un seul power-up par case
+        }
+        powerUpTypes[cell] = (byte) randomType.ordinal();
+        powerUpLayer.set(cell);
+        if (verbose) {
+            System.out.println("Power-up " + randomType + " ajouté à (" + x + ", " + y + ")");
+        }
     }
 
     /**
-     * Met à jour le plateau (explosions, bombes, etc.)
+     * Avance le plateau d'un tick (explosions, bombes, etc.)
+     * Les bombes arrivées à terme explosent, ainsi que toutes celles atteintes en chaîne,
+     * dans le même tick.
+     *
+     * Les échéances sont des numéros de tick rangés dans des roues de temporisation : seules
+     * les bombes et flammes dues à ce tick sont visitées, quel que soit leur nombre total.
+     * Hors explosions, aucune allocation ; le résultat est une vue sur un tampon réutilisé,
+     * valable jusqu'au prochain appel.
      *
-     * @param deltaTime Temps écoulé
-     * @return Liste des bombes qui ont explosé
-     */
-    public List<Bomb> update(double deltaTime) {
-        List<Bomb> explodedBombs = new ArrayList<>();
-
-        // Mise à jour des bombes
-        Iterator<Bomb> bombIterator = bombs.iterator();
-        while (bombIterator.hasNext()) {
-            Bomb bomb = bombIterator.next();
-            bomb.update(deltaTime);
-            if (bomb.shouldExplode()) {
-                explodedBombs.add(bomb);
-                bombIterator.remove();
+     * @return Liste (en lecture seule) des bombes qui ont explosé, chaîne comprise
+     */
+    public List<Bomb> tick() {
+        currentTick++;
+        explodedBuffer.clear();
+
+        // Bombes dont la mèche arrive à terme
+        for (int slot = bombs.firstScheduled(currentTick); slot != -1; slot = bombs.nextScheduled(slot)) {
+            if (bombs.timer[slot] <= currentTick) {
+                explodedBuffer.add(bombs.handle(slot));
+            }
+        }
+        for (int i = 0; i < explodedBuffer.size(); i++) {
+            removeBomb(explodedBuffer.get(i));
+        }
+        sortBySequence(explodedBuffer);
+
+        // Flammes qui s'éteignent
+        int slot = flames.firstScheduled(currentTick);
+        while (slot != -1) {
+            int next = flames.nextScheduled(slot);
+            if (flames.timer[slot] <= currentTick) {
+                // Plusieurs explosions peuvent partager une case : le feu s'éteint avec la dernière
+                int cell = index(flames.x[slot], flames.y[slot]);
+                if (--fireCount[cell] == 0) {
+                    fireLayer.clear(cell);
+                }
+                flames.release(slot);
             }
+            slot = next;
+        }
+
+        // Les nouvelles flammes sont créées après l'extinction des anciennes
+        if (!explodedBuffer.isEmpty()) {
+            resolveChainReactions();
         }
 
-        // Mise à jour des explosions
-        Iterator<Explosion> explosionIterator = explosions.iterator();
-        while (explosionIterator.hasNext()) {
-            Explosion explosion = explosionIterator.next();
-            explosion.update(deltaTime);
-            if (explosion.isFinished()) {
-                explosionIterator.remove();
+        return explodedView;
+    }
+
+    /**
+     * Trie les bombes dues par ordre de pose (tri par insertion : rarement plus d'une ou deux)
+     * L'ordre d'explosion ne dépend ainsi pas de l'ordre de chaînage dans la roue.
+     */
+    private static void sortBySequence(List<Bomb> list) {
+        for (int i = 1; i < list.size(); i++) {
+            Bomb bomb = list.get(i);
+            int j = i - 1;
+            while (j >= 0 && list.get(j).getSequence() > bomb.getSequence()) {
+                list.set(j + 1, list.get(j));
+                j--;
             }
+            list.set(j + 1, bomb);
         }
+    }
 
-        if (!explodedBombs.isEmpty() || !explosions.isEmpty()) {
-            updateGridProperty();
+    /**
+     * Range une bombe dans le stockage et l'index par case (sans la programmer)
+     *
+     * @return Emplacement de la bombe
+     */
+    private int insertBomb(int x, int y, int firePower, int ownerId, int sequence, int traversalMask) {
+        int slot = bombs.allocate(x, y);
+        bombs.fire[slot] = (byte) firePower;
+        bombs.owner[slot] = (byte) ownerId;
+        bombs.sequence[slot] = sequence;
+        bombs.mask[slot] = traversalMask;
+        int cell = index(x, y);
+        bombAt[cell] = slot;
+        bombLayer.set(cell);
+        walkableVersion++;
+        return slot;
+    }
+
+    /**
+     * Retire une bombe du plateau en O(1) : index par case, roue et stockage
+     */
+    private void removeBomb(Bomb bomb) {
+        int cell = index(bomb.getX(), bomb.getY());
+        if (bombAt[cell] == bomb.slot) {
+            bombAt[cell] = NO_BOMB;
+            bombLayer.clear(cell);
+            walkableVersion++;
+            dangerDirty = true;
         }
+        bombs.release(bomb.slot);
+    }
 
-        return explodedBombs;
+    /**
+     * Range une flamme dans le stockage et programme son extinction
+     */
+    private void insertFlame(int x, int y, int typeOrdinal, int expiryTick) {
+        int slot = flames.allocate(x, y);
+        flames.type[slot] = (byte) typeOrdinal;
+        flames.schedule(slot, expiryTick);
+    }
+
+    /**
+     * Vérifie si une dimension de plateau est acceptée
+     */
+    public static boolean isValidSize(int size) {
+        return size >= MIN_SIZE && size <= MAX_SIZE && size % 2 == 1;
     }
 
     /**
@@ -367,7 +885,7 @@ public class GameBoard {
      * @return true si valide
      */
     public boolean isValidPosition(int x, int y) {
-        return x >= 0 && x < GRID_WIDTH && y >= 0 && y < GRID_HEIGHT;
+        return x >= 0 && x < width && y >= 0 && y < height;
     }
 
     /**
@@ -379,8 +897,7 @@ public class GameBoard {
      */
     public boolean isWalkable(int x, int y) {
         if (!isValidPosition(x, y)) return false;
-        TileType tile = grid[x][y];
-        return tile == TileType.EMPTY || tile == TileType.POWER_UP;
+        return !solidWalls.getEither(breakableWalls, index(x, y));
     }
 
     /**
@@ -388,19 +905,15 @@ public class GameBoard {
      *
      * @param x Position X
      * @param y Position Y
-     * @return Le power-up collecté, ou null
-     */
-    public PowerUp collectPowerUp(int x, int y) {
-        Iterator<PowerUp> iterator = powerUps.iterator();
-        while (iterator.hasNext()) {
-            PowerUp powerUp = iterator.next();
-            if (powerUp.getX() == x && powerUp.getY() == y) {
-                iterator.remove();
-                updateGridProperty();
-                return powerUp;
-            }
+     * @return Le type du power-up collecté, ou null
+     */
+    public PowerUp.Type collectPowerUp(int x, int y) {
+        if (!hasPowerUp(x, y)) {
+            return null;
         }
-        return null;
+        int cell = index(x, y);
+        powerUpLayer.clear(cell);
+        return POWER_UP_TYPES[powerUpTypes[cell]];
     }
 
     /**
@@ -411,33 +924,204 @@ public class GameBoard {
      * @return true si explosion
      */
     public boolean hasExplosion(int x, int y) {
-        for (Explosion explosion : explosions) {
-            if (explosion.getX() == x && explosion.getY() == y) {
-                return true;
-            }
-        }
-        return false;
+        return isValidPosition(x, y) && fireLayer.get(index(x, y));
+    }
+
+    /**
+     * Vérifie si une position contient une bombe
+     *
+     * @param x Position X
+     * @param y Position Y
+     * @return true si bombe
+     */
+    public boolean hasBomb(int x, int y) {
+        return isValidPosition(x, y) && bombLayer.get(index(x, y));
+    }
+
+    /**
+     * Vérifie si une position contient un power-up
+     *
+     * @param x Position X
+     * @param y Position Y
+     * @return true si power-up
+     */
+    public boolean hasPowerUp(int x, int y) {
+        return isValidPosition(x, y) && powerUpLayer.get(index(x, y));
     }
 
     /**
      * Réinitialise le plateau pour une nouvelle partie
+     * Toutes les bombes et flammes retournent dans leurs réservoirs, pour le round suivant.
      */
     public void reset() {
         bombs.clear();
-        powerUps.clear();
-        explosions.clear();
+        flames.clear();
+        if (verbose) {
+            System.out.println("Réservoirs : bombes " + bombs.getPoolSize() + " (réutilisation "
+                    + Math.round(bombs.getHitRate() * 100) + "%), flammes " + flames.getPoolSize()
+                    + " (réutilisation " + Math.round(flames.getHitRate() * 100) + "%)");
+        }
 
         // IMPORTANT: Régénérer complètement le plateau
         initializeBoard();
 
-        System.out.println("Plateau réinitialisé pour un nouveau round");
+        if (verbose) {
+            System.out.println("Plateau réinitialisé pour un nouveau round");
+        }
     }
 
+    // ==================== SAUVEGARDE D'ÉTAT ====================
+
     /**
-     * Met à jour la propriété observable de la grille
+     * @return Taille en octets de l'état écrit par {@link #writeState(ByteBuffer)}
      */
-    private void updateGridProperty() {
-        gridProperty.set(grid);
+    int stateSize() {
+        return GameRandom.STATE_BYTES
+                + 2 * Integer.BYTES
+                + (cells.length + 1) / 2
+                + 3 * Integer.BYTES
+                + bombs.size() * BOMB_BYTES
+                + flames.size() * EXPLOSION_BYTES
+                + powerUpLayer.cardinality() * POWER_UP_BYTES;
+    }
+
+    /**
+     * Écrit l'état du plateau : générateur, horloge, tuiles (4 bits par case), bombes, flammes et power-ups
+     * Les échéances sont écrites en numéros de tick absolus.
+     * Aucune allocation : tout est écrit dans le tampon fourni.
+     */
+    void writeState(ByteBuffer out) {
+        random.writeState(out);
+        out.putInt(currentTick);
+        out.putInt(nextBombSequence);
+
+        // Deux cases par octet
+        for (int cell = 0; cell < cells.length; cell += 2) {
+            int high = cells[cell];
+            int low = cell + 1 < cells.length ? cells[cell + 1] : 0;
+            out.put((byte) ((high << 4) | low));
+        }
+
+        out.putInt(bombs.size());
+        for (int i = 0; i < bombs.size(); i++) {
+            int slot = bombs.slotAt(i);
+            out.putInt(index(bombs.x[slot], bombs.y[slot]));
+            out.put(bombs.fire[slot]);
+            out.put(bombs.owner[slot]);
+            out.putInt(bombs.timer[slot]);
+            out.putInt(bombs.sequence[slot]);
+            out.putInt(bombs.mask[slot]);
+        }
+
+        out.putInt(flames.size());
+        for (int i = 0; i < flames.size(); i++) {
+            int slot = flames.slotAt(i);
+            out.putInt(index(flames.x[slot], flames.y[slot]));
+            out.put(flames.type[slot]);
+            out.putInt(flames.timer[slot]);
+        }
+
+        // Power-ups dans l'ordre des cases
+        out.putInt(powerUpLayer.cardinality());
+        for (int cell = powerUpLayer.nextSetBit(0); cell >= 0; cell = powerUpLayer.nextSetBit(cell + 1)) {
+            out.putInt(cell);
+            out.put(powerUpTypes[cell]);
+        }
+    }
+
+    /**
+     * Restaure un état écrit par {@link #writeState(ByteBuffer)} sur un plateau de mêmes dimensions
+     * Les couches de bits, les index par case et les roues sont reconstruits en un passage (O(taille)).
+     */
+    void readState(ByteBuffer in) {
+        random.readState(in);
+        currentTick = in.getInt();
+        nextBombSequence = in.getInt();
+        // Mêmes murs et mêmes bombes : champs de distances et carte du danger restent valides
+        boolean sameObstacles = hasSameObstacles(in);
+        int previousWalkableVersion = walkableVersion;
+
+        solidWalls.clearAll();
+        breakableWalls.clearAll();
+        bombLayer.clearAll();
+        fireLayer.clearAll();
+        powerUpLayer.clearAll();
+        Arrays.fill(bombAt, NO_BOMB);
+        Arrays.fill(fireCount, (short) 0);
+        bombs.clear();
+        flames.clear();
+
+        for (int cell = 0; cell < cells.length; cell += 2) {
+            int packed = in.get();
+            writeTile(cell, TILE_TYPES[(packed >> 4) & 0x0F]);
+            if (cell + 1 < cells.length) {
+                writeTile(cell + 1, TILE_TYPES[packed & 0x0F]);
+            }
+        }
+        gridVersion++; // Les caches fondés sur la grille doivent être recalculés
+
+        int bombCount = in.getInt();
+        for (int i = 0; i < bombCount; i++) {
+            int cell = in.getInt();
+            int firePower = in.get();
+            int ownerId = in.get();
+            int detonationTick = in.getInt();
+            int sequence = in.getInt();
+            int traversalMask = in.getInt();
+            int slot = insertBomb(cell % width, cell / width, firePower, ownerId, sequence, traversalMask);
+            bombs.schedule(slot, detonationTick);
+        }
+        walkableVersion = sameObstacles ? previousWalkableVersion : previousWalkableVersion + 1;
+        if (!sameObstacles) {
+            dangerDirty = true;
+        }
+
+        int explosionCount = in.getInt();
+        for (int i = 0; i < explosionCount; i++) {
+            int cell = in.getInt();
+            int typeOrdinal = in.get();
+            int expiryTick = in.getInt();
+            insertFlame(cell % width, cell / width, typeOrdinal, expiryTick);
+            fireCount[cell]++;
+            fireLayer.set(cell);
+        }
+
+        int powerUpCount = in.getInt();
+        for (int i = 0; i < powerUpCount; i++) {
+            int cell = in.getInt();
+            powerUpTypes[cell] = in.get();
+            powerUpLayer.set(cell);
+        }
+    }
+
+    /**
+     * Compare, sans rien modifier, les tuiles et les bombes d'un état sauvegardé à celles du plateau
+     * (lecture absolue à partir de la position du tampon, qui n'est pas déplacée). Les échéances
+     * étant des ticks absolus, une même bombe donne la même carte du danger à un autre tick.
+     *
+     * @return true si les cases traversables et les bombes (case, puissance, échéance) sont identiques
+     */
+    private boolean hasSameObstacles(ByteBuffer in) {
+        int position = in.position();
+        for (int cell = 0; cell < cells.length; cell += 2, position++) {
+            int packed = in.get(position);
+            if (cells[cell] != ((packed >> 4) & 0x0F) || (cell + 1 < cells.length && cells[cell + 1] != (packed & 0x0F))) {
+                return false;
+            }
+        }
+        int bombCount = in.getInt(position);
+        if (bombCount != bombs.size()) {
+            return false;
+        }
+        position += Integer.BYTES;
+        for (int i = 0; i < bombCount; i++, position += BOMB_BYTES) {
+            int slot = bombAt[in.getInt(position)];
+            if (slot == NO_BOMB || bombs.fire[slot] != in.get(position + Integer.BYTES)
+                    || bombs.timer[slot] != in.getInt(position + Integer.BYTES + 2)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -445,27 +1129,223 @@ public class GameBoard {
      */
     public void setTile(int x, int y, TileType type) {
         if (isValidPosition(x, y)) {
-            grid[x][y] = type;
-            updateGridProperty();
+            writeTile(index(x, y), type);
+            gridVersion++;
+            walkableVersion++;
+            dangerDirty = true;
         }
     }
 
+    /**
+     * Écrit une tuile dans la grille et met à jour les couches de murs
+     */
+    private void writeTile(int cell, TileType type) {
+        cells[cell] = (byte) type.ordinal();
+        solidWalls.set(cell, type == TileType.WALL);
+        breakableWalls.set(cell, type == TileType.BREAKABLE_WALL);
+    }
+
+    /**
+     * Indice plat d'une case (ligne par ligne)
+     */
+    private int index(int x, int y) {
+        return y * width + x;
+    }
+
+    /**
+     * @return Vue en lecture seule des bombes actives (non copiée)
+     */
     public List<Bomb> getBombs() {
-        return new ArrayList<>(bombs);
+        return bombsView;
+    }
+
+    public double getPowerUpDropChance() {
+        return powerUpDropChance;
     }
 
-    public List<PowerUp> getPowerUps() {
-        return new ArrayList<>(powerUps);
+    /**
+     * Active ou coupe les traces de debug émises pendant les ticks
+     */
+    void setVerbose(boolean verbose) {
+        this.verbose = verbose;
     }
 
+    /**
+     * Modifie la probabilité qu'un mur détruit laisse un power-up (équilibrage)
+     */
+    public void setPowerUpDropChance(double powerUpDropChance) {
+        if (powerUpDropChance < 0 || powerUpDropChance > 1) {
+            throw new IllegalArgumentException("Probabilité invalide : " + powerUpDropChance);
+        }
+        this.powerUpDropChance = powerUpDropChance;
+    }
+
+    public double getExtraLifeChance() {
+        return extraLifeChance;
+    }
+
+    /**
+     * Modifie la probabilité qu'un power-up laissé soit une vie extra (équilibrage)
+     */
+    public void setExtraLifeChance(double extraLifeChance) {
+        if (extraLifeChance < 0 || extraLifeChance > 1) {
+            throw new IllegalArgumentException("Probabilité invalide : " + extraLifeChance);
+        }
+        this.extraLifeChance = extraLifeChance;
+    }
+
+    /**
+     * @return Statistiques du réservoir de bombes (instances créées, réutilisations)
+     */
+    public PoolMetrics getBombPoolMetrics() {
+        return bombs;
+    }
+
+    /**
+     * @return Statistiques du réservoir d'explosions
+     */
+    public PoolMetrics getExplosionPoolMetrics() {
+        return flames;
+    }
+
+    /**
+     * @return Nombre de power-ups posés sur le plateau
+     */
+    public int getPowerUpCount() {
+        return powerUpLayer.cardinality();
+    }
+
+    /**
+     * @return Vue en lecture seule des explosions actives (non copiée)
+     */
     public List<Explosion> getExplosions() {
-        return new ArrayList<>(explosions);
+        return explosionsView;
     }
 
     public TileType getTile(int x, int y) {
         if (isValidPosition(x, y)) {
-            return grid[x][y];
+            return TILE_TYPES[cells[index(x, y)]];
         }
         return TileType.WALL;
     }
-}
\ No newline at end of file
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @return Nombre de cases de départ (joueurs prévus sur ce plateau)
+     */
+    public int getSpawnCount() {
+        return spawnCells.length;
+    }
+
+    /**
+     * @param playerIndex Indice du joueur (0 pour le joueur 1)
+     * @return Colonne de sa case de départ
+     */
+    public int getSpawnX(int playerIndex) {
+        return spawnCells[playerIndex] % width;
+    }
+
+    /**
+     * @param playerIndex Indice du joueur (0 pour le joueur 1)
+     * @return Ligne de sa case de départ
+     */
+    public int getSpawnY(int playerIndex) {
+        return spawnCells[playerIndex] / width;
+    }
+
+    /**
+     * @return Nombre de ticks simulés par ce plateau (horloge des bombes et des flammes)
+     */
+    public int getCurrentTick() {
+        return currentTick;
+    }
+
+    public int getGridVersion() {
+        return gridVersion;
+    }
+
+    public int getWalkableVersion() {
+        return walkableVersion;
+    }
+
+    /**
+     * Champ de distances (BFS) depuis la case d'un joueur, mis en cache : il n'est recalculé que si
+     * le joueur a changé de case ou si les cases traversables ont changé depuis le dernier appel.
+     * Le champ renvoyé est réutilisé par les appels suivants pour ce joueur.
+     *
+     * @param playerIndex Indice du joueur (0 pour le joueur 1)
+     * @param x           Colonne de la case du joueur
+     * @param y           Ligne de la case du joueur
+     * @return Distances, prédécesseurs et premières directions depuis cette case
+     */
+    public DistanceField getDistanceField(int playerIndex, int x, int y) {
+        if (playerIndex < 0 || playerIndex >= distanceFields.length || !isValidPosition(x, y)) {
+            throw new IllegalArgumentException("Source de distances invalide : joueur " + playerIndex + " en (" + x + "," + y + ")");
+        }
+        DistanceField field = distanceFields[playerIndex];
+        if (field == null) {
+            field = new DistanceField(width, height);
+            distanceFields[playerIndex] = field;
+        }
+        int source = index(x, y);
+        if (!field.isValid(source, walkableVersion)) {
+            field.compute(this, source, walkableVersion);
+        }
+        return field;
+    }
+
+    // Masques internes du plateau : accès réservé au paquetage, car les modifier directement
+    // désynchroniserait l'index des bombes, les versions et les caches (champs de distances, danger)
+
+    CellMask getSolidWalls() {
+        return solidWalls;
+    }
+
+    CellMask getBreakableWalls() {
+        return breakableWalls;
+    }
+
+    CellMask getBombLayer() {
+        return bombLayer;
+    }
+
+    CellMask getFireLayer() {
+        return fireLayer;
+    }
+
+    CellMask getPowerUpLayer() {
+        return powerUpLayer;
+    }
+
+    /**
+     * Vue en lecture seule sur les entités actives d'un stockage (ordre du tableau dense)
+     */
+    private static final class StoreView<H> extends AbstractList<H> implements RandomAccess {
+
+        private final EntityStore<H> store;
+
+        StoreView(EntityStore<H> store) {
+            this.store = store;
+        }
+
+        @Override
+        public H get(int index) {
+            if (index < 0 || index >= store.size()) {
+                throw new IndexOutOfBoundsException("Indice " + index + ", taille " + store.size());
+            }
+            return store.handle(store.slotAt(index));
+        }
+
+        @Override
+        public int size() {
+            return store.size();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+import java.util.Arrays;
+
+/**
+ * Moteur de simulation à pas de temps fixe
+ * Fait avancer le {@link GameModel} par ticks entiers, sans aucune dépendance à JavaFX.
+ * La boucle JavaFX du {@code GameController} n'est qu'un pilote parmi d'autres :
+ * les tests, les bots et un éventuel serveur appellent directement {@link #tick()}.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public class GameEngine {
+
+    public static final int TICKS_PER_SECOND = 60;
+    public static final double TICK_DURATION = 1.0 / TICKS_PER_SECOND;
+
+    // Temps maximal rattrapé en une seule frame (évite la spirale de la mort après une pause)
+    private static final double MAX_FRAME_TIME = 0.25;
+
+    private final GameModel gameModel;
+
+    // Entrées des joueurs, indexées par identifiant de joueur
+    private final Direction[] directions;
+    private final boolean[] bombRequests;
+
+    private long tickCount;
+    private double accumulator;
+
+    // Masques d'entrée figés au début de chaque tick, null si les entrées sont fournies directement
+    private PlayerInput input;
+
+    // Bots de la partie, qui décident au début des ticks (null s'il n'y en a pas)
+    private BotScheduler botScheduler;
+
+    // Enregistrement des entrées (rediffusion), null si inactif
+    private ReplayRecorder recorder;
+
+    /**
+     * Constructeur du moteur
+     *
+     * @param gameModel Modèle de jeu à simuler
+     */
+    public GameEngine(GameModel gameModel) {
+        this.gameModel = gameModel;
+        // Les identifiants de joueurs commencent à 1
+        this.directions = new Direction[gameModel.getPlayerCount() + 1];
+        this.bombRequests = new boolean[gameModel.getPlayerCount() + 1];
+        this.tickCount = 0;
+        this.accumulator = 0;
+
+        Arrays.fill(directions, Direction.NONE);
+    }
+
+    /**
+     * Définit la direction maintenue par un joueur
+     * Elle est appliquée à chaque tick jusqu'au prochain changement
+     *
+     * @param playerId  Numéro du joueur (1 à N)
+     * @param direction Direction (NONE pour s'arrêter)
+     */
+    public void setDirection(int playerId, Direction direction) {
+        if (isValidPlayer(playerId)) {
+            directions[playerId] = direction == null ? Direction.NONE : direction;
+        }
+    }
+
+    /**
+     * Demande la pose d'une bombe au prochain tick
+     *
+     * @param playerId Numéro du joueur (1 à N)
+     */
+    public void requestBomb(int playerId) {
+        if (isValidPlayer(playerId)) {
+            bombRequests[playerId] = true;
+        }
+    }
+
+    /**
+     * Avance la simulation d'exactement un tick
+     * Les entrées (figées depuis le {@link PlayerInput} s'il y en a un) sont appliquées avant la mise à jour du modèle
+     */
+    public void tick() {
+        if (gameModel.getGameState() != GameModel.GameState.PLAYING) {
+            // Les demandes de bombe faites pendant une pause sont ignorées
+            Arrays.fill(bombRequests, false);
+            if (input != null) {
+                input.clearPending();
+            }
+            return;
+        }
+
+        if (input != null) {
+            input.latch(this);
+        }
+        if (botScheduler != null) {
+            botScheduler.tick();
+        }
+        if (recorder != null) {
+            recorder.recordTick(directions, bombRequests);
+        }
+
+        for (int playerId = 1; playerId < directions.length; playerId++) {
+            if (bombRequests[playerId]) {
+                bombRequests[playerId] = false;
+                gameModel.placeBomb(playerId);
+            }
+            if (directions[playerId] != Direction.NONE) {
+                gameModel.movePlayer(playerId, directions[playerId], TICK_DURATION);
+            }
+        }
+
+        gameModel.tick();
+        tickCount++;
+
+        if (recorder != null) {
+            recorder.endTick();
+        }
+    }
+
+    /**
+     * Exécute plusieurs ticks d'affilée (simulation headless)
+     *
+     * @param count Nombre de ticks
+     */
+    public void runTicks(int count) {
+        for (int i = 0; i < count; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Fait avancer la simulation selon un temps réel écoulé
+     * Le temps est accumulé et consommé par ticks fixes ; le reste est conservé
+     *
+     * @param elapsedSeconds Temps réel écoulé depuis l'appel précédent
+     * @return Nombre de ticks exécutés
+     */
+    public int advance(double elapsedSeconds) {
+        if (gameModel.getGameState() != GameModel.GameState.PLAYING) {
+            accumulator = 0;
+            if (input != null) {
+                input.clearPending();
+            }
+            return 0;
+        }
+
+        accumulator += Math.min(Math.max(elapsedSeconds, 0), MAX_FRAME_TIME);
+
+        int ticks = 0;
+        while (accumulator >= TICK_DURATION) {
+            accumulator -= TICK_DURATION;
+            tick();
+            ticks++;
+        }
+        return ticks;
+    }
+
+    /**
+     * Lit les entrées des joueurs dans des masques figés au début de chaque tick
+     *
+     * @param input Masques d'entrée des joueurs de ce modèle (null pour utiliser setDirection/requestBomb)
+     */
+    public void setInput(PlayerInput input) {
+        this.input = input;
+    }
+
+    public PlayerInput getInput() {
+        return input;
+    }
+
+    /**
+     * Fait décider les bots de la partie au début de chaque tick
+     *
+     * @param botScheduler Ordonnanceur des bots (null s'il n'y en a pas)
+     */
+    public void setBotScheduler(BotScheduler botScheduler) {
+        this.botScheduler = botScheduler;
+    }
+
+    public BotScheduler getBotScheduler() {
+        return botScheduler;
+    }
+
+    /**
+     * Enregistre les entrées de chaque tick dans une rediffusion
+     *
+     * @param recorder Enregistreur créé sur le modèle de ce moteur (null pour arrêter)
+     */
+    public void setRecorder(ReplayRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    public ReplayRecorder getRecorder() {
+        return recorder;
+    }
+
+    private boolean isValidPlayer(int playerId) {
+        return playerId >= 1 && playerId < directions.length;
+    }
+
+    // Getters
+
+    public GameModel getGameModel() {
+        return gameModel;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public Direction getDirection(int playerId) {
+        return isValidPlayer(playerId) ? directions[playerId] : Direction.NONE;
+    }
+}
@@ -0,0 +1,81 @@
+package fr.amu.iut.bomberman.model;
+
+/**
+ * Événement du jeu lu depuis le {@link GameEventBus}
+ * Un seul objet par abonnement est réutilisé pour chaque événement lu (aucune allocation) :
+ * ne pas le conserver après l'appel du gestionnaire.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class GameEvent {
+
+    /**
+     * Types d'événements publiés par le modèle
+     */
+    public enum Type {
+        GAME_STARTED,       // Aucun paramètre
+        ROUND_STARTED,      // value = numéro du round
+        ROUND_ENDED,        // playerId = gagnant (0 si match nul)
+        GAME_ENDED,         // playerId = gagnant
+        PLAYER_HIT,         // playerId, x, y = case de l'impact
+        BOMB_PLACED,        // playerId, x, y = case de la bombe, value = portée
+        POWER_UP_COLLECTED  // playerId, x, y = case du power-up, value = ordinal du PowerUp.Type
+    }
+
+    static final Type[] TYPES = Type.values();
+
+    private Type type;
+    private int tick;
+    private int playerId;
+    private int x;
+    private int y;
+    private int value;
+
+    GameEvent() {
+    }
+
+    void set(Type type, int tick, int playerId, int x, int y, int value) {
+        this.type = type;
+        this.tick = tick;
+        this.playerId = playerId;
+        this.x = x;
+        this.y = y;
+        this.value = value;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return Tick du plateau pendant lequel l'événement a été publié
+     */
+    public int getTick() {
+        return tick;
+    }
+
+    /**
+     * @return Identifiant du joueur concerné (0 si aucun)
+     */
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(tick " + tick + ", joueur " + playerId + ", " + x + ", " + y + ", " + value + ")";
+    }
+}
@@ -0,0 +1,178 @@
+package fr.amu.iut.bomberman.model;
+
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bus d'événements du jeu : tampon circulaire à un seul producteur et plusieurs lecteurs
+ * <p>
+ * Le tick publie des enregistrements compacts (quelques entiers) sans allocation ni appel de code
+ * externe ; chaque consommateur (son, interface, statistiques, réseau) possède son propre
+ * {@link Subscription} et vide les événements par lots, au rythme et sur le thread qu'il veut.
+ * <p>
+ * Le producteur n'attend jamais : un lecteur trop lent (environ {@link #getCapacity()} événements
+ * de retard) perd les plus anciens, et le nombre d'événements perdus lui est signalé.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class GameEventBus {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    // Champs d'un enregistrement : type, tick, joueur, x, y, valeur
+    private static final int STRIDE = 6;
+
+    private final int capacity;
+    private final int mask;
+    private final int[] slots;
+
+    // Nombre d'événements publiés (écriture par le seul thread de simulation)
+    private final AtomicLong published = new AtomicLong();
+
+    /**
+     * Constructeur avec la capacité par défaut
+     */
+    public GameEventBus() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructeur
+     *
+     * @param capacity Nombre d'événements conservés (puissance de deux)
+     */
+    public GameEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacité du bus invalide : " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new int[capacity * STRIDE];
+    }
+
+    /**
+     * Publie un événement (thread de simulation uniquement, sans allocation)
+     */
+    void publish(GameEvent.Type type, int tick, int playerId, int x, int y, int value) {
+        long sequence = published.get();
+        int base = (int) (sequence & mask) * STRIDE;
+        slots[base] = type.ordinal();
+        slots[base + 1] = tick;
+        slots[base + 2] = playerId;
+        slots[base + 3] = x;
+        slots[base + 4] = y;
+        slots[base + 5] = value;
+        // Rend l'enregistrement visible aux lecteurs des autres threads
+        published.setRelease(sequence + 1);
+    }
+
+    /**
+     * Crée un abonnement qui lira les événements publiés à partir de maintenant
+     */
+    public Subscription subscribe() {
+        return new Subscription(published.getAcquire());
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return Nombre total d'événements publiés
+     */
+    public long getPublishedCount() {
+        return published.getAcquire();
+    }
+
+    /**
+     * Gestionnaire appelé pour chaque événement d'un lot
+     */
+    @FunctionalInterface
+    public interface Handler {
+        void onEvent(GameEvent event);
+    }
+
+    /**
+     * Position de lecture d'un consommateur (à utiliser depuis un seul thread)
+     */
+    public final class Subscription {
+
+        private final GameEvent event = new GameEvent();
+        private long cursor;
+        private long dropped;
+
+        private Subscription(long cursor) {
+            this.cursor = cursor;
+        }
+
+        /**
+         * Lit tous les événements en attente
+         *
+         * @return Nombre d'événements transmis au gestionnaire
+         */
+        public int drain(Handler handler) {
+            return drain(handler, Integer.MAX_VALUE);
+        }
+
+        /**
+         * Lit au plus {@code maxEvents} événements en attente, dans l'ordre de publication
+         *
+         * @return Nombre d'événements transmis au gestionnaire
+         */
+        public int drain(Handler handler, int maxEvents) {
+            long available = published.getAcquire();
+            skipOverwritten(available);
+
+            int count = 0;
+            while (cursor < available && count < maxEvents) {
+                int base = (int) (cursor & mask) * STRIDE;
+                int type = slots[base];
+                int tick = slots[base + 1];
+                int playerId = slots[base + 2];
+                int x = slots[base + 3];
+                int y = slots[base + 4];
+                int value = slots[base + 5];
+
+                // Le producteur a pu réécrire la case pendant la lecture : l'enregistrement est perdu
+                VarHandle.loadLoadFence();
+                if (published.getAcquire() - cursor >= capacity) {
+                    skipOverwritten(published.getAcquire());
+                    continue;
+                }
+
+                cursor++;
+                event.set(GameEvent.TYPES[type], tick, playerId, x, y, value);
+                handler.onEvent(event);
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Avance le curseur au plus ancien enregistrement intact
+         * (celui de rang {@code available - capacity} peut être en cours de réécriture)
+         */
+        private void skipOverwritten(long available) {
+            long oldest = available - capacity + 1;
+            if (cursor < oldest) {
+                dropped += oldest - cursor;
+                cursor = oldest;
+            }
+        }
+
+        /**
+         * @return Nombre d'événements en attente de lecture (perdus exclus)
+         */
+        public int pending() {
+            return (int) Math.min(capacity - 1, published.getAcquire() - cursor);
+        }
+
+        /**
+         * @return Nombre d'événements perdus parce que ce lecteur était trop en retard
+         */
+        public long getDroppedCount() {
+            return dropped;
+        }
+    }
+}
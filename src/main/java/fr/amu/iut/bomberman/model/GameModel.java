@@ -1,12 +1,9 @@
 package fr.amu.iut.bomberman.model;
 
 import fr.amu.iut.bomberman.utils.Direction;
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-import javafx.beans.property.SimpleObjectProperty;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -29,35 +26,108 @@ public class GameModel {
         GAME_OVER
     }
 
-    private final ObjectProperty<GameState> gameState;
-    private final IntegerProperty currentRound;
-    private final IntegerProperty player1Score;
-    private final IntegerProperty player2Score;
-    private final IntegerProperty timeRemaining;
+    private static final GameState[] GAME_STATES = GameState.values();
+    private static final PowerUp.Type[] POWER_UP_TYPES = PowerUp.Type.values();
+    // Directions d'échappement autour d'une bombe : HAUT, BAS, GAUCHE, DROITE
+    private static final int[][] ESCAPE_DIRECTIONS = {{0, -1}, {0, 1}, {-1, 0}, {1, 0}};
+
+    // Nombre de joueurs accepté par partie
+    public static final int MIN_PLAYERS = 2;
+    public static final int MAX_PLAYERS = 16;
+
+    // État du jeu (champs simples, sans propriétés JavaFX, pour la simulation headless)
+    private GameState gameState;
+    private int currentRound;
+    private int timeRemaining;
+    private int roundWinnerId; // Gagnant du dernier round terminé (0 : match nul ou round en cours)
 
     private final GameBoard gameBoard;
-    private Player player1;
-    private Player player2;
+    private final CollisionSolver collisionSolver;
+
+    // Joueurs et scores, indexés par (identifiant - 1)
+    private final Player[] players;
+    private final int[] scores;
     private int roundsToWin;
+
+    private final long seed;
+    private final GameRandom random;
     private int roundTimeLimit; // en secondes
 
+    // Événements publiés pendant le tick, lus par lots par les consommateurs (son, interface...)
+    private final GameEventBus events;
 
-    private List<GameModelListener> listeners;
+    // Traces de debug pendant les ticks (coupées sur les copies de simulation des bots)
+    private boolean verbose;
 
     /**
-     * Constructeur du modèle de jeu
+     * Constructeur du modèle de jeu sur le plateau classique (15x13, 2 joueurs)
      */
     public GameModel() {
-        this.gameState = new SimpleObjectProperty<>(GameState.MENU);
-        this.currentRound = new SimpleIntegerProperty(1);
-        this.player1Score = new SimpleIntegerProperty(0);
-        this.player2Score = new SimpleIntegerProperty(0);
-        this.timeRemaining = new SimpleIntegerProperty(180); // 3 minutes par défaut
+        this(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT);
+    }
+
+    /**
+     * Constructeur du modèle de jeu sur un plateau dimensionné pour la partie (2 joueurs)
+     *
+     * @param boardWidth  Largeur du plateau en cases
+     * @param boardHeight Hauteur du plateau en cases
+     */
+    public GameModel(int boardWidth, int boardHeight) {
+        this(boardWidth, boardHeight, MIN_PLAYERS);
+    }
+
+    /**
+     * Constructeur du modèle de jeu pour une partie à N joueurs
+     *
+     * @param boardWidth  Largeur du plateau en cases
+     * @param boardHeight Hauteur du plateau en cases
+     * @param playerCount Nombre de joueurs (entre {@link #MIN_PLAYERS} et {@link #MAX_PLAYERS})
+     */
+    public GameModel(int boardWidth, int boardHeight, int playerCount) {
+        this(boardWidth, boardHeight, playerCount, System.nanoTime());
+    }
+
+    /**
+     * Constructeur d'une partie reproductible
+     * Toute l'aléa de la partie découle de la graine : deux modèles de même graine,
+     * soumis aux mêmes entrées, évoluent à l'identique.
+     *
+     * @param boardWidth  Largeur du plateau en cases
+     * @param boardHeight Hauteur du plateau en cases
+     * @param playerCount Nombre de joueurs (entre {@link #MIN_PLAYERS} et {@link #MAX_PLAYERS})
+     * @param seed        Graine de la partie
+     */
+    public GameModel(int boardWidth, int boardHeight, int playerCount, long seed) {
+        this(boardWidth, boardHeight, playerCount, seed, true);
+    }
 
-        this.gameBoard = new GameBoard();
+    /**
+     * Constructeur d'une partie reproductible, avec ou sans traces de debug dès sa création
+     * (copies de simulation des bots : ni plateau initial ni joueurs restaurés affichés)
+     *
+     * @param verbose Traces de debug de la partie, du plateau et des joueurs
+     */
+    GameModel(int boardWidth, int boardHeight, int playerCount, long seed, boolean verbose) {
+        if (playerCount < MIN_PLAYERS || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("Nombre de joueurs invalide : " + playerCount);
+        }
+        this.gameState = GameState.MENU;
+        this.currentRound = 1;
+        this.timeRemaining = 180; // 3 minutes par défaut
+
+        // Générateur de la partie : le plateau et chaque bot reçoivent leur propre branche
+        this.seed = seed;
+        this.random = new GameRandom(seed);
+
+        // Le plateau fournit la table des cases de départ (une par joueur)
+        this.verbose = verbose;
+        this.gameBoard = new GameBoard(boardWidth, boardHeight, playerCount, random.split(), verbose);
+        this.collisionSolver = new CollisionSolver(gameBoard);
+        this.players = new Player[playerCount];
+        this.scores = new int[playerCount];
         this.roundsToWin = 3; // Valeur par défaut
         this.roundTimeLimit = 180; // Valeur par défaut
-        this.listeners = new ArrayList<>();
+        this.events = new GameEventBus();
     }
 
 
@@ -70,32 +140,49 @@ public class GameModel {
      * @param timeLimit   Temps limite par round en secondes
      */
     public void startNewGame(String player1Name, String player2Name, int roundsToWin, int timeLimit) {
+        startNewGame(new String[]{player1Name, player2Name}, roundsToWin, timeLimit);
+    }
+
+    /**
+     * Initialise une nouvelle partie à N joueurs
+     *
+     * @param playerNames Noms des joueurs, un par joueur prévu à la création du modèle
+     * @param roundsToWin Nombre de rounds à gagner pour remporter la partie
+     * @param timeLimit   Temps limite par round en secondes
+     */
+    public void startNewGame(String[] playerNames, int roundsToWin, int timeLimit) {
+        if (playerNames.length != players.length) {
+            throw new IllegalArgumentException("Cette partie attend " + players.length + " joueurs, reçu "
+                    + playerNames.length);
+        }
+
         // Enregistrer les paramètres de jeu
         this.roundsToWin = roundsToWin;
         this.roundTimeLimit = timeLimit;
 
-        // Créer les joueurs avec positions corrigées
-        // Joueur 1 en haut à gauche (1,1)
-        player1 = new Player(1, player1Name, 1.5, 1.5);
-
-        // Joueur 2 en bas à droite
-        // La grille fait 15x13, donc le coin bas-droit est (13,11)
-        player2 = new Player(2, player2Name, 13.5, 11.5);
+        if (verbose) {
+            System.out.println("=== NOUVELLE PARTIE ===");
+            System.out.println("Grille: " + gameBoard.getWidth() + "x" + gameBoard.getHeight() + ", " + players.length + " joueurs");
+        }
 
-        System.out.println("=== NOUVELLE PARTIE ===");
-        System.out.println("Grille: " + GameBoard.GRID_WIDTH + "x" + GameBoard.GRID_HEIGHT);
-        System.out.println("Joueur 1 créé à la position: (" + player1.getX() + ", " + player1.getY() + ")");
-        System.out.println("Joueur 2 créé à la position: (" + player2.getX() + ", " + player2.getY() + ")");
-        System.out.println("Paramètres: " + roundsToWin + " rounds à gagner, " + timeLimit + " secondes par round");
+        // Créer les joueurs sur leurs cases de départ
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player(i + 1, playerNames[i], getSpawnX(i), getSpawnY(i), verbose);
+            if (verbose) {
+                System.out.println("Joueur " + (i + 1) + " créé à la position: (" + players[i].getX() + ", " + players[i].getY() + ")");
+            }
+        }
+        if (verbose) {
+            System.out.println("Paramètres: " + roundsToWin + " rounds à gagner, " + timeLimit + " secondes par round");
+        }
 
         // Réinitialiser les scores
-        player1Score.set(0);
-        player2Score.set(0);
-        currentRound.set(1);
+        Arrays.fill(scores, 0);
+        currentRound = 1;
 
         // Démarrer le premier round
         startNewRound();
-        gameState.set(GameState.PLAYING);
+        gameState = GameState.PLAYING;
 
         notifyGameStarted();
     }
@@ -106,42 +193,51 @@ public class GameModel {
     private void startNewRound() {
         gameBoard.reset();
 
-        // Réinitialiser les joueurs aux bonnes positions
-        player1.reset(1.5, 1.5, true);
-        player2.reset(13.5, 11.5, true);  // CORRECTION ICI
+        // Réinitialiser les joueurs sur leurs cases de départ
+        for (int i = 0; i < players.length; i++) {
+            players[i].reset(getSpawnX(i), getSpawnY(i), true);
+        }
 
-        System.out.println("=== NOUVEAU ROUND ===");
-        System.out.println("Round " + currentRound.get() + " démarré");
-        System.out.println("Joueur 1 reset à: (" + player1.getX() + ", " + player1.getY() + ")");
-        System.out.println("Joueur 2 reset à: (" + player2.getX() + ", " + player2.getY() + ")");
+        if (verbose) {
+            System.out.println("=== NOUVEAU ROUND ===");
+            System.out.println("Round " + currentRound + " démarré");
+        }
 
-        timeRemaining.set(roundTimeLimit);
+        timeRemaining = roundTimeLimit;
+        roundTicks = 0;
+        roundWinnerId = 0;
 
         notifyRoundStarted();
     }
 
     /**
-     * Met à jour l'état du jeu
-     *
-     * @param deltaTime Temps écoulé depuis la dernière mise à jour
+     * Avance la simulation d'un tick fixe (voir {@link GameEngine#TICK_DURATION})
+     * Aucune dépendance à JavaFX : peut être appelé depuis un test ou un serveur
      */
-    public void update(double deltaTime) {
-        if (gameState.get() != GameState.PLAYING) {
+    public void tick() {
+        if (gameState != GameState.PLAYING) {
             return;
         }
 
         // Mise à jour du temps
-        updateTimer(deltaTime);
+        updateTimer();
+        if (gameState != GameState.PLAYING) {
+            return; // Le round s'est terminé par timeout
+        }
 
-        // Mise à jour du plateau
-        List<Bomb> explodedBombs = gameBoard.update(deltaTime);
-        for (Bomb bomb : explodedBombs) {
-            gameBoard.explodeBomb(bomb);
+        // Écoulement des effets temporaires (uniquement pendant le jeu : la pause les suspend)
+        for (Player player : players) {
+            player.tickEffects();
+        }
+
+        // Mise à jour du plateau (les réactions en chaîne sont résolues dans le même tick)
+        List<Bomb> explodedBombs = gameBoard.tick();
+        for (int i = 0; i < explodedBombs.size(); i++) {
+            Bomb bomb = explodedBombs.get(i);
             // Décrémenter le compteur de bombes du joueur
-            if (bomb.getOwnerId() == 1) {
-                player1.decrementBombsPlaced();
-            } else if (bomb.getOwnerId() == 2) {
-                player2.decrementBombsPlaced();
+            Player owner = getPlayer(bomb.getOwnerId());
+            if (owner != null) {
+                owner.decrementBombsPlaced();
             }
         }
 
@@ -155,35 +251,23 @@ public class GameModel {
         checkRoundEnd();
     }
 
-    private double accumulatedTime = 0; // Accumulateur pour deltaTime
+    private int roundTicks = 0; // Nombre de ticks écoulés dans le round
 
     /**
-     * Met à jour le timer du round en minutes:secondes
-     *
-     * @param deltaTime Temps écoulé depuis la dernière mise à jour (en secondes)
+     * Met à jour le timer du round : une seconde toutes les {@link GameEngine#TICKS_PER_SECOND} ticks
      */
-    private void updateTimer(double deltaTime) {
-        if (gameState.get() != GameState.PLAYING) {
+    private void updateTimer() {
+        roundTicks++;
+        if (roundTicks % GameEngine.TICKS_PER_SECOND != 0) {
             return;
         }
 
-        // Ajouter deltaTime à l'accumulateur
-        accumulatedTime += deltaTime;
-
-        // Décrémenter le temps restant par secondes entières
-        while (accumulatedTime >= 1.0) {
-            int currentTime = timeRemaining.get();
-            int newTime = currentTime - 1;
-
-            if (newTime <= 0) {
-                timeRemaining.set(0);
-                endRoundByTimeout();
-                return;
-            } else {
-                timeRemaining.set(newTime);
-            }
-
-            accumulatedTime -= 1.0; // Réduire l'accumulateur
+        int newTime = timeRemaining - 1;
+        if (newTime <= 0) {
+            timeRemaining = 0;
+            endRoundByTimeout();
+        } else {
+            timeRemaining = newTime;
         }
     }
 
@@ -194,11 +278,15 @@ public class GameModel {
         // Définition de la hitbox : tolérance en pourcentage pour considérer qu'un joueur est sur une case
         double hitboxSize = 0.7; // 70% de la taille d'une case pour la détection de collision
 
-        // Vérifier pour le joueur 1
-        checkPlayerExplosionCollision(player1, 1.5, 1.5, hitboxSize);
+        // Aucune flamme active : rien à tester
+        if (gameBoard.getExplosions().isEmpty()) {
+            return;
+        }
 
-        // Vérifier pour le joueur 2
-        checkPlayerExplosionCollision(player2, 13.5, 11.5, hitboxSize);
+        // Chaque joueur touché repart de sa case de départ
+        for (int i = 0; i < players.length; i++) {
+            checkPlayerExplosionCollision(players[i], getSpawnX(i), getSpawnY(i), hitboxSize);
+        }
     }
 
     /**
@@ -215,33 +303,30 @@ public class GameModel {
 
         double playerX = player.getX();
         double playerY = player.getY();
+        double hitboxSquared = hitboxSize * hitboxSize;
+
+        // Cases proches du joueur, lues dans la couche de feu du plateau (un bit par case)
+        CellMask fireLayer = gameBoard.getFireLayer();
+        int width = gameBoard.getWidth();
+        int minX = Math.max(0, (int) Math.floor(playerX - hitboxSize));
+        int maxX = Math.min(width - 1, (int) Math.floor(playerX + hitboxSize));
+        int minY = Math.max(0, (int) Math.floor(playerY - hitboxSize));
+        int maxY = Math.min(gameBoard.getHeight() - 1, (int) Math.floor(playerY + hitboxSize));
+
+        for (int gridX = minX; gridX <= maxX; gridX++) {
+            for (int gridY = minY; gridY <= maxY; gridY++) {
+                if (!fireLayer.get(gridY * width + gridX)) {
+                    continue;
+                }
 
-        // Vérifier les cases autour du joueur avec une tolérance
-        for (int offsetX = -1; offsetX <= 1; offsetX++) {
-            for (int offsetY = -1; offsetY <= 1; offsetY++) {
-                // Calculer la position de la grille à vérifier
-                int gridX = (int) Math.floor(playerX + offsetX * hitboxSize);
-                int gridY = (int) Math.floor(playerY + offsetY * hitboxSize);
-
-                // Vérifier si cette case est dans les limites de la grille
-                if (gridX >= 0 && gridX < GameBoard.GRID_WIDTH &&
-                        gridY >= 0 && gridY < GameBoard.GRID_HEIGHT) {
-
-                    // Si une explosion est présente à cette position
-                    if (gameBoard.hasExplosion(gridX, gridY)) {
-                        // Calculer la distance entre le centre du joueur et le centre de cette case
-                        double centerX = gridX + 0.5;
-                        double centerY = gridY + 0.5;
-                        double distance = Math.sqrt(Math.pow(playerX - centerX, 2) + Math.pow(playerY - centerY, 2));
-
-                        // Si le joueur est assez proche du centre de l'explosion
-                        if (distance < hitboxSize) {
-                            player.reset(resetX, resetY); // Réinitialiser la position
-                            player.loseLife();
-                            notifyPlayerHit(player);
-                            return; // Sortir après avoir touché le joueur une fois
-                        }
-                    }
+                // Distance au carré entre le centre du joueur et le centre de la case en feu
+                double dx = playerX - (gridX + 0.5);
+                double dy = playerY - (gridY + 0.5);
+                if (dx * dx + dy * dy < hitboxSquared) {
+                    player.reset(resetX, resetY); // Réinitialiser la position
+                    player.loseLife();
+                    notifyPlayerHit(player, gridX, gridY);
+                    return; // Sortir après avoir touché le joueur une fois
                 }
             }
         }
@@ -254,11 +339,9 @@ public class GameModel {
         // Définir la taille de la hitbox - cohérence avec la détection des explosions
         double hitboxSize = 0.7;
 
-        // Vérifier pour le joueur 1
-        checkPlayerPowerUpCollection(player1, hitboxSize);
-
-        // Vérifier pour le joueur 2
-        checkPlayerPowerUpCollection(player2, hitboxSize);
+        for (Player player : players) {
+            checkPlayerPowerUpCollection(player, hitboxSize);
+        }
     }
 
     /**
@@ -284,8 +367,7 @@ public class GameModel {
                 int gridY = centerGridY + offsetY;
 
                 // Vérifier si la case est dans les limites de la grille
-                if (gridX >= 0 && gridX < GameBoard.GRID_WIDTH &&
-                        gridY >= 0 && gridY < GameBoard.GRID_HEIGHT) {
+                if (gameBoard.isValidPosition(gridX, gridY)) {
 
                     // Calculer la distance entre le centre du joueur et le centre de cette case
                     double centerX = gridX + 0.5;
@@ -294,10 +376,10 @@ public class GameModel {
 
                     // Si le joueur est assez proche d'un power-up
                     if (distance < hitboxSize) {
-                        PowerUp powerUp = gameBoard.collectPowerUp(gridX, gridY);
+                        PowerUp.Type powerUp = gameBoard.collectPowerUp(gridX, gridY);
                         if (powerUp != null) {
-                            player.applyPowerUp(powerUp.getType());
-                            notifyPowerUpCollected(player, powerUp);
+                            player.applyPowerUp(powerUp);
+                            notifyPowerUpCollected(player, gridX, gridY, powerUp);
                             return; // Ne collecter qu'un power-up à la fois
                         }
                     }
@@ -310,18 +392,21 @@ public class GameModel {
      * Vérifie si le round est terminé
      */
     private void checkRoundEnd() {
-        boolean p1Alive = player1.isAlive();
-        boolean p2Alive = player2.isAlive();
+        int aliveCount = 0;
+        Player lastAlive = null;
+        for (Player player : players) {
+            if (player.isAlive()) {
+                aliveCount++;
+                lastAlive = player;
+            }
+        }
 
-        if (!p1Alive && !p2Alive) {
+        if (aliveCount == 0) {
             // Match nul
             endRound(null);
-        } else if (!p1Alive) {
-            // Joueur 2 gagne le round
-            endRound(player2);
-        } else if (!p2Alive) {
-            // Joueur 1 gagne le round
-            endRound(player1);
+        } else if (aliveCount == 1) {
+            // Le dernier survivant gagne le round
+            endRound(lastAlive);
         }
     }
 
@@ -329,14 +414,18 @@ public class GameModel {
      * Termine le round par timeout
      */
     private void endRoundByTimeout() {
-        // En cas de timeout, le joueur avec le plus de vies gagne
-        if (player1.getLives() > player2.getLives()) {
-            endRound(player1);
-        } else if (player2.getLives() > player1.getLives()) {
-            endRound(player2);
-        } else {
-            endRound(null); // Match nul
+        // En cas de timeout, le joueur avec le plus de vies gagne (égalité en tête = match nul)
+        Player best = null;
+        boolean tie = false;
+        for (Player player : players) {
+            if (best == null || player.getLives() > best.getLives()) {
+                best = player;
+                tie = false;
+            } else if (player.getLives() == best.getLives()) {
+                tie = true;
+            }
         }
+        endRound(tie ? null : best);
     }
 
     /**
@@ -345,21 +434,18 @@ public class GameModel {
      * @param winner Joueur gagnant (null si match nul)
      */
     private void endRound(Player winner) {
-        gameState.set(GameState.ROUND_OVER);
+        gameState = GameState.ROUND_OVER;
+        roundWinnerId = winner != null ? winner.getPlayerNumber() : 0;
 
         if (winner != null) {
-            if (winner.getPlayerNumber() == 1) {
-                player1Score.set(player1Score.get() + 1);
-            } else {
-                player2Score.set(player2Score.get() + 1);
-            }
+            scores[winner.getPlayerNumber() - 1]++;
         }
 
         notifyRoundEnded(winner);
 
         // Vérifier si la partie est terminée
-        if (player1Score.get() >= roundsToWin || player2Score.get() >= roundsToWin) {
-            endGame();
+        if (winner != null && scores[winner.getPlayerNumber() - 1] >= roundsToWin) {
+            endGame(winner);
         }
     }
 
@@ -367,19 +453,20 @@ public class GameModel {
      * Continue vers le round suivant
      */
     public void continueToNextRound() {
-        if (gameState.get() == GameState.ROUND_OVER) {
-            currentRound.set(currentRound.get() + 1);
+        if (gameState == GameState.ROUND_OVER) {
+            currentRound++;
             startNewRound();
-            gameState.set(GameState.PLAYING);
+            gameState = GameState.PLAYING;
         }
     }
 
     /**
      * Termine la partie
+     *
+     * @param winner Joueur ayant atteint le nombre de rounds à gagner
      */
-    private void endGame() {
-        gameState.set(GameState.GAME_OVER);
-        Player winner = player1Score.get() >= roundsToWin ? player1 : player2;
+    private void endGame(Player winner) {
+        gameState = GameState.GAME_OVER;
         notifyGameEnded(winner);
     }
 
@@ -387,123 +474,61 @@ public class GameModel {
      * Met le jeu en pause ou reprend
      */
     public void togglePause() {
-        if (gameState.get() == GameState.PLAYING) {
-            gameState.set(GameState.PAUSED);
-        } else if (gameState.get() == GameState.PAUSED) {
-            gameState.set(GameState.PLAYING);
+        if (gameState == GameState.PLAYING) {
+            gameState = GameState.PAUSED;
+        } else if (gameState == GameState.PAUSED) {
+            gameState = GameState.PLAYING;
         }
     }
 
     /**
      * Déplace un joueur
      *
-     * @param playerId  Numéro du joueur (1 ou 2)
+     * @param playerId  Numéro du joueur (1 à N)
      * @param direction Direction du mouvement
      * @param deltaTime Temps écoulé
      */
     public void movePlayer(int playerId, Direction direction, double deltaTime) {
-        if (gameState.get() != GameState.PLAYING) return;
+        if (gameState != GameState.PLAYING) return;
+        if (direction == null || direction == Direction.NONE) return;
 
-        Player player = (playerId == 1) ? player1 : player2;
+        Player player = getPlayer(playerId);
         if (player == null || !player.isAlive()) return;
 
         // Sauvegarder la position actuelle
         double oldX = player.getX();
         double oldY = player.getY();
 
-        // Calculer la nouvelle position
-        double moveDistance = player.getSpeed() * deltaTime;
-        double newX = oldX;
-        double newY = oldY;
-
-        switch (direction) {
-            case UP -> newY -= moveDistance;
-            case DOWN -> newY += moveDistance;
-            case LEFT -> newX -= moveDistance;
-            case RIGHT -> newX += moveDistance;
-        }
-
-        // Vérifier si le mouvement est possible
-        if (canMoveTo(player, newX, newY)) {
-            // Effectuer le mouvement
-            player.setPosition(newX, newY);
+        // Déplacement balayé (aucune case sautée, glissement sur les coins)
+        if (collisionSolver.move(player, direction, player.getSpeed() * deltaTime)) {
             player.setDirection(direction);
 
             // Vérifier si le joueur sort de sa bombe
-            checkPlayerLeavingBomb(player, oldX, oldY, newX, newY);
-        }
-    }
-
-    /**
-     * Vérifie si un joueur peut se déplacer à une position donnée
-     * Version améliorée avec gestion des bombes
-     */
-    private boolean canMoveTo(Player player, double newX, double newY) {
-        // Taille du joueur (hitbox)
-        double playerRadius = 0.3;
-
-        // Vérifier les limites du plateau
-        if (newX - playerRadius < 0 || newX + playerRadius > GameBoard.GRID_WIDTH ||
-                newY - playerRadius < 0 || newY + playerRadius > GameBoard.GRID_HEIGHT) {
-            return false;
+            checkPlayerLeavingBomb(player, oldX, oldY);
         }
-
-        // Vérifier les 4 coins du joueur
-        double[][] corners = {
-                {newX - playerRadius, newY - playerRadius}, // Haut-gauche
-                {newX + playerRadius, newY - playerRadius}, // Haut-droite
-                {newX - playerRadius, newY + playerRadius}, // Bas-gauche
-                {newX + playerRadius, newY + playerRadius}  // Bas-droite
-        };
-
-        for (double[] corner : corners) {
-            int tileX = (int) Math.floor(corner[0]);
-            int tileY = (int) Math.floor(corner[1]);
-
-            // Vérifier les limites de la grille
-            if (tileX < 0 || tileX >= GameBoard.GRID_WIDTH ||
-                    tileY < 0 || tileY >= GameBoard.GRID_HEIGHT) {
-                return false;
-            }
-
-            // Vérifier les murs
-            GameBoard.TileType tile = gameBoard.getTile(tileX, tileY);
-            if (tile == GameBoard.TileType.WALL || tile == GameBoard.TileType.BREAKABLE_WALL) {
-                return false;
-            }
-
-            // Vérifier les bombes
-            for (Bomb bomb : gameBoard.getBombs()) {
-                if (bomb.getX() == tileX && bomb.getY() == tileY) {
-                    // Le joueur peut traverser sa propre bombe s'il est autorisé
-                    if (!bomb.canBeTraversedBy(player.getPlayerId())) {
-                        return false;
-                    }
-                }
-            }
-        }
-
-        return true;
     }
 
     /**
-     * Vérifie si le joueur sort d'une bombe et met à jour les permissions
+     * Vérifie si le joueur a quitté une bombe qu'il traversait et met à jour les permissions
+     * (cases recouvertes par la hitbox avant le mouvement et plus après)
      */
-    private void checkPlayerLeavingBomb(Player player, double oldX, double oldY, double newX, double newY) {
-        int oldTileX = (int) Math.round(oldX);
-        int oldTileY = (int) Math.round(oldY);
-        int newTileX = (int) Math.round(newX);
-        int newTileY = (int) Math.round(newY);
-
-        // Si le joueur a changé de case
-        if (oldTileX != newTileX || oldTileY != newTileY) {
-            // Vérifier s'il y avait une bombe à l'ancienne position
-            for (Bomb bomb : gameBoard.getBombs()) {
-                if (bomb.getX() == oldTileX && bomb.getY() == oldTileY) {
+    private void checkPlayerLeavingBomb(Player player, double oldX, double oldY) {
+        int firstX = CollisionSolver.firstCell(oldX - CollisionSolver.PLAYER_RADIUS);
+        int lastX = CollisionSolver.lastCell(oldX + CollisionSolver.PLAYER_RADIUS);
+        int firstY = CollisionSolver.firstCell(oldY - CollisionSolver.PLAYER_RADIUS);
+        int lastY = CollisionSolver.lastCell(oldY + CollisionSolver.PLAYER_RADIUS);
+
+        for (int tileY = firstY; tileY <= lastY; tileY++) {
+            for (int tileX = firstX; tileX <= lastX; tileX++) {
+                Bomb bomb = gameBoard.getBombAt(tileX, tileY);
+                if (bomb != null && bomb.canBeTraversedBy(player.getPlayerId())
+                        && !CollisionSolver.overlaps(player.getX(), player.getY(), tileX, tileY)) {
                     // Le joueur ne peut plus traverser cette bombe
                     bomb.setCanBeTraversedBy(player.getPlayerId(), false);
-                    System.out.println("Joueur " + player.getPlayerId() +
-                            " a quitté sa bombe à (" + oldTileX + ", " + oldTileY + ")");
+                    if (verbose) {
+                        System.out.println("Joueur " + player.getPlayerId() +
+                                " a quitté sa bombe à (" + tileX + ", " + tileY + ")");
+                    }
                 }
             }
         }
@@ -513,70 +538,74 @@ public class GameModel {
      * Place une bombe pour un joueur
      */
     public void placeBomb(int playerId) {
-        Player player = (playerId == 1) ? player1 : player2;
+        Player player = getPlayer(playerId);
 
-        if (player == null || !player.isAlive() || gameState.get() != GameState.PLAYING) {
-            System.out.println("Impossible de placer une bombe - État invalide");
+        if (player == null || !player.isAlive() || gameState != GameState.PLAYING) {
+            log("Impossible de placer une bombe - État invalide");
             return;
         }
 
         // Vérifier si le joueur peut encore placer des bombes
         if (player.getBombsPlaced() >= player.getMaxBombs()) {
-            System.out.println("Joueur " + playerId + " a atteint sa limite de bombes");
+            if (verbose) {
+                log("Joueur " + playerId + " a atteint sa limite de bombes");
+            }
             return;
         }
 
-        // Position actuelle du joueur
-        int playerX = (int) Math.round(player.getX());
-        int playerY = (int) Math.round(player.getY());
+        // Case contenant le centre du joueur
+        int playerX = (int) Math.floor(player.getX());
+        int playerY = (int) Math.floor(player.getY());
 
         // Placer la bombe directement sur la case du joueur
 
-        System.out.println("=== PLACEMENT BOMBE ===");
-        System.out.println("Joueur " + playerId + " position: (" + player.getX() + ", " + player.getY() + ")");
-        System.out.println("Case cible pour la bombe: (" + playerX + ", " + playerY + ")");
+        if (verbose) {
+            System.out.println("=== PLACEMENT BOMBE ===");
+            System.out.println("Joueur " + playerId + " position: (" + player.getX() + ", " + player.getY() + ")");
+            System.out.println("Case cible pour la bombe: (" + playerX + ", " + playerY + ")");
+        }
 
         // Vérifier si la position est un mur ou un mur cassable
         GameBoard.TileType tile = gameBoard.getTile(playerX, playerY);
         if (tile == GameBoard.TileType.WALL || tile == GameBoard.TileType.BREAKABLE_WALL) {
-            System.out.println("Impossible de placer une bombe dans un mur!");
+            log("Impossible de placer une bombe dans un mur!");
             return;
         }
 
         // Vérifier qu'il n'y a pas déjà une bombe sur le joueur
-        for (Bomb bomb : gameBoard.getBombs()) {
-            if (bomb.getX() == playerX && bomb.getY() == playerY) {
-                System.out.println("Il y a déjà une bombe sur la case du joueur!");
-                return;
-            }
+        if (gameBoard.getBombAt(playerX, playerY) != null) {
+            log("Il y a déjà une bombe sur la case du joueur!");
+            return;
         }
 
         // Vérifier qu'il existe au moins une issue pour le joueur
         if (!hasEscapeRoute(player, playerX, playerY)) {
-            System.out.println("Impossible de placer une bombe - Le joueur serait bloqué sans issue!");
+            log("Impossible de placer une bombe - Le joueur serait bloqué sans issue!");
             return;
         }
 
         // Créer et placer la bombe
-        Bomb bomb = new Bomb(playerX, playerY, player.getFirePower(), playerId);
-        gameBoard.addBomb(bomb);
+        Bomb bomb = gameBoard.addBomb(playerX, playerY, player.getFirePower(), playerId);
+        if (bomb == null) {
+            return;
+        }
         player.incrementBombsPlaced();
 
-        // Le joueur qui pose la bombe peut la traverser
+        // Seul le joueur qui pose la bombe peut la traverser (masque vide pour les autres)
         bomb.setCanBeTraversedBy(playerId, true);
 
-        // Le joueur adverse ne peut pas traverser cette bombe
-        int otherPlayerId = (playerId == 1) ? 2 : 1;
-        bomb.setCanBeTraversedBy(otherPlayerId, false);
-
-        System.out.println("✅ Bombe placée avec succès à (" + playerX + ", " + playerY + ")!");
-        System.out.println("Bombes du joueur: " + player.getBombsPlaced() + "/" + player.getMaxBombs());
+        if (verbose) {
+            System.out.println("✅ Bombe placée avec succès à (" + playerX + ", " + playerY + ")!");
+            System.out.println("Bombes du joueur: " + player.getBombsPlaced() + "/" + player.getMaxBombs());
+        }
 
         notifyBombPlaced(player, bomb);
     }
 
     /**
      * Vérifie s'il existe un chemin d'échappement pour un joueur si une bombe est placée à la position spécifiée
+     * Une case voisine n'est une issue que si le joueur a le temps de l'atteindre avant qu'elle ne prenne
+     * feu (carte du danger du plateau, réactions en chaîne comprises : O(1) par case).
      *
      * @param player Le joueur qui place la bombe
      * @param bombX  Position X de la bombe
@@ -584,36 +613,20 @@ public class GameModel {
      * @return true si le joueur peut s'échapper après avoir placé une bombe
      */
     private boolean hasEscapeRoute(Player player, int bombX, int bombY) {
-        // Directions possibles d'échappement : HAUT, BAS, GAUCHE, DROITE
-        int[][] directions = {
-                {0, -1}, // HAUT
-                {0, 1},  // BAS
-                {-1, 0}, // GAUCHE
-                {1, 0}   // DROITE
-        };
+        // Ticks nécessaires pour passer d'une case à la suivante
+        int ticksPerCell = (int) Math.ceil(GameEngine.TICKS_PER_SECOND / player.getSpeed());
 
         // Vérifier chaque direction adjacente
-        for (int[] dir : directions) {
+        for (int[] dir : ESCAPE_DIRECTIONS) {
             int checkX = bombX + dir[0];
             int checkY = bombY + dir[1];
 
             // Si la case est valide et accessible
             if (gameBoard.isValidPosition(checkX, checkY) && gameBoard.isWalkable(checkX, checkY)) {
-                // Vérifier si cette case contient déjà une bombe
-                boolean hasBomb = false;
-                for (Bomb existingBomb : gameBoard.getBombs()) {
-                    if (existingBomb.getX() == checkX && existingBomb.getY() == checkY) {
-                        hasBomb = true;
-                        // Si c'est une bombe qu'on peut traverser, c'est une issue valide
-                        if (existingBomb.canBeTraversedBy(player.getPlayerId())) {
-                            return true;
-                        }
-                        break;
-                    }
-                }
-
-                // Si pas de bombe sur cette case, c'est une issue valide
-                if (!hasBomb) {
+                // Si pas de bombe sur cette case, ou une bombe qu'on peut traverser, c'est une issue valide
+                Bomb existingBomb = gameBoard.getBombAt(checkX, checkY);
+                boolean passable = existingBomb == null || existingBomb.canBeTraversedBy(player.getPlayerId());
+                if (passable && gameBoard.getTicksUntilFire(checkX, checkY) > ticksPerCell) {
                     return true;
                 }
             }
@@ -623,159 +636,273 @@ public class GameModel {
         return false;
     }
 
-    // Méthodes pour les listeners
+    // ==================== SAUVEGARDE D'ÉTAT ====================
 
     /**
-     * Ajoute un listener pour les événements du jeu
+     * @return Taille en octets de l'état écrit par {@link #writeState(ByteBuffer)}
      */
-    public void addListener(GameModelListener listener) {
-        if (listeners == null) {
-            listeners = new ArrayList<>();
+    int stateSize() {
+        int size = 1 + 5 * Integer.BYTES + 1 + GameRandom.STATE_BYTES + players.length * Integer.BYTES + 1;
+        if (players[0] != null) {
+            size += players.length * Player.STATE_BYTES;
         }
-        listeners.add(listener);
-        System.out.println("Listener ajouté - Total listeners: " + listeners.size());
+        return size + gameBoard.stateSize();
     }
 
-
     /**
-     * Notifie les listeners du début d'une partie
+     * Écrit l'état de la partie : déroulement du round, scores, générateur, joueurs puis plateau
+     * Les listeners, noms et avatars ne font pas partie de l'état.
      */
-    private void notifyGameStarted() {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onGameStarted();
+    void writeState(ByteBuffer out) {
+        out.put((byte) gameState.ordinal());
+        out.putInt(currentRound);
+        out.putInt(timeRemaining);
+        out.putInt(roundTicks);
+        out.putInt(roundsToWin);
+        out.putInt(roundTimeLimit);
+        out.put((byte) roundWinnerId);
+        random.writeState(out);
+        for (int score : scores) {
+            out.putInt(score);
+        }
+
+        // Les joueurs n'existent qu'une fois la partie commencée
+        boolean started = players[0] != null;
+        out.put((byte) (started ? 1 : 0));
+        if (started) {
+            for (Player player : players) {
+                player.writeState(out);
             }
         }
+
+        gameBoard.writeState(out);
     }
 
     /**
-     * Notifie les listeners du début d'un round
+     * Restaure un état écrit par {@link #writeState(ByteBuffer)} (mêmes dimensions et nombre de joueurs)
+     * Aucun listener n'est notifié.
      */
-    private void notifyRoundStarted() {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onRoundStarted(currentRound.get());
+    void readState(ByteBuffer in) {
+        gameState = GAME_STATES[in.get()];
+        currentRound = in.getInt();
+        timeRemaining = in.getInt();
+        roundTicks = in.getInt();
+        roundsToWin = in.getInt();
+        roundTimeLimit = in.getInt();
+        roundWinnerId = in.get();
+        random.readState(in);
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = in.getInt();
+        }
+
+        if (in.get() != 0) {
+            for (int i = 0; i < players.length; i++) {
+                if (players[i] == null) {
+                    players[i] = new Player(i + 1, "Joueur " + (i + 1), getSpawnX(i), getSpawnY(i), verbose);
+                }
+                players[i].readState(in);
             }
         }
+
+        gameBoard.readState(in);
     }
 
+    // Événements
+
     /**
-     * Notifie les listeners de la fin d'un round
+     * @return Bus sur lequel le modèle publie ses événements (s'y abonner avec {@code subscribe()})
      */
-    private void notifyRoundEnded(Player winner) {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onRoundEnded(winner);
-            }
-        }
+    public GameEventBus getEvents() {
+        return events;
     }
 
     /**
-     * Notifie les listeners de la fin de la partie
+     * Vide les événements en attente d'un abonnement vers un écouteur, en traduisant
+     * les identifiants en joueurs. À appeler par le consommateur, hors du tick
+     * (par exemple une fois par frame sur le thread JavaFX).
+     *
+     * @param subscription Abonnement obtenu par {@code getEvents().subscribe()}
+     * @param listener     Écouteur à appeler pour chaque événement
+     * @return Nombre d'événements transmis
      */
-    private void notifyGameEnded(Player winner) {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onGameEnded(winner);
+    public int dispatchEvents(GameEventBus.Subscription subscription, GameModelListener listener) {
+        return subscription.drain(event -> {
+            Player player = getPlayer(event.getPlayerId());
+            switch (event.getType()) {
+                case GAME_STARTED -> listener.onGameStarted();
+                case ROUND_STARTED -> listener.onRoundStarted(event.getValue());
+                case ROUND_ENDED -> listener.onRoundEnded(player);
+                case GAME_ENDED -> listener.onGameEnded(player);
+                case PLAYER_HIT -> listener.onPlayerHit(player);
+                case BOMB_PLACED -> listener.onBombPlaced(player, event.getX(), event.getY());
+                case POWER_UP_COLLECTED -> listener.onPowerUpCollected(player, POWER_UP_TYPES[event.getValue()]);
             }
-        }
+        });
     }
 
     /**
-     * Notifie les listeners qu'un joueur a été touché
+     * Publie un événement daté du tick courant du plateau
      */
-    private void notifyPlayerHit(Player player) {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onPlayerHit(player);
-            }
-        }
+    private void publish(GameEvent.Type type, int playerId, int x, int y, int value) {
+        events.publish(type, gameBoard.getCurrentTick(), playerId, x, y, value);
+    }
+
+    private void notifyGameStarted() {
+        publish(GameEvent.Type.GAME_STARTED, 0, 0, 0, 0);
+    }
+
+    private void notifyRoundStarted() {
+        publish(GameEvent.Type.ROUND_STARTED, 0, 0, 0, currentRound);
+    }
+
+    private void notifyRoundEnded(Player winner) {
+        publish(GameEvent.Type.ROUND_ENDED, winner != null ? winner.getPlayerNumber() : 0, 0, 0, 0);
+    }
+
+    private void notifyGameEnded(Player winner) {
+        publish(GameEvent.Type.GAME_ENDED, winner.getPlayerNumber(), 0, 0, 0);
+    }
+
+    private void notifyPlayerHit(Player player, int x, int y) {
+        publish(GameEvent.Type.PLAYER_HIT, player.getPlayerNumber(), x, y, 0);
     }
 
-    /**
-     * Notifie les listeners qu'une bombe a été placée
-     */
     private void notifyBombPlaced(Player player, Bomb bomb) {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onBombPlaced(player, bomb);
-            }
-        }
+        publish(GameEvent.Type.BOMB_PLACED, player.getPlayerNumber(), bomb.getX(), bomb.getY(), bomb.getFirePower());
     }
 
-    /**
-     * Notifie les listeners qu'un power-up a été collecté
-     */
-    private void notifyPowerUpCollected(Player player, PowerUp powerUp) {
-        if (listeners != null) {
-            for (GameModelListener listener : listeners) {
-                listener.onPowerUpCollected(player, powerUp);
-            }
-        }
+    private void notifyPowerUpCollected(Player player, int x, int y, PowerUp.Type type) {
+        publish(GameEvent.Type.POWER_UP_COLLECTED, player.getPlayerNumber(), x, y, type.ordinal());
     }
 
     // Getters
 
     public GameState getGameState() {
-        return gameState.get();
+        return gameState;
     }
 
 
     public int getCurrentRound() {
-        return currentRound.get();
+        return currentRound;
     }
 
 
     public int getPlayer1Score() {
-        return player1Score.get();
+        return scores[0];
     }
 
 
     public int getPlayer2Score() {
-        return player2Score.get();
+        return scores[1];
+    }
+
+    /**
+     * @param playerId Numéro du joueur (1 à N)
+     * @return Score du joueur, 0 si l'identifiant est invalide
+     */
+    public int getScore(int playerId) {
+        return isValidPlayerId(playerId) ? scores[playerId - 1] : 0;
     }
 
 
     public int getTimeRemaining() {
-        return timeRemaining.get();
+        return timeRemaining;
     }
 
-    public GameBoard getGameBoard() {
-        return gameBoard;
+    /**
+     * @return Numéro du gagnant du dernier round terminé, 0 en cas de match nul ou si le round est en cours
+     */
+    public int getRoundWinnerId() {
+        return roundWinnerId;
     }
 
-    public Player getPlayer1() {
-        return player1;
+    public long getSeed() {
+        return seed;
     }
 
-    public Player getPlayer2() {
-        return player2;
+    public int getRoundsToWin() {
+        return roundsToWin;
     }
 
     /**
-     * Interface pour les écouteurs d'événements du modèle
+     * @return Temps limite d'un round, en secondes
      */
-    public interface GameModelListener {
-        default void onGameStarted() {
-        }
+    public int getRoundTimeLimit() {
+        return roundTimeLimit;
+    }
 
-        default void onRoundStarted(int roundNumber) {
-        }
+    /**
+     * Fournit un générateur indépendant dérivé de celui de la partie (pour un bot par exemple)
+     * Les branches sont créées dans l'ordre des appels, ce qui garde la partie reproductible.
+     */
+    public GameRandom splitRandom() {
+        return random.split();
+    }
 
-        default void onRoundEnded(Player winner) {
+    /**
+     * Active ou coupe les traces de debug émises pendant les ticks (plateau et joueurs compris)
+     * Les copies sur lesquelles les bots simulent des parties les coupent : une trace coûte bien plus
+     * cher qu'un tick.
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+        gameBoard.setVerbose(verbose);
+        for (Player player : players) {
+            if (player != null) {
+                player.setVerbose(verbose);
+            }
         }
+    }
 
-        default void onGameEnded(Player winner) {
+    private void log(String message) {
+        if (verbose) {
+            System.out.println(message);
         }
+    }
 
-        default void onPlayerHit(Player player) {
-        }
+    public GameBoard getGameBoard() {
+        return gameBoard;
+    }
 
-        default void onBombPlaced(Player player, Bomb bomb) {
-        }
+    public Player getPlayer1() {
+        return players[0];
+    }
 
-        default void onPowerUpCollected(Player player, PowerUp powerUp) {
-        }
+    public Player getPlayer2() {
+        return players[1];
+    }
+
+    /**
+     * @param playerId Numéro du joueur (1 à N)
+     * @return Le joueur, ou null si l'identifiant est invalide ou la partie pas commencée
+     */
+    public Player getPlayer(int playerId) {
+        return isValidPlayerId(playerId) ? players[playerId - 1] : null;
     }
-}
 
+    public int getPlayerCount() {
+        return players.length;
+    }
+
+    /**
+     * Centre de la case de départ d'un joueur
+     *
+     * @param playerIndex Indice du joueur (0 pour le joueur 1)
+     */
+    public double getSpawnX(int playerIndex) {
+        return gameBoard.getSpawnX(playerIndex) + 0.5;
+    }
+
+    /**
+     * Centre de la case de départ d'un joueur
+     *
+     * @param playerIndex Indice du joueur (0 pour le joueur 1)
+     */
+    public double getSpawnY(int playerIndex) {
+        return gameBoard.getSpawnY(playerIndex) + 0.5;
+    }
+
+    private boolean isValidPlayerId(int playerId) {
+        return playerId >= 1 && playerId <= players.length;
+    }
+}
@@ -2,6 +2,8 @@ package fr.amu.iut.bomberman.model;
 
 /**
  * Interface pour les écouteurs d'événements du modèle de jeu
+ * Les méthodes ne sont jamais appelées pendant le tick : le consommateur vide son abonnement
+ * au {@link GameEventBus} avec {@link GameModel#dispatchEvents}, sur son propre thread.
  *
  * @author Groupe_3_6
  * @version 1.0
@@ -50,18 +52,19 @@ public interface GameModelListener {
      * Appelé quand une bombe est placée
      *
      * @param player Joueur qui a placé la bombe
-     * @param bomb   Bombe placée
+     * @param x      Colonne de la bombe
+     * @param y      Ligne de la bombe
      */
-    default void onBombPlaced(Player player, Bomb bomb) {
+    default void onBombPlaced(Player player, int x, int y) {
     }
 
     /**
      * Appelé quand un power-up est collecté
      *
-     * @param player  Joueur qui a collecté
-     * @param powerUp Power-up collecté
+     * @param player Joueur qui a collecté
+     * @param type   Type du power-up collecté
      */
-    default void onPowerUpCollected(Player player, PowerUp powerUp) {
+    default void onPowerUpCollected(Player player, PowerUp.Type type) {
     }
 
     /**
@@ -0,0 +1,116 @@
+package fr.amu.iut.bomberman.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Générateur pseudo-aléatoire d'une partie (algorithme SplitMix64, celui de {@link java.util.SplittableRandom})
+ * Contrairement à {@code SplittableRandom}, son état (deux {@code long}) est lisible et restaurable,
+ * ce qui permet de l'inclure dans les sauvegardes de l'état du jeu.
+ * <p>
+ * Non partagé entre threads : chaque partie, plateau ou bot reçoit sa propre branche via {@link #split()}.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class GameRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    // Taille de l'état sérialisé (graine + gamma)
+    static final int STATE_BYTES = 2 * Long.BYTES;
+
+    private long seed;
+    private long gamma;
+
+    /**
+     * Constructeur
+     *
+     * @param seed Graine
+     */
+    public GameRandom(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    private GameRandom(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    /**
+     * Crée un générateur indépendant ; l'état de celui-ci avance d'un pas
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong(), mixGamma(nextSeed()));
+    }
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * @param bound Borne exclusive (strictement positive)
+     * @return Entier uniforme dans [0, bound)
+     */
+    public int nextInt(int bound) {
+        int r = mix32(nextSeed());
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m; // Puissance de deux
+        }
+        // Rejet des valeurs qui biaiseraient le modulo
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = mix32(nextSeed()) >>> 1) {
+        }
+        return r;
+    }
+
+    /**
+     * @return Réel uniforme dans [0, 1)
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Écrit l'état du générateur
+     */
+    void writeState(ByteBuffer out) {
+        out.putLong(seed);
+        out.putLong(gamma);
+    }
+
+    /**
+     * Restaure un état écrit par {@link #writeState(ByteBuffer)}
+     */
+    void readState(ByteBuffer in) {
+        seed = in.getLong();
+        gamma = in.getLong();
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L; // Gamma impair
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
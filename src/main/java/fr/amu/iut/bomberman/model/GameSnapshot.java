@@ -0,0 +1,102 @@
+package fr.amu.iut.bomberman.model;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Sauvegarde binaire compacte de l'état complet d'une partie
+ * (déroulement du round, générateur aléatoire, joueurs, tuiles, bombes, flammes, power-ups).
+ * Quelques centaines d'octets pour un plateau classique ; la restauration est linéaire en taille.
+ * <p>
+ * Utilisations : sauvegarde rapide, anticipation des bots, retour en arrière, reprise après crash.
+ * {@link #capture(GameModel, ByteBuffer)} écrit dans un tampon réutilisable et peut être appelé à chaque tick.
+ * <p>
+ * Format : en-tête (version, largeur, hauteur, nombre de joueurs) puis l'état du modèle.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class GameSnapshot {
+
+    public static final byte FORMAT_VERSION = 5;
+
+    private static final int HEADER_BYTES = 1 + 2 * Short.BYTES + 1;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * @param gameModel Partie à sauvegarder
+     * @return Taille exacte de sa sauvegarde, en octets
+     */
+    public static int sizeOf(GameModel gameModel) {
+        return HEADER_BYTES + gameModel.stateSize();
+    }
+
+    /**
+     * Sauvegarde une partie dans un nouveau tableau d'octets
+     *
+     * @param gameModel Partie à sauvegarder
+     * @return Sauvegarde
+     */
+    public static byte[] capture(GameModel gameModel) {
+        byte[] data = new byte[sizeOf(gameModel)];
+        capture(gameModel, ByteBuffer.wrap(data));
+        return data;
+    }
+
+    /**
+     * Sauvegarde une partie dans un tampon fourni (sans allocation), à partir de sa position courante
+     *
+     * @param gameModel Partie à sauvegarder
+     * @param out       Tampon de destination, d'au moins {@link #sizeOf(GameModel)} octets restants
+     * @return Nombre d'octets écrits
+     */
+    public static int capture(GameModel gameModel, ByteBuffer out) {
+        int start = out.position();
+        GameBoard board = gameModel.getGameBoard();
+
+        out.put(FORMAT_VERSION);
+        out.putShort((short) board.getWidth());
+        out.putShort((short) board.getHeight());
+        out.put((byte) gameModel.getPlayerCount());
+        gameModel.writeState(out);
+
+        return out.position() - start;
+    }
+
+    /**
+     * Restaure une sauvegarde dans une partie
+     *
+     * @param gameModel Partie à écraser
+     * @param data      Sauvegarde produite par {@link #capture(GameModel)}
+     */
+    public static void restore(GameModel gameModel, byte[] data) {
+        restore(gameModel, ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Restaure une sauvegarde lue à partir de la position courante du tampon
+     *
+     * @param gameModel Partie à écraser (mêmes dimensions de plateau et même nombre de joueurs)
+     * @param in        Tampon contenant la sauvegarde
+     * @throws IllegalArgumentException Si la sauvegarde ne correspond pas à cette partie
+     */
+    public static void restore(GameModel gameModel, ByteBuffer in) {
+        GameBoard board = gameModel.getGameBoard();
+
+        byte version = in.get();
+        int width = in.getShort();
+        int height = in.getShort();
+        int playerCount = in.get();
+
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Version de sauvegarde non supportée : " + version);
+        }
+        if (width != board.getWidth() || height != board.getHeight() || playerCount != gameModel.getPlayerCount()) {
+            throw new IllegalArgumentException("Sauvegarde d'une autre partie : plateau " + width + "x" + height
+                    + ", " + playerCount + " joueurs");
+        }
+
+        gameModel.readState(in);
+    }
+}
@@ -0,0 +1,395 @@
+package fr.amu.iut.bomberman.model;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Simulateur de parties bot contre bot en ligne de commande, pour l'équilibrage
+ * <p>
+ * Chaque partie est un {@link GameModel} indépendant (sa propre graine, ses propres bots
+ * pilotés tick par tick, sans thread ni JavaFX) : les parties sont jouées en parallèle sur
+ * tous les cœurs, puis leurs statistiques sont agrégées dans l'ordre des parties.
+ * Aucun singleton de l'application (profils, sons, réglages) n'est utilisé.
+ * <p>
+ * Exemple : {@code mvn javafx:run@simulate -Djavafx.args="--matches 2000 --drop 0.25"}
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class MatchSimulator {
+
+    private static final PowerUp.Type[] POWER_UP_TYPES = PowerUp.Type.values();
+
+    private final Settings settings;
+
+    /**
+     * Constructeur
+     *
+     * @param settings Paramètres de la simulation
+     */
+    public MatchSimulator(Settings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Point d'entrée en ligne de commande
+     */
+    public static void main(String[] args) throws IOException {
+        Settings settings;
+        try {
+            settings = Settings.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(Settings.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        Report report = new MatchSimulator(settings).run();
+        PrintStream console = System.out;
+        report.print(console);
+        if (settings.output != null) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(settings.output), false, StandardCharsets.UTF_8)) {
+                report.print(out);
+            }
+            console.println("Rapport écrit dans " + settings.output);
+        }
+    }
+
+    /**
+     * Joue toutes les parties sur un pool de threads et agrège leurs résultats
+     *
+     * @return Statistiques agrégées
+     */
+    public Report run() {
+        long start = System.nanoTime();
+        List<Callable<Report>> matches = new ArrayList<>(settings.matches);
+        for (int i = 0; i < settings.matches; i++) {
+            long matchSeed = settings.seed + i;
+            matches.add(() -> playMatch(matchSeed));
+        }
+
+        Report total = new Report(settings);
+        ExecutorService pool = Executors.newFixedThreadPool(settings.threads);
+        try {
+            for (Future<Report> match : pool.invokeAll(matches)) {
+                total.merge(match.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrompue", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec d'une partie simulée", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        total.elapsedNanos = System.nanoTime() - start;
+        return total;
+    }
+
+    /**
+     * Joue une partie complète entre bots
+     *
+     * @param seed Graine de la partie
+     * @return Statistiques de cette seule partie
+     */
+    Report playMatch(long seed) {
+        // Les traces de debug du modèle ralentiraient fortement la simulation (--verbose pour les garder)
+        GameModel gameModel = new GameModel(settings.width, settings.height, settings.players, seed, settings.verbose);
+        GameBoard board = gameModel.getGameBoard();
+        board.setPowerUpDropChance(settings.powerUpDropChance);
+        board.setExtraLifeChance(settings.extraLifeChance);
+
+        Report report = new Report(settings);
+        report.matches = 1;
+        GameEventBus.Subscription events = gameModel.getEvents().subscribe();
+        int[] roundStartTick = new int[1];
+        GameEventBus.Handler handler = event -> {
+            switch (event.getType()) {
+                case ROUND_STARTED -> roundStartTick[0] = event.getTick();
+                case ROUND_ENDED -> report.addRound(event.getPlayerId(), event.getTick() - roundStartTick[0]);
+                case GAME_ENDED -> report.matchWins[event.getPlayerId() - 1]++;
+                case POWER_UP_COLLECTED -> report.powerUps[event.getValue()]++;
+                default -> {
+                }
+            }
+        };
+
+        String[] names = new String[settings.players];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Bot" + (i + 1);
+        }
+        gameModel.startNewGame(names, settings.roundsToWin, settings.roundTime);
+
+        // Les bots mesurent leurs délais sur l'horloge du plateau et décident au début des ticks
+        GameEngine engine = new GameEngine(gameModel);
+        BotScheduler scheduler = new BotScheduler();
+        engine.setBotScheduler(scheduler);
+        BotPlayer[] bots = new BotPlayer[settings.players];
+        for (int i = 0; i < bots.length; i++) {
+            bots[i] = new BotPlayer(gameModel.getPlayer(i + 1), board, gameModel.splitRandom());
+            bots[i].setVerbose(settings.verbose);
+            scheduler.register(bots[i]);
+        }
+        for (int i = 0; i < bots.length; i++) {
+            // Chaque bot poursuit tous les autres joueurs
+            Player[] opponents = new Player[bots.length - 1];
+            for (int j = 0, k = 0; j < bots.length; j++) {
+                if (j != i) {
+                    opponents[k++] = gameModel.getPlayer(j + 1);
+                }
+            }
+            bots[i].setOpponents(opponents);
+        }
+
+        while (gameModel.getGameState() != GameModel.GameState.GAME_OVER) {
+            if (gameModel.getGameState() == GameModel.GameState.ROUND_OVER) {
+                events.drain(handler);
+                if (gameModel.getCurrentRound() >= settings.maxRounds) {
+                    break; // Trop de matchs nuls : partie sans vainqueur
+                }
+                gameModel.continueToNextRound();
+            }
+
+            engine.tick();
+            events.drain(handler);
+        }
+        events.drain(handler);
+
+        if (gameModel.getGameState() != GameModel.GameState.GAME_OVER) {
+            report.undecidedMatches++;
+        }
+        return report;
+    }
+
+    /**
+     * Paramètres d'une simulation
+     */
+    public static final class Settings {
+
+        static final String USAGE = "Usage : MatchSimulator [--matches N] [--threads N] [--seed N]"
+                + " [--size LxH] [--players N] [--rounds N] [--time S] [--max-rounds N]"
+                + " [--drop P] [--extra-life P] [--out FICHIER] [--verbose]";
+
+        int matches = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+        int width = GameBoard.GRID_WIDTH;
+        int height = GameBoard.GRID_HEIGHT;
+        int players = 2;
+        int roundsToWin = 3;
+        int roundTime = 180;
+        int maxRounds = 15;
+        double powerUpDropChance = GameBoard.DEFAULT_POWER_UP_DROP_CHANCE;
+        double extraLifeChance = GameBoard.DEFAULT_EXTRA_LIFE_CHANCE;
+        Path output;
+        boolean verbose;
+
+        /**
+         * Lit les paramètres de la ligne de commande
+         *
+         * @throws IllegalArgumentException Si une option est inconnue ou invalide
+         */
+        public static Settings parse(String... args) {
+            Settings settings = new Settings();
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--verbose")) {
+                    settings.verbose = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Valeur manquante pour " + option);
+                }
+                String value = args[++i];
+                try {
+                    switch (option) {
+                        case "--matches" -> settings.matches = positive(option, Integer.parseInt(value));
+                        case "--threads" -> settings.threads = positive(option, Integer.parseInt(value));
+                        case "--seed" -> settings.seed = Long.parseLong(value);
+                        case "--size" -> {
+                            String[] size = value.split("x");
+                            if (size.length != 2) {
+                                throw new IllegalArgumentException("Taille attendue sous la forme LxH : " + value);
+                            }
+                            settings.width = Integer.parseInt(size[0]);
+                            settings.height = Integer.parseInt(size[1]);
+                            if (!GameBoard.isValidSize(settings.width) || !GameBoard.isValidSize(settings.height)) {
+                                throw new IllegalArgumentException("Dimensions de plateau invalides : " + value);
+                            }
+                        }
+                        case "--players" -> settings.players = Integer.parseInt(value);
+                        case "--rounds" -> settings.roundsToWin = positive(option, Integer.parseInt(value));
+                        case "--time" -> settings.roundTime = positive(option, Integer.parseInt(value));
+                        case "--max-rounds" -> settings.maxRounds = positive(option, Integer.parseInt(value));
+                        case "--drop" -> settings.powerUpDropChance = probability(option, Double.parseDouble(value));
+                        case "--extra-life" -> settings.extraLifeChance = probability(option, Double.parseDouble(value));
+                        case "--out" -> settings.output = Path.of(value);
+                        default -> throw new IllegalArgumentException("Option inconnue : " + option);
+                    }
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Valeur invalide pour " + option + " : " + value);
+                }
+            }
+            if (settings.players < GameModel.MIN_PLAYERS || settings.players > GameModel.MAX_PLAYERS) {
+                throw new IllegalArgumentException("Nombre de joueurs invalide : " + settings.players);
+            }
+            return settings;
+        }
+
+        private static int positive(String option, int value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException("Valeur strictement positive attendue pour " + option);
+            }
+            return value;
+        }
+
+        private static double probability(String option, double value) {
+            if (value < 0 || value > 1) {
+                throw new IllegalArgumentException("Probabilité entre 0 et 1 attendue pour " + option);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Statistiques agrégées : victoires, durée des rounds et power-ups ramassés
+     */
+    public static final class Report {
+
+        private final Settings settings;
+
+        int matches;
+        int undecidedMatches;
+        final int[] matchWins;
+        int rounds;
+        int drawnRounds;
+        final int[] roundWins;
+        long roundTicks;
+        int minRoundTicks = Integer.MAX_VALUE;
+        int maxRoundTicks;
+        final long[] powerUps = new long[POWER_UP_TYPES.length];
+        long elapsedNanos;
+
+        Report(Settings settings) {
+            this.settings = settings;
+            this.matchWins = new int[settings.players];
+            this.roundWins = new int[settings.players];
+        }
+
+        void addRound(int winnerId, int ticks) {
+            rounds++;
+            if (winnerId == 0) {
+                drawnRounds++;
+            } else {
+                roundWins[winnerId - 1]++;
+            }
+            roundTicks += ticks;
+            minRoundTicks = Math.min(minRoundTicks, ticks);
+            maxRoundTicks = Math.max(maxRoundTicks, ticks);
+        }
+
+        void merge(Report other) {
+            matches += other.matches;
+            undecidedMatches += other.undecidedMatches;
+            for (int i = 0; i < matchWins.length; i++) {
+                matchWins[i] += other.matchWins[i];
+                roundWins[i] += other.roundWins[i];
+            }
+            rounds += other.rounds;
+            drawnRounds += other.drawnRounds;
+            roundTicks += other.roundTicks;
+            minRoundTicks = Math.min(minRoundTicks, other.minRoundTicks);
+            maxRoundTicks = Math.max(maxRoundTicks, other.maxRoundTicks);
+            for (int i = 0; i < powerUps.length; i++) {
+                powerUps[i] += other.powerUps[i];
+            }
+        }
+
+        public int getMatches() {
+            return matches;
+        }
+
+        /**
+         * @return Proportion des parties gagnées par ce joueur
+         */
+        public double getWinRate(int playerId) {
+            return matches == 0 ? 0 : (double) matchWins[playerId - 1] / matches;
+        }
+
+        /**
+         * @return Nombre de parties arrêtées sans vainqueur (limite de rounds atteinte)
+         */
+        public int getUndecidedMatches() {
+            return undecidedMatches;
+        }
+
+        public int getRounds() {
+            return rounds;
+        }
+
+        public int getDrawnRounds() {
+            return drawnRounds;
+        }
+
+        /**
+         * @return Durée moyenne d'un round en secondes de jeu
+         */
+        public double getAverageRoundSeconds() {
+            return rounds == 0 ? 0 : (double) roundTicks / rounds / GameEngine.TICKS_PER_SECOND;
+        }
+
+        public long getPowerUpsCollected(PowerUp.Type type) {
+            return powerUps[type.ordinal()];
+        }
+
+        /**
+         * Écrit le rapport lisible
+         */
+        public void print(PrintStream out) {
+            out.println("=== SIMULATION : " + matches + " parties (" + settings.threads + " threads, graine "
+                    + settings.seed + ") ===");
+            out.printf("Plateau %dx%d, %d bots, %d rounds gagnants, %d s par round, power-ups %.0f%% (vie extra %.0f%%)%n",
+                    settings.width, settings.height, settings.players, settings.roundsToWin, settings.roundTime,
+                    settings.powerUpDropChance * 100, settings.extraLifeChance * 100);
+
+            out.println("Victoires :");
+            for (int i = 0; i < matchWins.length; i++) {
+                out.printf("  Bot %d : %d (%.1f%%), rounds gagnés %d%n",
+                        i + 1, matchWins[i], getWinRate(i + 1) * 100, roundWins[i]);
+            }
+            out.println("  Sans vainqueur : " + undecidedMatches);
+
+            out.printf("Rounds : %d (nuls %d), durée moyenne %.1f s (min %.1f s, max %.1f s)%n",
+                    rounds, drawnRounds, getAverageRoundSeconds(),
+                    rounds == 0 ? 0.0 : (double) minRoundTicks / GameEngine.TICKS_PER_SECOND,
+                    (double) maxRoundTicks / GameEngine.TICKS_PER_SECOND);
+
+            long collected = 0;
+            for (long count : powerUps) {
+                collected += count;
+            }
+            out.printf("Power-ups ramassés : %d (%.2f par round)%n",
+                    collected, rounds == 0 ? 0.0 : (double) collected / rounds);
+            for (PowerUp.Type type : POWER_UP_TYPES) {
+                out.printf("  %s : %d (%.1f%%)%n", type, powerUps[type.ordinal()],
+                        collected == 0 ? 0.0 : 100.0 * powerUps[type.ordinal()] / collected);
+            }
+
+            if (elapsedNanos > 0) {
+                double seconds = elapsedNanos / 1e9;
+                out.printf("Durée : %.1f s (%.1f parties/s)%n", seconds, matches / seconds);
+            }
+        }
+    }
+}
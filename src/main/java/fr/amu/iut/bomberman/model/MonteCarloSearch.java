@@ -0,0 +1,553 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Recherche arborescente Monte-Carlo (MCTS) pour les décisions d'un bot (difficulté Difficile)
+ * <p>
+ * Chaque décision part d'une sauvegarde de la partie ({@link GameSnapshot}). Une itération la
+ * restaure dans une copie privée, descend l'arbre des actions du bot (UCB1), ajoute un nœud, puis
+ * poursuit la partie avec des actions aléatoires (rollout) sur le vrai moteur ({@link GameEngine}),
+ * traces coupées : chaque pas simulé dure {@link #STEP_TICKS} ticks, l'intervalle entre deux
+ * décisions du bot. L'état atteint est évalué (survie d'abord, puis vies prises aux adversaires,
+ * murs détruits et power-ups) et le score remonte dans l'arbre.
+ * <p>
+ * La recherche s'arrête à l'échéance du budget de temps de la décision, vérifiée avant chaque pas
+ * simulé (une itération interrompue est ignorée). Elle est parallélisée à la racine : chaque thread
+ * construit son propre arbre sur sa propre copie, et les statistiques des actions de la racine sont
+ * additionnées à la fin, sans verrou pendant la recherche.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class MonteCarloSearch {
+
+    // Actions du bot : direction (rester, haut, bas, gauche, droite), puis les mêmes avec une bombe
+    static final int DIRECTIONS = 5;
+    static final int ACTIONS = 2 * DIRECTIONS;
+    private static final Direction[] ACTION_DIRECTIONS = {
+            Direction.NONE, Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+    private static final int[] STEP_X = {0, 0, 0, -1, 1};
+    private static final int[] STEP_Y = {0, -1, 1, 0, 0};
+    private static final Direction[] MOVES = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    public static final long DEFAULT_BUDGET_NANOS = 25_000_000L; // 25 ms par décision
+    public static final int DEFAULT_DEPTH = 5;                     // Pas simulés par itération
+    static final int STEP_TICKS = BotPlayer.DECISION_TICKS;
+
+    private static final int MAX_NODES = 1 << 14;     // Nœuds par arbre (au-delà, simulations sans expansion)
+    private static final int NO_NODE = -1;
+    private static final double EXPLORATION = 1.4;    // Constante d'exploration d'UCB1
+    private static final int OPPONENT_BOMB_CHANCE = 8; // Un adversaire simulé pose une bombe 1 pas sur 8
+
+    private final Worker[] workers;
+    private final ExecutorService pool; // null avec un seul thread : la recherche tourne sur l'appelant
+
+    private long budgetNanos = DEFAULT_BUDGET_NANOS;
+    private int depth = DEFAULT_DEPTH;
+    private int maxIterations = Integer.MAX_VALUE;
+
+    // Statistiques de la racine, additionnées sur les arbres des threads
+    private final long[] rootVisits = new long[ACTIONS];
+    private final double[] rootValues = new double[ACTIONS];
+
+    // Statistiques des décisions
+    private long decisions;
+    private long totalIterations;
+    private long totalTicks;
+    private long totalNanos;
+    private int lastIterations;
+    private double lastValue;
+
+    /**
+     * Constructeur avec un thread par cœur
+     *
+     * @param gameModel Partie dont les décisions seront cherchées (dimensions et nombre de joueurs)
+     */
+    public MonteCarloSearch(GameModel gameModel) {
+        this(gameModel, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructeur
+     *
+     * @param gameModel Partie dont les décisions seront cherchées (dimensions et nombre de joueurs)
+     * @param threads   Nombre de threads de recherche (au moins 1)
+     */
+    public MonteCarloSearch(GameModel gameModel, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Nombre de threads invalide : " + threads);
+        }
+        GameBoard board = gameModel.getGameBoard();
+        workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            GameModel copy = new GameModel(board.getWidth(), board.getHeight(), gameModel.getPlayerCount(), 0, false);
+            workers[i] = new Worker(copy);
+        }
+
+        // Threads démons : ils n'empêchent pas l'application de se fermer
+        pool = threads == 1 ? null : Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "bot-mcts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Cherche la meilleure action d'un joueur dans l'état donné
+     * La partie n'est pas modifiée (seulement sauvegardée) ; l'appel dure au plus le budget de temps.
+     *
+     * @param state    Partie à étudier (réelle ou copie restaurée depuis un instantané)
+     * @param playerId Joueur qui décide
+     * @param random   Aléa de l'appelant (une graine en est tirée pour chaque thread)
+     * @return Action choisie (voir {@link #directionOf(int)} et {@link #hasBomb(int)})
+     */
+    public int search(GameModel state, int playerId, GameRandom random) {
+        long start = System.nanoTime();
+        long deadline = start + budgetNanos;
+        byte[] snapshot = GameSnapshot.capture(state);
+        int iterationsPerWorker = maxIterations == Integer.MAX_VALUE
+                ? Integer.MAX_VALUE : Math.max(1, maxIterations / workers.length);
+
+        for (Worker worker : workers) {
+            worker.prepare(snapshot, playerId, random.nextLong(), deadline, iterationsPerWorker);
+        }
+        if (pool == null) {
+            workers[0].call();
+        } else {
+            try {
+                for (Future<Void> result : pool.invokeAll(Arrays.asList(workers))) {
+                    result.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Échec de la recherche Monte-Carlo", e.getCause());
+            }
+        }
+
+        // Fusion des racines : l'action la plus visitée l'emporte (puis le meilleur score moyen)
+        Arrays.fill(rootVisits, 0);
+        Arrays.fill(rootValues, 0);
+        int iterations = 0;
+        for (Worker worker : workers) {
+            worker.addRootStatistics(rootVisits, rootValues);
+            iterations += worker.iterations;
+            totalTicks += worker.ticks;
+        }
+        int best = 0; // Rester sur place si aucune itération n'a abouti
+        for (int action = 1; action < ACTIONS; action++) {
+            if (rootVisits[action] > rootVisits[best] || (rootVisits[action] == rootVisits[best]
+                    && rootVisits[action] > 0 && rootValues[action] / rootVisits[action] > rootValues[best] / rootVisits[best])) {
+                best = action;
+            }
+        }
+
+        decisions++;
+        lastValue = rootVisits[best] == 0 ? 0 : rootValues[best] / rootVisits[best];
+        lastIterations = iterations;
+        totalIterations += iterations;
+        totalNanos += System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * Applique une action à un joueur : bombe sur sa case, puis pas vers la case voisine
+     * (mêmes règles que {@link BotPlayer#applyDecision()} pour la partie réelle)
+     */
+    static void applyAction(GameModel gameModel, Player player, int action) {
+        GameBoard board = gameModel.getGameBoard();
+        int x = (int) Math.floor(player.getX());
+        int y = (int) Math.floor(player.getY());
+        if (hasBomb(action) && player.canPlaceBomb()
+                && board.addBomb(x, y, player.getFirePower(), player.getPlayerId()) != null) {
+            player.incrementBombsPlaced();
+        }
+        int direction = action % DIRECTIONS;
+        int targetX = x + STEP_X[direction];
+        int targetY = y + STEP_Y[direction];
+        if (direction != 0 && board.isWalkable(targetX, targetY) && !board.hasBomb(targetX, targetY)) {
+            player.setPosition(targetX + 0.5, targetY + 0.5);
+        }
+    }
+
+    /**
+     * @return Direction du pas de l'action (NONE pour rester sur place)
+     */
+    public static Direction directionOf(int action) {
+        return ACTION_DIRECTIONS[action % DIRECTIONS];
+    }
+
+    /**
+     * @return true si l'action pose une bombe
+     */
+    public static boolean hasBomb(int action) {
+        return action >= DIRECTIONS;
+    }
+
+    /**
+     * Arrête les threads de recherche
+     */
+    public void shutdown() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    // Réglages
+
+    /**
+     * @param budgetNanos Durée maximale d'une décision, en nanosecondes
+     */
+    public void setBudgetNanos(long budgetNanos) {
+        if (budgetNanos <= 0) {
+            throw new IllegalArgumentException("Budget de recherche invalide : " + budgetNanos);
+        }
+        this.budgetNanos = budgetNanos;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    /**
+     * @param depth Nombre de pas simulés par itération (arbre puis rollout)
+     */
+    public void setDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Profondeur de recherche invalide : " + depth);
+        }
+        this.depth = depth;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Limite le nombre d'itérations par décision, en plus du budget de temps
+     * (avec un seul thread et un budget suffisant, la décision est alors reproductible)
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Nombre d'itérations invalide : " + maxIterations);
+        }
+        this.maxIterations = maxIterations;
+    }
+
+    // Getters
+
+    public int getThreadCount() {
+        return workers.length;
+    }
+
+    public long getDecisionCount() {
+        return decisions;
+    }
+
+    /**
+     * @return Nombre d'itérations (rollouts) de la dernière décision, tous threads confondus
+     */
+    public int getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * @return Score moyen des rollouts de l'action choisie à la dernière décision (entre 0 et 1)
+     */
+    public double getLastValue() {
+        return lastValue;
+    }
+
+    public long getTotalIterations() {
+        return totalIterations;
+    }
+
+    /**
+     * @return Rollouts par seconde de recherche, tous threads confondus
+     */
+    public double getRolloutsPerSecond() {
+        return totalNanos == 0 ? 0 : totalIterations * 1e9 / totalNanos;
+    }
+
+    /**
+     * @return Ticks de jeu simulés par seconde de recherche, tous threads confondus
+     */
+    public double getTicksPerSecond() {
+        return totalNanos == 0 ? 0 : totalTicks * 1e9 / totalNanos;
+    }
+
+    /**
+     * Recherche d'un thread : copie privée de la partie et arbre en tableaux, réutilisés d'une décision à l'autre
+     */
+    private final class Worker implements Callable<Void> {
+
+        private final GameModel model;
+        private final GameEngine engine;
+
+        // Arbre (indices de nœuds), la racine est le nœud 0
+        private final int[] parent = new int[MAX_NODES];
+        private final int[] firstChild = new int[MAX_NODES];
+        private final int[] nextSibling = new int[MAX_NODES];
+        private final byte[] action = new byte[MAX_NODES];
+        private final short[] untried = new short[MAX_NODES]; // Actions pas encore développées (bit = action)
+        private final int[] visits = new int[MAX_NODES];
+        private final double[] value = new double[MAX_NODES];
+        private int size;
+
+        // Décision en cours
+        private ByteBuffer snapshot;
+        private int playerId;
+        private GameRandom random;
+        private long deadline;
+        private int maxIterations;
+        private int iterations;
+        private long ticks;
+
+        // Référence de l'évaluation : état à la racine
+        private int rootLives;
+        private int rootOpponentLives;
+        private int rootWalls;
+        private int rootCapacity;
+
+        Worker(GameModel model) {
+            this.model = model;
+            this.engine = new GameEngine(model);
+        }
+
+        void prepare(byte[] data, int playerId, long seed, long deadline, int maxIterations) {
+            this.snapshot = ByteBuffer.wrap(data);
+            this.playerId = playerId;
+            this.random = new GameRandom(seed);
+            this.deadline = deadline;
+            this.maxIterations = maxIterations;
+            this.iterations = 0;
+            this.ticks = 0;
+        }
+
+        @Override
+        public Void call() {
+            restore();
+            Player self = model.getPlayer(playerId);
+            rootLives = self.getLives();
+            rootOpponentLives = opponentLives();
+            rootWalls = model.getGameBoard().getBreakableWalls().cardinality();
+            rootCapacity = self.getMaxBombs() + self.getFirePower();
+
+            size = 1;
+            parent[0] = NO_NODE;
+            firstChild[0] = NO_NODE;
+            nextSibling[0] = NO_NODE;
+            untried[0] = (short) legalActions();
+            visits[0] = 0;
+            value[0] = 0;
+
+            while (iterations < maxIterations && iterate()) {
+                iterations++;
+            }
+            return null;
+        }
+
+        /**
+         * Une itération : sélection, expansion, rollout puis rétropropagation
+         *
+         * @return false si l'échéance est passée (itération abandonnée)
+         */
+        private boolean iterate() {
+            restore();
+            int node = 0;
+            int steps = 0;
+
+            // Sélection : descendre tant que le nœud est entièrement développé
+            while (untried[node] == 0 && firstChild[node] != NO_NODE && steps < depth && !isOver()) {
+                node = selectChild(node);
+                if (!step(action[node])) {
+                    return false;
+                }
+                steps++;
+            }
+
+            // Expansion : un nouveau nœud par itération
+            if (untried[node] != 0 && steps < depth && !isOver() && size < MAX_NODES) {
+                int next = pickAction(untried[node]);
+                untried[node] &= (short) ~(1 << next);
+                int child = addChild(node, next);
+                if (!step(next)) {
+                    return false;
+                }
+                steps++;
+                untried[child] = isOver() ? 0 : (short) legalActions();
+                node = child;
+            }
+
+            // Rollout : actions aléatoires jusqu'à la profondeur voulue
+            while (steps < depth && !isOver()) {
+                if (!step(pickAction(legalActions()))) {
+                    return false;
+                }
+                steps++;
+            }
+
+            double reward = evaluate();
+            for (int n = node; n != NO_NODE; n = parent[n]) {
+                visits[n]++;
+                value[n] += reward;
+            }
+            return true;
+        }
+
+        /**
+         * Joue un pas : action du bot, directions aléatoires des adversaires, puis {@link #STEP_TICKS} ticks
+         *
+         * @return false si l'échéance est passée
+         */
+        private boolean step(int botAction) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            applyAction(model, model.getPlayer(playerId), botAction);
+            for (int id = 1; id <= model.getPlayerCount(); id++) {
+                if (id != playerId && model.getPlayer(id).isAlive()) {
+                    engine.setDirection(id, MOVES[random.nextInt(MOVES.length)]);
+                    if (random.nextInt(OPPONENT_BOMB_CHANCE) == 0) {
+                        engine.requestBomb(id);
+                    }
+                }
+            }
+            for (int t = 0; t < STEP_TICKS && model.getGameState() == GameModel.GameState.PLAYING; t++) {
+                engine.tick();
+                ticks++;
+            }
+            return true;
+        }
+
+        /**
+         * Enfant maximisant UCB1 (un enfant jamais visité est choisi d'abord)
+         */
+        private int selectChild(int node) {
+            double logVisits = Math.log(Math.max(1, visits[node]));
+            int best = firstChild[node];
+            double bestScore = Double.NEGATIVE_INFINITY;
+            for (int child = firstChild[node]; child != NO_NODE; child = nextSibling[child]) {
+                if (visits[child] == 0) {
+                    return child;
+                }
+                double score = value[child] / visits[child] + EXPLORATION * Math.sqrt(logVisits / visits[child]);
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private int addChild(int node, int childAction) {
+            int child = size++;
+            parent[child] = node;
+            firstChild[child] = NO_NODE;
+            nextSibling[child] = firstChild[node];
+            firstChild[node] = child;
+            action[child] = (byte) childAction;
+            visits[child] = 0;
+            value[child] = 0;
+            return child;
+        }
+
+        /**
+         * @return Masque des actions utiles du bot (rester est toujours possible)
+         */
+        private int legalActions() {
+            Player self = model.getPlayer(playerId);
+            GameBoard board = model.getGameBoard();
+            int x = (int) Math.floor(self.getX());
+            int y = (int) Math.floor(self.getY());
+
+            int mask = 1;
+            for (int direction = 1; direction < DIRECTIONS; direction++) {
+                int targetX = x + STEP_X[direction];
+                int targetY = y + STEP_Y[direction];
+                if (board.isWalkable(targetX, targetY) && !board.hasBomb(targetX, targetY)
+                        && !board.hasExplosion(targetX, targetY)) {
+                    mask |= 1 << direction;
+                }
+            }
+            if (self.canPlaceBomb() && !board.hasBomb(x, y)) {
+                mask |= mask << DIRECTIONS;
+            }
+            return mask;
+        }
+
+        /**
+         * Tire uniformément une action dans un masque non vide
+         */
+        private int pickAction(int mask) {
+            int index = random.nextInt(Integer.bitCount(mask));
+            for (int action = 0; ; action++) {
+                if ((mask & (1 << action)) != 0 && index-- == 0) {
+                    return action;
+                }
+            }
+        }
+
+        /**
+         * Score de l'état atteint, entre 0 (bot mort) et 1
+         */
+        private double evaluate() {
+            Player self = model.getPlayer(playerId);
+            if (!self.isAlive()) {
+                return 0;
+            }
+            GameBoard board = model.getGameBoard();
+
+            double reward = 0.5;
+            reward -= 0.1 * (rootLives - self.getLives());
+            if (rootOpponentLives > 0) {
+                reward += 0.3 * (rootOpponentLives - opponentLives()) / rootOpponentLives;
+            }
+            reward += 0.1 * Math.min(rootWalls - board.getBreakableWalls().cardinality(), 4) / 4.0;
+            reward += 0.05 * Math.min(self.getMaxBombs() + self.getFirePower() - rootCapacity, 2) / 2.0;
+            if (board.isInDanger((int) Math.floor(self.getX()), (int) Math.floor(self.getY()))) {
+                reward -= 0.2; // Encore vivant, mais pas pour longtemps
+            }
+            if (model.getGameState() != GameModel.GameState.PLAYING && model.getRoundWinnerId() == playerId) {
+                reward += 0.2; // Round gagné (dernier survivant, ou plus de vies à la fin du temps)
+            }
+            return Math.max(0, Math.min(1, reward));
+        }
+
+        private int opponentLives() {
+            int lives = 0;
+            for (int id = 1; id <= model.getPlayerCount(); id++) {
+                Player player = model.getPlayer(id);
+                if (id != playerId && player.isAlive()) {
+                    lives += player.getLives();
+                }
+            }
+            return lives;
+        }
+
+        private boolean isOver() {
+            return model.getGameState() != GameModel.GameState.PLAYING || !model.getPlayer(playerId).isAlive();
+        }
+
+        private void restore() {
+            snapshot.rewind();
+            GameSnapshot.restore(model, snapshot);
+        }
+
+        void addRootStatistics(long[] rootVisits, double[] rootValues) {
+            for (int child = firstChild[0]; child != NO_NODE; child = nextSibling[child]) {
+                rootVisits[action[child]] += visits[child];
+                rootValues[action[child]] += value[child];
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package fr.amu.iut.bomberman.model;
 
 import fr.amu.iut.bomberman.utils.Direction;
 
+import java.nio.ByteBuffer;
+
 /**
  * Représente un joueur dans le jeu Bomberman
  *
@@ -25,24 +27,41 @@ public class Player {
     private int firePower;
     private double speed;
 
-    // Invincibilité
-    private boolean isInvincible; // Invincibilité activée de manière éphémère
-    private Thread invincibilityThread; // Pour suivre le thread d'invincibilité
+    // Effets temporaires (invincibilité...), écoulés tick par tick
+    private final StatusEffects effects = new StatusEffects();
+
+    // Traces de debug pendant la partie (coupées sur les copies de simulation)
+    private boolean verbose;
 
     // Constantes
     private static final int DEFAULT_LIVES = 3;
     private static final int DEFAULT_MAX_BOMBS = 1;
     private static final int DEFAULT_FIRE_POWER = 1;
     private static final double DEFAULT_SPEED = 3.5; // Augmenté pour un meilleur gameplay
-    private static final int INVINCIBILITY_DURATION = 2000; // Réduit à 2 secondes
+    static final int INVINCIBILITY_TICKS = 2 * GameEngine.TICKS_PER_SECOND; // 2 secondes de jeu
 
     // Score du joueur
     private int score;
 
+    // Taille de l'état sérialisé (voir writeState)
+    static final int STATE_BYTES = 2 * Double.BYTES + Short.BYTES + 3 + 3 * Short.BYTES + Double.BYTES
+            + StatusEffects.STATE_BYTES;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     /**
      * Constructeur
      */
     public Player(int playerId, String name, double x, double y) {
+        this(playerId, name, x, y, true);
+    }
+
+    /**
+     * Constructeur avec ou sans traces de debug dès la création (copies de simulation)
+     *
+     * @param verbose Traces de debug du joueur
+     */
+    Player(int playerId, String name, double x, double y, boolean verbose) {
+        this.verbose = verbose;
         this.playerId = playerId;
         this.name = name;
         this.x = x;
@@ -60,7 +79,9 @@ public class Player {
 
         enableTemporaryInvincibility();
 
-        System.out.println("Joueur " + playerId + " créé: " + name + " à (" + x + ", " + y + ")");
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " créé: " + name + " à (" + x + ", " + y + ")");
+        }
     }
 
     /**
@@ -81,7 +102,9 @@ public class Player {
         // Les capacités (maxBombs, firePower, speed) sont conservées entre les rounds
         if (resetLives) this.lives = DEFAULT_LIVES; // Réinitialise les vies si le paramètre est vrai
 
-        System.out.println("Joueur " + playerId + " réinitialisé à (" + x + ", " + y + ")");
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " réinitialisé à (" + x + ", " + y + ")");
+        }
     }
 
     /**
@@ -134,7 +157,9 @@ public class Player {
         if (lives <= 0) {
             alive = false;
         }
-        System.out.println("Joueur " + playerId + " perd une vie ! Vies restantes:  " + lives);
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " perd une vie ! Vies restantes:  " + lives);
+        }
     }
 
     /**
@@ -142,7 +167,9 @@ public class Player {
      */
     public void die() {
         this.alive = false;
-        System.out.println("Joueur " + playerId + " est mort!");
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " est mort!");
+        }
     }
 
     /**
@@ -166,7 +193,9 @@ public class Player {
      */
     public void increaseBombCapacity() {
         maxBombs++;
-        System.out.println("Joueur " + playerId + " - Bomb Up! Max bombes: " + maxBombs);
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " - Bomb Up! Max bombes: " + maxBombs);
+        }
     }
 
     /**
@@ -174,7 +203,9 @@ public class Player {
      */
     public void increaseFirePower() {
         firePower++;
-        System.out.println("Joueur " + playerId + " - Fire Up! Puissance: " + firePower);
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " - Fire Up! Puissance: " + firePower);
+        }
     }
 
     /**
@@ -182,7 +213,9 @@ public class Player {
      */
     public void increaseSpeed() {
         speed += 0.5;
-        System.out.println("Joueur " + playerId + " - Speed Up! Vitesse: " + speed);
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " - Speed Up! Vitesse: " + speed);
+        }
     }
 
     /**
@@ -190,7 +223,9 @@ public class Player {
      */
     public void addLife() {
         lives++;
-        System.out.println("Joueur " + playerId + " - Extra Life! Vies: " + lives);
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " - Extra Life! Vies: " + lives);
+        }
     }
 
     /**
@@ -224,28 +259,34 @@ public class Player {
         }
     }
 
+    /**
+     * Rend le joueur invincible pendant {@link #INVINCIBILITY_TICKS} ticks
+     * (à la création, à chaque nouveau round et après avoir été touché)
+     */
     public void enableTemporaryInvincibility() {
-        System.out.println("Joueur " + playerId + " est temporairement invincible!");
-        this.isInvincible = true;
-
-        // Si un thread d'invincibilité existe, l'interrompre
-        if (invincibilityThread != null && invincibilityThread.isAlive()) {
-            invincibilityThread.interrupt();
+        if (verbose) {
+            System.out.println("Joueur " + playerId + " est temporairement invincible!");
         }
+        // Une invincibilité en cours repart pour la durée complète
+        effects.remove(StatusEffects.Type.INVINCIBILITY);
+        effects.apply(StatusEffects.Type.INVINCIBILITY, INVINCIBILITY_TICKS);
+    }
 
-        // Créer un nouveau thread pour gérer l'invincibilité
-        invincibilityThread = new Thread(() -> {
-            try {
-                Thread.sleep(INVINCIBILITY_DURATION); // Durée d'invincibilité
-                this.isInvincible = false;
-                System.out.println("Joueur " + playerId + " n'est plus invincible!");
-            } catch (InterruptedException e) {
-                // Le thread a été interrompu, donc on désactive l'invincibilité
-                this.isInvincible = false;
-                System.out.println("Invincibilité du joueur " + playerId + " interrompue.");
-            }
-        });
-        invincibilityThread.start();
+    /**
+     * Active ou coupe les traces de debug émises pendant la partie
+     */
+    void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    /**
+     * Fait s'écouler un tick de simulation pour les effets temporaires du joueur
+     */
+    void tickEffects() {
+        int expired = effects.tick();
+        if (verbose && (expired & (1 << StatusEffects.Type.INVINCIBILITY.ordinal())) != 0) {
+            System.out.println("Joueur " + playerId + " n'est plus invincible!");
+        }
     }
 
     public int getScore() {
@@ -333,7 +374,45 @@ public class Player {
         }
     }
 
+    /**
+     * Écrit l'état de jeu du joueur (position, vies, capacités) ; le nom et l'avatar n'en font pas partie
+     */
+    void writeState(ByteBuffer out) {
+        out.putDouble(x);
+        out.putDouble(y);
+        out.putShort((short) lives);
+        out.put((byte) (alive ? 1 : 0));
+        out.put((byte) currentDirection.ordinal());
+        out.put((byte) lastValidDirection.ordinal());
+        out.putShort((short) maxBombs);
+        out.putShort((short) bombsPlaced);
+        out.putShort((short) firePower);
+        out.putDouble(speed);
+        effects.writeState(out);
+    }
+
+    /**
+     * Restaure un état écrit par {@link #writeState(ByteBuffer)}
+     */
+    void readState(ByteBuffer in) {
+        x = in.getDouble();
+        y = in.getDouble();
+        lives = in.getShort();
+        alive = in.get() != 0;
+        currentDirection = DIRECTIONS[in.get()];
+        lastValidDirection = DIRECTIONS[in.get()];
+        maxBombs = in.getShort();
+        bombsPlaced = in.getShort();
+        firePower = in.getShort();
+        speed = in.getDouble();
+        effects.readState(in);
+    }
+
     public boolean getIsInvincible() {
-        return isInvincible;
+        return effects.has(StatusEffects.Type.INVINCIBILITY);
+    }
+
+    public StatusEffects getEffects() {
+        return effects;
     }
 }
\ No newline at end of file
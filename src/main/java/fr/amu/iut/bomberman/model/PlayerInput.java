@@ -0,0 +1,205 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+/**
+ * Entrées des joueurs sous forme de masques de bits
+ * <p>
+ * Les événements clavier (ou tout autre pilote) mettent à jour le masque des actions maintenues de
+ * chaque joueur ; le {@link GameEngine} le fige au début de chaque tick ({@link #latch(GameEngine)}) :
+ * direction maintenue et appui sur la bombe survenu depuis le tick précédent. Aucun objet n'est créé
+ * par événement.
+ * <p>
+ * La latence entrée → tick (temps entre un événement et le début du tick qui l'applique) est mesurée
+ * avec l'horloge fournie, en nanosecondes.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class PlayerInput {
+
+    // Actions (un bit chacune)
+    public static final int UP = 1;
+    public static final int DOWN = 1 << 1;
+    public static final int LEFT = 1 << 2;
+    public static final int RIGHT = 1 << 3;
+    public static final int BOMB = 1 << 4;
+
+    // Priorité des directions quand plusieurs sont maintenues
+    private static final int[] DIRECTION_BITS = {UP, DOWN, LEFT, RIGHT};
+    private static final Direction[] DIRECTIONS = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT};
+
+    private final LongSupplier clock;
+
+    // Indexés par identifiant de joueur
+    private final int[] held;
+    private final int[] pressed;
+
+    // Événements pas encore appliqués par un tick
+    private int pendingEvents;
+    private long oldestPending;
+    // Somme des écarts au plus ancien événement (évite le débordement des horodatages absolus)
+    private long pendingOffsetSum;
+
+    // Statistiques de latence
+    private long latencySamples;
+    private long latencySum;
+    private long maxLatency;
+
+    /**
+     * Constructeur avec l'horloge système
+     *
+     * @param playerCount Nombre de joueurs
+     */
+    public PlayerInput(int playerCount) {
+        this(playerCount, System::nanoTime);
+    }
+
+    /**
+     * Constructeur
+     *
+     * @param playerCount Nombre de joueurs
+     * @param clock       Horloge en nanosecondes (événements et début des ticks)
+     */
+    public PlayerInput(int playerCount, LongSupplier clock) {
+        this.clock = clock;
+        this.held = new int[playerCount + 1];
+        this.pressed = new int[playerCount + 1];
+    }
+
+    /**
+     * Une action commence (touche enfoncée)
+     *
+     * @param playerId Numéro du joueur (1 à N)
+     * @param action   Bit de l'action
+     */
+    public void press(int playerId, int action) {
+        if (!isValidPlayer(playerId) || (held[playerId] & action) == action) {
+            // Répétition automatique du clavier : l'action est déjà maintenue
+            return;
+        }
+        held[playerId] |= action;
+        pressed[playerId] |= action;
+        addPending();
+    }
+
+    /**
+     * Une action se termine (touche relâchée)
+     *
+     * @param playerId Numéro du joueur (1 à N)
+     * @param action   Bit de l'action
+     */
+    public void release(int playerId, int action) {
+        if (!isValidPlayer(playerId) || (held[playerId] & action) == 0) {
+            return;
+        }
+        held[playerId] &= ~action;
+        addPending();
+    }
+
+    /**
+     * Relâche toutes les actions (perte du focus, fin de partie)
+     */
+    public void releaseAll() {
+        Arrays.fill(held, 0);
+        clearPending();
+    }
+
+    /**
+     * Oublie les appuis pas encore appliqués, sans les compter dans la latence (jeu en pause)
+     * Les actions maintenues sont conservées.
+     */
+    public void clearPending() {
+        Arrays.fill(pressed, 0);
+        pendingEvents = 0;
+        pendingOffsetSum = 0;
+    }
+
+    /**
+     * Fige les entrées au début d'un tick et les transmet au moteur
+     *
+     * @param engine Moteur dont le tick commence
+     */
+    void latch(GameEngine engine) {
+        for (int playerId = 1; playerId < held.length; playerId++) {
+            // Une touche enfoncée puis relâchée entre deux ticks déplace tout de même le joueur d'un tick
+            engine.setDirection(playerId, directionOf(held[playerId] | pressed[playerId]));
+            if ((pressed[playerId] & BOMB) != 0) {
+                engine.requestBomb(playerId);
+            }
+            pressed[playerId] = 0;
+        }
+
+        if (pendingEvents > 0) {
+            long oldestLatency = clock.getAsLong() - oldestPending;
+            latencySamples += pendingEvents;
+            latencySum += oldestLatency * pendingEvents - pendingOffsetSum;
+            maxLatency = Math.max(maxLatency, oldestLatency);
+            clearPending();
+        }
+    }
+
+    /**
+     * Direction correspondant à un masque (la première maintenue dans l'ordre haut, bas, gauche, droite)
+     */
+    static Direction directionOf(int bits) {
+        for (int i = 0; i < DIRECTION_BITS.length; i++) {
+            if ((bits & DIRECTION_BITS[i]) != 0) {
+                return DIRECTIONS[i];
+            }
+        }
+        return Direction.NONE;
+    }
+
+    /**
+     * Remet à zéro les statistiques de latence
+     */
+    public void resetLatency() {
+        latencySamples = 0;
+        latencySum = 0;
+        maxLatency = 0;
+    }
+
+    private void addPending() {
+        long now = clock.getAsLong();
+        if (pendingEvents == 0) {
+            oldestPending = now;
+        }
+        pendingEvents++;
+        pendingOffsetSum += now - oldestPending;
+    }
+
+    private boolean isValidPlayer(int playerId) {
+        return playerId >= 1 && playerId < held.length;
+    }
+
+    // Getters
+
+    /**
+     * @return Masque des actions maintenues par un joueur
+     */
+    public int getHeld(int playerId) {
+        return isValidPlayer(playerId) ? held[playerId] : 0;
+    }
+
+    public long getLatencySamples() {
+        return latencySamples;
+    }
+
+    /**
+     * @return Latence moyenne entrée → tick en millisecondes (0 sans mesure)
+     */
+    public double getAverageLatencyMillis() {
+        return latencySamples == 0 ? 0 : latencySum / (latencySamples * 1_000_000.0);
+    }
+
+    /**
+     * @return Latence maximale entrée → tick en millisecondes
+     */
+    public double getMaxLatencyMillis() {
+        return maxLatency / 1_000_000.0;
+    }
+}
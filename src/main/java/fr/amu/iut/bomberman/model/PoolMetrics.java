@@ -0,0 +1,47 @@
+package fr.amu.iut.bomberman.model;
+
+/**
+ * Statistiques d'un réservoir d'entités réutilisables (bombes, flammes)
+ * Une acquisition est un « succès » quand elle réutilise une instance libérée
+ * au lieu d'en créer une nouvelle.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public interface PoolMetrics {
+
+    /**
+     * @return Nombre d'instances créées (en service ou libres)
+     */
+    int getPoolSize();
+
+    /**
+     * @return Nombre d'instances en service
+     */
+    int getInUse();
+
+    /**
+     * @return Nombre d'instances libres, prêtes à être réutilisées
+     */
+    default int getAvailable() {
+        return getPoolSize() - getInUse();
+    }
+
+    /**
+     * @return Nombre total d'acquisitions
+     */
+    long getAcquisitions();
+
+    /**
+     * @return Nombre d'acquisitions servies par une instance réutilisée
+     */
+    long getHits();
+
+    /**
+     * @return Proportion d'acquisitions servies sans création (1.0 si aucune acquisition)
+     */
+    default double getHitRate() {
+        long acquisitions = getAcquisitions();
+        return acquisitions == 0 ? 1.0 : (double) getHits() / acquisitions;
+    }
+}
@@ -2,6 +2,7 @@ package fr.amu.iut.bomberman.model;
 
 /**
  * Classe représentant un power-up dans le jeu
+ * Sur le plateau, seul le type est conservé, dans un index par case ({@link GameBoard#getPowerUpAt}).
  *
  * @author Groupe_3_6
  * @version 1.0
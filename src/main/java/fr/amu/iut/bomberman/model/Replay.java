@@ -0,0 +1,269 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Rediffusion d'une partie enregistrée par un {@link ReplayRecorder}
+ * <p>
+ * Format : en-tête (signature, version, graine, plateau, joueurs, règles, intervalle des
+ * sauvegardes, nombre de ticks, noms), journal des entrées par plages, puis les sauvegardes
+ * complètes avec leur position dans le journal.
+ * <p>
+ * La lecture ({@link Playback}) recrée la partie à partir de la graine et rejoue les entrées tick par
+ * tick via un {@link GameEngine}, sans interface ni attente : des centaines de fois plus vite que le
+ * temps réel. {@link Playback#seek(int)} repart de la sauvegarde qui précède le tick demandé.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class Replay {
+
+    static final int MAGIC = 0x424D5250; // "BMRP"
+    static final byte FORMAT_VERSION = 3;
+    static final int HEADER_BYTES = Integer.BYTES + 1 + Long.BYTES + 2 * Short.BYTES + 1
+            + 2 * Short.BYTES + 2 * Integer.BYTES;
+
+    // Quartet d'entrée d'un joueur : bit 3 = bombe, bits 0-2 = ordinal de la direction
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int BOMB_BIT = 0x8;
+    private static final int DIRECTION_MASK = 0x7;
+
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final String[] playerNames;
+    private final int roundsToWin;
+    private final int roundTimeLimit;
+    private final int keyframeInterval;
+    private final int tickCount;
+    private final byte[] inputs;
+    private final int[] keyframeOffsets;
+    private final byte[][] keyframes;
+
+    private Replay(ByteBuffer in) {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Ce fichier n'est pas une rediffusion");
+        }
+        byte version = in.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Version de rediffusion non supportée : " + version);
+        }
+        seed = in.getLong();
+        width = in.getShort();
+        height = in.getShort();
+        int playerCount = in.get();
+        roundsToWin = in.getShort();
+        roundTimeLimit = in.getShort();
+        keyframeInterval = in.getInt();
+        tickCount = in.getInt();
+        if (playerCount < GameModel.MIN_PLAYERS || playerCount > GameModel.MAX_PLAYERS
+                || keyframeInterval <= 0 || tickCount < 0) {
+            throw new IllegalArgumentException("En-tête de rediffusion invalide");
+        }
+
+        playerNames = new String[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            byte[] name = new byte[in.getShort()];
+            in.get(name);
+            playerNames[i] = new String(name, StandardCharsets.UTF_8);
+        }
+
+        inputs = new byte[in.getInt()];
+        in.get(inputs);
+
+        int keyframeCount = in.getInt();
+        if (keyframeCount != tickCount / keyframeInterval + 1) {
+            throw new IllegalArgumentException("Sauvegardes de rediffusion manquantes");
+        }
+        keyframeOffsets = new int[keyframeCount];
+        keyframes = new byte[keyframeCount][];
+        for (int i = 0; i < keyframeCount; i++) {
+            keyframeOffsets[i] = in.getInt();
+            keyframes[i] = new byte[in.getInt()];
+            in.get(keyframes[i]);
+        }
+    }
+
+    /**
+     * Lit une rediffusion en mémoire
+     *
+     * @throws IllegalArgumentException Si le contenu n'est pas une rediffusion valide
+     */
+    public static Replay fromBytes(byte[] data) {
+        try {
+            return new Replay(ByteBuffer.wrap(data));
+        } catch (BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Rediffusion tronquée", e);
+        }
+    }
+
+    /**
+     * Lit un fichier de rediffusion
+     */
+    public static Replay read(Path file) throws IOException {
+        return fromBytes(Files.readAllBytes(file));
+    }
+
+    /**
+     * Crée une lecture, positionnée au début de la partie
+     */
+    public Playback play() {
+        return new Playback();
+    }
+
+    static int recordBytes(int playerCount) {
+        return (playerCount + 1) / 2;
+    }
+
+    static int encodeInput(Direction direction, boolean bomb) {
+        return direction.ordinal() | (bomb ? BOMB_BIT : 0);
+    }
+
+    // Getters
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getPlayerCount() {
+        return playerNames.length;
+    }
+
+    public String getPlayerName(int playerId) {
+        return playerNames[playerId - 1];
+    }
+
+    /**
+     * @return Nombre de ticks enregistrés
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    public int getKeyframeInterval() {
+        return keyframeInterval;
+    }
+
+    /**
+     * @return Nombre de sauvegardes complètes lues dans l'enregistrement
+     */
+    public int getKeyframeCount() {
+        return keyframes.length;
+    }
+
+    /**
+     * Lecture d'une rediffusion sur sa propre partie (à utiliser depuis un seul thread)
+     */
+    public final class Playback {
+
+        private final GameModel gameModel;
+        private final GameEngine engine;
+        private final byte[] record = new byte[recordBytes(playerNames.length)];
+
+        private int tick;
+        private int inputPosition;
+        private int runRemaining;
+
+        private Playback() {
+            gameModel = new GameModel(width, height, playerNames.length, seed);
+            gameModel.startNewGame(playerNames.clone(), roundsToWin, roundTimeLimit);
+            engine = new GameEngine(gameModel);
+            restoreKeyframe(0);
+        }
+
+        /**
+         * Rejoue le tick suivant
+         *
+         * @return false si la fin de l'enregistrement est atteinte
+         */
+        public boolean step() {
+            if (tick >= tickCount) {
+                return false;
+            }
+            // Les rounds s'enchaînent entre deux ticks, comme dans le jeu
+            if (gameModel.getGameState() == GameModel.GameState.ROUND_OVER) {
+                gameModel.continueToNextRound();
+            }
+
+            if (runRemaining == 0) {
+                int length = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = inputs[inputPosition++];
+                    length |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while ((b & 0x80) != 0);
+                System.arraycopy(inputs, inputPosition, record, 0, record.length);
+                inputPosition += record.length;
+                runRemaining = length;
+            }
+            runRemaining--;
+
+            for (int playerId = 1; playerId <= playerNames.length; playerId++) {
+                int packed = record[(playerId - 1) >> 1];
+                int nibble = ((playerId & 1) == 1 ? packed >> 4 : packed) & 0xF;
+                engine.setDirection(playerId, DIRECTIONS[nibble & DIRECTION_MASK]);
+                if ((nibble & BOMB_BIT) != 0) {
+                    engine.requestBomb(playerId);
+                }
+            }
+            engine.tick();
+            tick++;
+            return true;
+        }
+
+        /**
+         * Rejoue jusqu'à la fin de l'enregistrement
+         */
+        public void playToEnd() {
+            while (step()) {
+                // Rien d'autre à faire : le moteur fait avancer la partie
+            }
+        }
+
+        /**
+         * Positionne la lecture sur un tick : restauration de la sauvegarde précédente puis au plus
+         * {@link #getKeyframeInterval()} ticks rejoués (coût indépendant de la position)
+         *
+         * @param targetTick Tick à atteindre (borné à la durée de l'enregistrement)
+         */
+        public void seek(int targetTick) {
+            int target = Math.max(0, Math.min(targetTick, tickCount));
+            int keyframe = target / keyframeInterval;
+            // En avant dans le même intervalle : inutile de restaurer
+            if (target < tick || keyframe != tick / keyframeInterval) {
+                restoreKeyframe(keyframe);
+            }
+            while (tick < target) {
+                step();
+            }
+        }
+
+        private void restoreKeyframe(int index) {
+            GameSnapshot.restore(gameModel, keyframes[index]);
+            tick = index * keyframeInterval;
+            inputPosition = keyframeOffsets[index];
+            runRemaining = 0;
+        }
+
+        public int getTick() {
+            return tick;
+        }
+
+        public boolean isFinished() {
+            return tick >= tickCount;
+        }
+
+        public GameModel getGameModel() {
+            return gameModel;
+        }
+    }
+}
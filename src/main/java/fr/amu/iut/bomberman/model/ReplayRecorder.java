@@ -0,0 +1,222 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Enregistrement d'une partie sous forme de rediffusion (voir {@link Replay})
+ * <p>
+ * Une partie est entièrement déterminée par sa graine et par les entrées appliquées à chaque tick :
+ * le {@link GameEngine} transmet ici, avant chaque tick, la direction et la demande de bombe de
+ * chaque joueur (un quartet par joueur). Les ticks identiques consécutifs sont regroupés en plages
+ * (longueur + entrées), ce qui rend le journal très compact.
+ * <p>
+ * Toutes les {@code keyframeInterval} ticks, une sauvegarde complète ({@link GameSnapshot}) est
+ * ajoutée avec la position correspondante dans le journal : la lecture peut alors sauter à n'importe
+ * quel tick en rejouant au plus un intervalle.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class ReplayRecorder {
+
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 10 * GameEngine.TICKS_PER_SECOND;
+
+    private final GameModel gameModel;
+    private final int keyframeInterval;
+    private final String[] playerNames;
+    private final int roundsToWin;
+    private final int roundTimeLimit;
+
+    // Entrées du tick courant et de la plage en cours (un quartet par joueur)
+    private final byte[] current;
+    private final byte[] run;
+    private int runLength;
+    private int tickCount;
+
+    // Journal des plages
+    private byte[] inputs = new byte[256];
+    private int inputLength;
+
+    // Sauvegardes complètes, une toutes les keyframeInterval ticks (la première au tick 0)
+    private final List<byte[]> keyframes = new ArrayList<>();
+    private int[] keyframeOffsets = new int[16];
+
+    /**
+     * Constructeur avec l'intervalle par défaut entre sauvegardes (10 secondes)
+     *
+     * @param gameModel Partie venant d'être démarrée ({@link GameModel#startNewGame}), avant tout tick
+     */
+    public ReplayRecorder(GameModel gameModel) {
+        this(gameModel, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Constructeur
+     *
+     * @param gameModel        Partie venant d'être démarrée, avant tout tick
+     * @param keyframeInterval Nombre de ticks entre deux sauvegardes complètes
+     */
+    public ReplayRecorder(GameModel gameModel, int keyframeInterval) {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Intervalle de sauvegarde invalide : " + keyframeInterval);
+        }
+        if (gameModel.getPlayer1() == null) {
+            throw new IllegalStateException("La partie doit être démarrée avant l'enregistrement");
+        }
+        this.gameModel = gameModel;
+        this.keyframeInterval = keyframeInterval;
+        this.playerNames = new String[gameModel.getPlayerCount()];
+        for (int i = 0; i < playerNames.length; i++) {
+            playerNames[i] = gameModel.getPlayer(i + 1).getName();
+        }
+        this.roundsToWin = gameModel.getRoundsToWin();
+        this.roundTimeLimit = gameModel.getRoundTimeLimit();
+        this.current = new byte[Replay.recordBytes(playerNames.length)];
+        this.run = new byte[current.length];
+
+        addKeyframe();
+    }
+
+    /**
+     * Enregistre les entrées appliquées au tick qui commence (appelé par le moteur)
+     *
+     * @param directions   Directions maintenues, indexées par identifiant de joueur
+     * @param bombRequests Demandes de bombe, indexées par identifiant de joueur
+     */
+    void recordTick(Direction[] directions, boolean[] bombRequests) {
+        Arrays.fill(current, (byte) 0);
+        for (int playerId = 1; playerId <= playerNames.length; playerId++) {
+            int nibble = Replay.encodeInput(directions[playerId], bombRequests[playerId]);
+            int index = (playerId - 1) >> 1;
+            current[index] |= (byte) ((playerId & 1) == 1 ? nibble << 4 : nibble);
+        }
+
+        if (runLength > 0 && Arrays.equals(current, run)) {
+            runLength++;
+        } else {
+            flushRun();
+            System.arraycopy(current, 0, run, 0, current.length);
+            runLength = 1;
+        }
+    }
+
+    /**
+     * Termine le tick enregistré (appelé par le moteur après la mise à jour du modèle)
+     */
+    void endTick() {
+        tickCount++;
+        if (tickCount % keyframeInterval == 0) {
+            // Une plage ne chevauche jamais une sauvegarde : la lecture reprend au début d'une plage
+            flushRun();
+            addKeyframe();
+        }
+    }
+
+    /**
+     * @return Nombre de ticks enregistrés
+     */
+    public int getTickCount() {
+        return tickCount;
+    }
+
+    /**
+     * Produit le fichier de rediffusion des ticks enregistrés jusqu'ici
+     *
+     * @return Contenu binaire (voir {@link Replay#fromBytes(byte[])})
+     */
+    public byte[] toByteArray() {
+        flushRun();
+
+        byte[][] names = new byte[playerNames.length][];
+        int size = Replay.HEADER_BYTES + Integer.BYTES + inputLength + Integer.BYTES;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = playerNames[i].getBytes(StandardCharsets.UTF_8);
+            size += Short.BYTES + names[i].length;
+        }
+        for (byte[] keyframe : keyframes) {
+            size += 2 * Integer.BYTES + keyframe.length;
+        }
+
+        GameBoard board = gameModel.getGameBoard();
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(Replay.MAGIC);
+        out.put(Replay.FORMAT_VERSION);
+        out.putLong(gameModel.getSeed());
+        out.putShort((short) board.getWidth());
+        out.putShort((short) board.getHeight());
+        out.put((byte) playerNames.length);
+        out.putShort((short) roundsToWin);
+        out.putShort((short) roundTimeLimit);
+        out.putInt(keyframeInterval);
+        out.putInt(tickCount);
+        for (byte[] name : names) {
+            out.putShort((short) name.length);
+            out.put(name);
+        }
+
+        out.putInt(inputLength);
+        out.put(inputs, 0, inputLength);
+
+        out.putInt(keyframes.size());
+        for (int i = 0; i < keyframes.size(); i++) {
+            byte[] keyframe = keyframes.get(i);
+            out.putInt(keyframeOffsets[i]);
+            out.putInt(keyframe.length);
+            out.put(keyframe);
+        }
+        return out.array();
+    }
+
+    /**
+     * Écrit le fichier de rediffusion
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.write(file, toByteArray());
+    }
+
+    /**
+     * Écrit la plage en cours dans le journal : longueur (entier variable) puis entrées
+     */
+    private void flushRun() {
+        if (runLength == 0) {
+            return;
+        }
+        ensureCapacity(5 + run.length);
+        int value = runLength;
+        while ((value & ~0x7F) != 0) {
+            inputs[inputLength++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        inputs[inputLength++] = (byte) value;
+        System.arraycopy(run, 0, inputs, inputLength, run.length);
+        inputLength += run.length;
+        runLength = 0;
+    }
+
+    private void addKeyframe() {
+        if (keyframes.size() == keyframeOffsets.length) {
+            keyframeOffsets = Arrays.copyOf(keyframeOffsets, keyframeOffsets.length * 2);
+        }
+        keyframeOffsets[keyframes.size()] = inputLength;
+        keyframes.add(GameSnapshot.capture(gameModel));
+    }
+
+    private void ensureCapacity(int extra) {
+        if (inputLength + extra > inputs.length) {
+            inputs = Arrays.copyOf(inputs, Math.max(inputs.length * 2, inputLength + extra));
+        }
+    }
+}
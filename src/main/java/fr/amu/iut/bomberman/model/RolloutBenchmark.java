@@ -0,0 +1,112 @@
+package fr.amu.iut.bomberman.model;
+
+import java.io.PrintStream;
+
+/**
+ * Mesure du débit de la recherche Monte-Carlo des bots (rollouts par seconde)
+ * <p>
+ * Une partie reproductible est avancée jusqu'au milieu de son premier round, puis la recherche
+ * décide en boucle depuis cet état, d'abord sur un seul thread puis sur tous les threads demandés.
+ * Chaque configuration est d'abord exécutée à vide (compilation JIT) avant d'être mesurée.
+ * <p>
+ * Exemple : {@code mvn javafx:run@rollouts -Djavafx.args="--seconds 10 --threads 8"}
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class RolloutBenchmark {
+
+    static final String USAGE = "Usage : RolloutBenchmark [--seconds S] [--threads N] [--depth N] [--seed N]";
+
+    // Budget d'une décision pendant la mesure (plusieurs décisions par configuration)
+    private static final long DECISION_NANOS = 100_000_000L;
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    // Ticks joués avant la mesure : bombes et murs détruits, comme en cours de partie
+    private static final int OPENING_TICKS = 20 * GameEngine.TICKS_PER_SECOND;
+
+    private RolloutBenchmark() {
+    }
+
+    /**
+     * Point d'entrée en ligne de commande
+     */
+    public static void main(String[] args) {
+        BenchmarkOptions options = BenchmarkOptions.parseOrExit(USAGE, args, BenchmarkOptions.SECONDS,
+                BenchmarkOptions.THREADS, BenchmarkOptions.DEPTH, BenchmarkOptions.SEED);
+        long seconds = options.seconds;
+        int threads = options.threads;
+        int depth = options.depth;
+        long seed = options.seed;
+
+        GameModel gameModel = openingPosition(seed);
+        PrintStream console = System.out;
+        console.println("=== DÉBIT DES ROLLOUTS : plateau " + gameModel.getGameBoard().getWidth() + "x"
+                + gameModel.getGameBoard().getHeight() + ", profondeur " + depth + " pas de "
+                + MonteCarloSearch.STEP_TICKS + " ticks, graine " + seed + " ===");
+        MonteCarloSearch single = measure(gameModel, 1, depth, seconds * 1_000_000_000L);
+        print(console, single);
+        if (threads > 1) {
+            MonteCarloSearch parallel = measure(gameModel, threads, depth, seconds * 1_000_000_000L);
+            print(console, parallel);
+            console.printf("Accélération : x%.2f sur %d threads%n",
+                    parallel.getRolloutsPerSecond() / single.getRolloutsPerSecond(), threads);
+        }
+    }
+
+    /**
+     * Partie à deux joueurs avancée de {@link #OPENING_TICKS} ticks, chaque joueur piloté par un bot
+     */
+    static GameModel openingPosition(long seed) {
+        // Partie silencieuse : les traces de debug de la mise en place ne font pas partie de la mesure
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, seed, false);
+        gameModel.startNewGame("Bot1", "Bot2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+        BotScheduler scheduler = new BotScheduler();
+        for (int id = 1; id <= gameModel.getPlayerCount(); id++) {
+            BotPlayer bot = new BotPlayer(gameModel.getPlayer(id), gameModel.getGameBoard(), gameModel.splitRandom());
+            bot.setOpponents(gameModel.getPlayer(3 - id));
+            scheduler.register(bot);
+        }
+        engine.setBotScheduler(scheduler);
+        for (int i = 0; i < OPENING_TICKS && gameModel.getGameState() == GameModel.GameState.PLAYING; i++) {
+            engine.tick();
+        }
+        return gameModel;
+    }
+
+    /**
+     * Fait décider la recherche en boucle pendant la durée demandée, après une exécution à vide
+     *
+     * @return Recherche mesurée (ses statistiques ne couvrent que la mesure)
+     */
+    static MonteCarloSearch measure(GameModel gameModel, int threads, int depth, long durationNanos) {
+        GameRandom random = new GameRandom(gameModel.getSeed());
+        MonteCarloSearch warmup = new MonteCarloSearch(gameModel, threads);
+        warmup.setDepth(depth);
+        run(warmup, gameModel, random, WARMUP_NANOS);
+        warmup.shutdown();
+
+        MonteCarloSearch search = new MonteCarloSearch(gameModel, threads);
+        search.setDepth(depth);
+        run(search, gameModel, random, durationNanos);
+        search.shutdown();
+        return search;
+    }
+
+    private static void run(MonteCarloSearch search, GameModel gameModel, GameRandom random, long durationNanos) {
+        search.setBudgetNanos(Math.min(DECISION_NANOS, durationNanos));
+        long end = System.nanoTime() + durationNanos;
+        while (System.nanoTime() < end) {
+            search.search(gameModel, 1, random);
+        }
+    }
+
+    private static void print(PrintStream out, MonteCarloSearch search) {
+        double rollouts = search.getRolloutsPerSecond();
+        out.printf("%2d thread(s) : %,.0f rollouts/s, %,.0f ticks simulés/s, %.1f µs par rollout et par thread"
+                        + " (%d décisions, %,d rollouts)%n",
+                search.getThreadCount(), rollouts, search.getTicksPerSecond(),
+                rollouts == 0 ? 0.0 : 1e6 * search.getThreadCount() / rollouts,
+                search.getDecisionCount(), search.getTotalIterations());
+    }
+}
@@ -0,0 +1,98 @@
+package fr.amu.iut.bomberman.model;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Effets temporaires d'un joueur (invincibilité, puis power-ups à durée limitée)
+ * <p>
+ * Chaque effet est un compteur de ticks restants, décrémenté par {@link #tick()} à chaque tick de
+ * simulation : les effets ne s'écoulent donc que pendant le jeu (pas pendant une pause), ne créent
+ * aucun thread et font partie de l'état sauvegardé, ce qui rend la partie déterministe.
+ *
+ * @author Groupe_3_6
+ * @version 1.0
+ */
+public final class StatusEffects {
+
+    /**
+     * Types d'effets
+     */
+    public enum Type {
+        INVINCIBILITY
+    }
+
+    private static final Type[] TYPES = Type.values();
+
+    // Taille de l'état sérialisé (voir writeState)
+    static final int STATE_BYTES = TYPES.length * Integer.BYTES;
+
+    // Ticks restants, indexés par ordinal du type (0 = inactif)
+    private final int[] remainingTicks = new int[TYPES.length];
+
+    /**
+     * Active un effet ; un effet déjà actif est prolongé si la nouvelle durée est plus longue
+     *
+     * @param type  Type d'effet
+     * @param ticks Durée en ticks de simulation
+     */
+    public void apply(Type type, int ticks) {
+        int index = type.ordinal();
+        remainingTicks[index] = Math.max(remainingTicks[index], ticks);
+    }
+
+    /**
+     * Termine immédiatement un effet
+     */
+    public void remove(Type type) {
+        remainingTicks[type.ordinal()] = 0;
+    }
+
+    /**
+     * Termine tous les effets
+     */
+    public void clear() {
+        Arrays.fill(remainingTicks, 0);
+    }
+
+    /**
+     * Fait s'écouler un tick
+     *
+     * @return Masque des effets terminés pendant ce tick (bit = ordinal du type), 0 si aucun
+     */
+    int tick() {
+        int expired = 0;
+        for (int i = 0; i < remainingTicks.length; i++) {
+            if (remainingTicks[i] > 0 && --remainingTicks[i] == 0) {
+                expired |= 1 << i;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * @return true si l'effet est actif
+     */
+    public boolean has(Type type) {
+        return remainingTicks[type.ordinal()] > 0;
+    }
+
+    /**
+     * @return Nombre de ticks restants de l'effet (0 s'il est inactif)
+     */
+    public int getRemainingTicks(Type type) {
+        return remainingTicks[type.ordinal()];
+    }
+
+    void writeState(ByteBuffer out) {
+        for (int ticks : remainingTicks) {
+            out.putInt(ticks);
+        }
+    }
+
+    void readState(ByteBuffer in) {
+        for (int i = 0; i < remainingTicks.length; i++) {
+            remainingTicks[i] = in.getInt();
+        }
+    }
+}
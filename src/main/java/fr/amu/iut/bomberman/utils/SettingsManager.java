@@ -99,6 +99,21 @@ public class SettingsManager {
         // Gameplay
         properties.setProperty("gameplay.roundsToWin", "3");
         properties.setProperty("gameplay.timeLimit", "180");
+        properties.setProperty("gameplay.boardWidth", "15");
+        properties.setProperty("gameplay.boardHeight", "13");
+        properties.setProperty("gameplay.botDifficulty", "Normal");
+
+        // Contrôles
+        properties.setProperty("controls.p1.up", "Z");
+        properties.setProperty("controls.p1.down", "S");
+        properties.setProperty("controls.p1.left", "Q");
+        properties.setProperty("controls.p1.right", "D");
+        properties.setProperty("controls.p1.bomb", "SPACE");
+        properties.setProperty("controls.p2.up", "UP");
+        properties.setProperty("controls.p2.down", "DOWN");
+        properties.setProperty("controls.p2.left", "LEFT");
+        properties.setProperty("controls.p2.right", "RIGHT");
+        properties.setProperty("controls.p2.bomb", "ENTER");
 
         System.out.println("Paramètres par défaut appliqués");
     }
@@ -115,6 +130,8 @@ public class SettingsManager {
         settingsCache.put("video.showFPS", getBooleanSetting("video.showFPS"));
         settingsCache.put("gameplay.roundsToWin", getIntSetting("gameplay.roundsToWin"));
         settingsCache.put("gameplay.timeLimit", getIntSetting("gameplay.timeLimit"));
+        settingsCache.put("gameplay.boardWidth", getIntSetting("gameplay.boardWidth"));
+        settingsCache.put("gameplay.boardHeight", getIntSetting("gameplay.boardHeight"));
     }
 
     /**
@@ -139,6 +156,40 @@ public class SettingsManager {
         saveSettings();
     }
 
+    /**
+     * Obtient un paramètre texte
+     *
+     * @param key          Clé du paramètre
+     * @param defaultValue Valeur si le paramètre est absent
+     * @return Valeur du paramètre
+     */
+    public String getStringSetting(String key, String defaultValue) {
+        return properties.getProperty(key, defaultValue);
+    }
+
+    /**
+     * Définit un paramètre texte
+     *
+     * @param key   Clé du paramètre
+     * @param value Valeur
+     */
+    public void setStringSetting(String key, String value) {
+        putStringSetting(key, value);
+        saveSettings();
+    }
+
+    /**
+     * Définit un paramètre texte sans sauvegarder le fichier
+     * Pour modifier plusieurs paramètres à la fois, puis appeler {@link #saveSettings()} une seule fois.
+     *
+     * @param key   Clé du paramètre
+     * @param value Valeur
+     */
+    public void putStringSetting(String key, String value) {
+        properties.setProperty(key, value);
+        settingsCache.put(key, value);
+    }
+
     /**
      * Obtient un paramètre entier
      *
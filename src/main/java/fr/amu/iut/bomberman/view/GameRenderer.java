@@ -35,12 +35,25 @@ public class GameRenderer {
     private double offsetX;
     private double offsetY;
 
+    // Cases visibles (les grands plateaux ne sont dessinés que dans la fenêtre de la caméra)
+    private int visibleMinX;
+    private int visibleMinY;
+    private int visibleMaxX;
+    private int visibleMaxY;
+
+    // En dessous de cette taille, la caméra suit le joueur 1 au lieu d'afficher tout le plateau
+    private static final double MIN_TILE_SIZE = 24;
+
     // Couleurs de remplacement pour les sprites manquants
     private static final Color FLOOR_COLOR = Color.rgb(50, 50, 50);
     private static final Color WALL_COLOR = Color.GRAY;
     private static final Color BREAKABLE_COLOR = Color.rgb(139, 69, 19);
     private static final Color PLAYER1_COLOR = Color.BLUE;
     private static final Color PLAYER2_COLOR = Color.RED;
+    // Joueurs 3 et suivants (parties à N joueurs, sans sprites dédiés)
+    private static final Color[] EXTRA_PLAYER_COLORS = {
+            Color.GOLD, Color.MAGENTA, Color.CYAN, Color.ORANGE, Color.WHITE, Color.PINK, Color.VIOLET
+    };
     private static final Color POWERUP_COLOR = Color.LIMEGREEN;
 
     // Compteur pour l'animation
@@ -132,7 +145,7 @@ public class GameRenderer {
         // Mettre à jour l'animation
         animationTimer += 0.016; // ~60 FPS
 
-        calculateDimensions();
+        calculateDimensions(gameModel);
 
         // Effacer le canvas
         gc.setFill(Color.BLACK);
@@ -175,8 +188,10 @@ public class GameRenderer {
 
     /**
      * Calcule les dimensions de rendu
+     * Le plateau est affiché en entier s'il tient dans le canvas ; sinon la taille des tuiles
+     * est bornée et la vue est centrée sur le joueur 1 (coût proportionnel à la fenêtre, pas au plateau)
      */
-    private void calculateDimensions() {
+    private void calculateDimensions(GameModel gameModel) {
         double canvasWidth = canvas.getWidth();
         double canvasHeight = canvas.getHeight();
 
@@ -185,22 +200,61 @@ public class GameRenderer {
             canvasHeight = 600;
         }
 
+        GameBoard board = gameModel.getGameBoard();
+        int boardWidth = board.getWidth();
+        int boardHeight = board.getHeight();
+
         // Calculer la taille des tuiles
-        double tileSizeX = canvasWidth / GameBoard.GRID_WIDTH;
-        double tileSizeY = canvasHeight / GameBoard.GRID_HEIGHT;
+        double tileSizeX = canvasWidth / boardWidth;
+        double tileSizeY = canvasHeight / boardHeight;
         tileSize = Math.min(tileSizeX, tileSizeY);
 
-        // Centrer le plateau
-        offsetX = (canvasWidth - (GameBoard.GRID_WIDTH * tileSize)) / 2;
-        offsetY = (canvasHeight - (GameBoard.GRID_HEIGHT * tileSize)) / 2;
+        if (tileSize >= MIN_TILE_SIZE) {
+            // Centrer le plateau
+            offsetX = (canvasWidth - (boardWidth * tileSize)) / 2;
+            offsetY = (canvasHeight - (boardHeight * tileSize)) / 2;
+        } else {
+            tileSize = MIN_TILE_SIZE;
+
+            // Caméra centrée sur le joueur 1 (ou le centre du plateau)
+            Player player1 = gameModel.getPlayer1();
+            double cameraX = player1 != null ? player1.getX() : boardWidth / 2.0;
+            double cameraY = player1 != null ? player1.getY() : boardHeight / 2.0;
+
+            offsetX = clampOffset(canvasWidth / 2 - cameraX * tileSize, canvasWidth, boardWidth);
+            offsetY = clampOffset(canvasHeight / 2 - cameraY * tileSize, canvasHeight, boardHeight);
+        }
+
+        visibleMinX = Math.max(0, (int) Math.floor(-offsetX / tileSize));
+        visibleMinY = Math.max(0, (int) Math.floor(-offsetY / tileSize));
+        visibleMaxX = Math.min(boardWidth - 1, (int) Math.floor((canvasWidth - offsetX) / tileSize));
+        visibleMaxY = Math.min(boardHeight - 1, (int) Math.floor((canvasHeight - offsetY) / tileSize));
     }
 
     /**
-     * Dessine le plateau de jeu
+     * Empêche la caméra de montrer l'extérieur d'un plateau plus grand que le canvas
+     */
+    private double clampOffset(double offset, double canvasSize, int boardSize) {
+        double boardPixels = boardSize * tileSize;
+        if (boardPixels <= canvasSize) {
+            return (canvasSize - boardPixels) / 2;
+        }
+        return Math.max(canvasSize - boardPixels, Math.min(0, offset));
+    }
+
+    /**
+     * Vérifie si une case est dans la zone visible
+     */
+    private boolean isVisible(int x, int y) {
+        return x >= visibleMinX && x <= visibleMaxX && y >= visibleMinY && y <= visibleMaxY;
+    }
+
+    /**
+     * Dessine le plateau de jeu (cases visibles uniquement)
      */
     private void renderBoard(GameBoard board) {
-        for (int x = 0; x < GameBoard.GRID_WIDTH; x++) {
-            for (int y = 0; y < GameBoard.GRID_HEIGHT; y++) {
+        for (int x = visibleMinX; x <= visibleMaxX; x++) {
+            for (int y = visibleMinY; y <= visibleMaxY; y++) {
                 double drawX = offsetX + x * tileSize;
                 double drawY = offsetY + y * tileSize;
 
@@ -222,26 +276,30 @@ public class GameRenderer {
     }
 
     /**
-     * Dessine les power-ups
+     * Dessine les power-ups (cases visibles uniquement, lues dans l'index par case)
      */
     private void renderPowerUps(GameBoard board) {
-        for (PowerUp powerUp : board.getPowerUps()) {
-            double drawX = offsetX + powerUp.getX() * tileSize;
-            double drawY = offsetY + powerUp.getY() * tileSize;
+        for (int y = visibleMinY; y <= visibleMaxY; y++) {
+            for (int x = visibleMinX; x <= visibleMaxX; x++) {
+                PowerUp.Type type = board.getPowerUpAt(x, y);
+                if (type == null) continue;
+                double drawX = offsetX + x * tileSize;
+                double drawY = offsetY + y * tileSize;
 
-            // Animation pulse
-            double scale = 1.0 + Math.sin(animationTimer * 3) * 0.1;
+                // Animation pulse
+                double scale = 1.0 + Math.sin(animationTimer * 3) * 0.1;
 
-            String imageKey = getPowerUpImageKey(powerUp.getType());
+                String imageKey = getPowerUpImageKey(type);
 
-            gc.save();
-            gc.translate(drawX + tileSize / 2, drawY + tileSize / 2);
-            gc.scale(scale, scale);
-            gc.translate(-tileSize / 2, -tileSize / 2);
+                gc.save();
+                gc.translate(drawX + tileSize / 2, drawY + tileSize / 2);
+                gc.scale(scale, scale);
+                gc.translate(-tileSize / 2, -tileSize / 2);
 
-            drawTile(0, 0, POWERUP_COLOR, imageKey);
+                drawTile(0, 0, POWERUP_COLOR, imageKey);
 
-            gc.restore();
+                gc.restore();
+            }
         }
     }
 
@@ -250,11 +308,12 @@ public class GameRenderer {
      */
     private void renderBombs(GameBoard board) {
         for (Bomb bomb : board.getBombs()) {
+            if (!isVisible(bomb.getX(), bomb.getY())) continue;
             double drawX = offsetX + bomb.getX() * tileSize;
             double drawY = offsetY + bomb.getY() * tileSize;
 
             // Animation de la bombe (pulsation)
-            double timePercent = bomb.getTimePercentage();
+            double timePercent = bomb.getTimePercentage(board.getCurrentTick());
             double pulseSpeed = 5.0 + (1.0 - timePercent) * 10.0; // Accélère près de l'explosion
             double scale = 1.0 + Math.sin(animationTimer * pulseSpeed) * 0.2 * (1.0 - timePercent);
 
@@ -281,11 +340,12 @@ public class GameRenderer {
      */
     private void renderExplosions(GameBoard board) {
         for (Explosion explosion : board.getExplosions()) {
+            if (!isVisible(explosion.getX(), explosion.getY())) continue;
             double drawX = offsetX + explosion.getX() * tileSize;
             double drawY = offsetY + explosion.getY() * tileSize;
 
             // Couleur qui varie selon l'intensité
-            double intensity = explosion.getIntensity();
+            double intensity = explosion.getIntensity(board.getCurrentTick());
             Color explosionColor = Color.color(1.0, intensity, 0.0, 0.8 * intensity);
 
             String imageKey = getExplosionImageKey(explosion.getType());
@@ -323,17 +383,23 @@ public class GameRenderer {
      * Dessine les joueurs
      */
     private void renderPlayers(GameModel gameModel) {
-        // Joueur 1
-        Player player1 = gameModel.getPlayer1();
-        if (player1 != null && player1.isAlive()) {
-            renderPlayer(player1, PLAYER1_COLOR, 1);
+        for (int playerId = 1; playerId <= gameModel.getPlayerCount(); playerId++) {
+            Player player = gameModel.getPlayer(playerId);
+            if (player != null && player.isAlive()) {
+                renderPlayer(player, getPlayerColor(playerId), playerId);
+            }
         }
+    }
 
-        // Joueur 2
-        Player player2 = gameModel.getPlayer2();
-        if (player2 != null && player2.isAlive()) {
-            renderPlayer(player2, PLAYER2_COLOR, 2);
-        }
+    /**
+     * Couleur de remplacement d'un joueur
+     */
+    private Color getPlayerColor(int playerId) {
+        return switch (playerId) {
+            case 1 -> PLAYER1_COLOR;
+            case 2 -> PLAYER2_COLOR;
+            default -> EXTRA_PLAYER_COLORS[(playerId - 3) % EXTRA_PLAYER_COLORS.length];
+        };
     }
 
     /**
@@ -0,0 +1,53 @@
+package fr.amu.iut.bomberman.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.LongSupplier;
+
+/**
+ * Mesure des octets alloués par le thread courant (compteurs d'allocation par thread de la JVM),
+ * partagée par les tests qui vérifient qu'un chemin de code n'alloue rien
+ */
+final class AllocationMeter {
+
+    private static final int MEASURE_ATTEMPTS = 3;
+
+    private final com.sun.management.ThreadMXBean threadBean;
+
+    AllocationMeter() {
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        // Un premier appel pour que la mesure elle-même n'alloue plus
+        threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return Octets alloués par le thread courant pendant une exécution de {@code code}
+     */
+    long allocatedBy(Runnable code) {
+        long threadId = Thread.currentThread().getId();
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        code.run();
+        return threadBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Meilleure de plusieurs mesures d'une exécution de {@code code}
+     */
+    long measure(Runnable code) {
+        return best(() -> allocatedBy(code));
+    }
+
+    /**
+     * On garde la meilleure de plusieurs fenêtres : une recompilation JIT
+     * (désoptimisation) peut allouer ponctuellement sans que le code mesuré n'y soit pour rien
+     *
+     * @param measurement Une mesure complète, en octets alloués
+     */
+    long best(LongSupplier measurement) {
+        long best = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < MEASURE_ATTEMPTS && best > 0; attempt++) {
+            best = Math.min(best, measurement.getAsLong());
+        }
+        return best;
+    }
+}
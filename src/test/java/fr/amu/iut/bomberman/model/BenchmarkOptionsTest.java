@@ -0,0 +1,33 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe BenchmarkOptions
+ */
+public class BenchmarkOptionsTest {
+
+    @Test
+    void testParseAcceptedOptions() {
+        BenchmarkOptions options = BenchmarkOptions.parse(new String[]{"--seed", "7", "--depth", "3"},
+                BenchmarkOptions.SEED, BenchmarkOptions.DEPTH);
+        assertEquals(7, options.seed);
+        assertEquals(3, options.depth);
+        assertEquals(5, options.seconds);
+    }
+
+    @Test
+    void testRejectsInvalidOptions() {
+        // Option valable pour un autre programme de mesure
+        assertThrows(IllegalArgumentException.class,
+                () -> BenchmarkOptions.parse(new String[]{"--threads", "2"}, BenchmarkOptions.SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> BenchmarkOptions.parse(new String[]{"--seconds"}, BenchmarkOptions.SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> BenchmarkOptions.parse(new String[]{"--seconds", "0"}, BenchmarkOptions.SECONDS));
+        assertThrows(IllegalArgumentException.class,
+                () -> BenchmarkOptions.parse(new String[]{"--seconds", "x"}, BenchmarkOptions.SECONDS));
+    }
+}
@@ -10,6 +10,7 @@ import static org.junit.jupiter.api.Assertions.*;
  */
 public class BombTest {
 
+    private GameBoard board;
     private Bomb bomb;
     private static final double DELTA = 0.001; // Delta pour comparaisons à virgule flottante
     private static final int OWNER_ID = 1;
@@ -17,7 +18,8 @@ public class BombTest {
     @BeforeEach
     void setUp() {
         // Créer une bombe à la position (5, 7) avec une puissance de feu de 2, appartenant au joueur 1
-        bomb = new Bomb(5, 7, 2, OWNER_ID);
+        board = new GameBoard();
+        bomb = board.addBomb(5, 7, 2, OWNER_ID);
     }
 
     @Test
@@ -26,37 +28,32 @@ public class BombTest {
         assertEquals(7, bomb.getY());
         assertEquals(2, bomb.getFirePower());
         assertEquals(OWNER_ID, bomb.getOwnerId());
-        assertEquals(1.0, bomb.getTimePercentage(), DELTA);
-        assertFalse(bomb.shouldExplode());
+        assertEquals(1.0, bomb.getTimePercentage(0), DELTA);
+        assertFalse(bomb.shouldExplode(0));
     }
 
     @Test
-    void testBombUpdate() {
-        // Bomb should initially have EXPLOSION_TIME remaining
-        assertEquals(1.0, bomb.getTimePercentage(), DELTA);
-
-        // Update with half the explosion time passed
-        bomb.update(Bomb.EXPLOSION_TIME / 2);
-        assertEquals(0.5, bomb.getTimePercentage(), DELTA);
-        assertFalse(bomb.shouldExplode());
-
-        // Update with remaining time
-        bomb.update(Bomb.EXPLOSION_TIME / 2);
-        assertEquals(0.0, bomb.getTimePercentage(), DELTA);
-        assertTrue(bomb.shouldExplode());
+    void testBombCountdown() {
+        // Bomb should initially have FUSE_TICKS remaining
+        assertEquals(Bomb.FUSE_TICKS, bomb.getTicksRemaining(0));
+        assertEquals(1.0, bomb.getTimePercentage(0), DELTA);
+
+        // Half the fuse has burnt
+        assertEquals(0.5, bomb.getTimePercentage(Bomb.FUSE_TICKS / 2), DELTA);
+        assertFalse(bomb.shouldExplode(Bomb.FUSE_TICKS / 2));
+
+        // Deadline reached
+        assertEquals(0.0, bomb.getTimePercentage(Bomb.FUSE_TICKS), DELTA);
+        assertTrue(bomb.shouldExplode(Bomb.FUSE_TICKS));
     }
 
     @Test
     void testForceExplode() {
-        // Initially the bomb should not explode
-        assertFalse(bomb.shouldExplode());
-
-        // Force the bomb to explode
-        bomb.forceExplode();
-
-        // Now it should explode
-        assertTrue(bomb.shouldExplode());
-        assertEquals(0.0, bomb.getTimePercentage(), DELTA);
+        // Force the bomb to explode on the next tick
+        board.forceExplode(bomb);
+        assertEquals(1, bomb.getTicksRemaining(board.getCurrentTick()));
+        assertSame(bomb, board.tick().get(0));
+        assertFalse(board.hasBomb(5, 7));
     }
 
     @Test
@@ -83,11 +80,22 @@ public class BombTest {
 
     @Test
     void testTooMuchTimePassed() {
-        // Try to update with more than the explosion time
-        bomb.update(Bomb.EXPLOSION_TIME * 2);
+        // Deadline long passed
+        assertTrue(bomb.shouldExplode(Bomb.FUSE_TICKS * 2));
+        assertEquals(0.0, bomb.getTimePercentage(Bomb.FUSE_TICKS * 2), DELTA);
+    }
 
-        // The bomb should be ready to explode
-        assertTrue(bomb.shouldExplode());
-        assertEquals(0.0, bomb.getTimePercentage(), DELTA);
+    @Test
+    void testTraversalMaskForManyPlayers() {
+        bomb.setCanBeTraversedBy(16, true);
+        bomb.setCanBeTraversedBy(3, true);
+        assertTrue(bomb.canBeTraversedBy(16));
+        assertTrue(bomb.canBeTraversedBy(3));
+        assertFalse(bomb.canBeTraversedBy(15));
+        assertEquals((1 << 15) | (1 << 2), bomb.getTraversalMask());
+
+        // Identifiant invalide : jamais autorisé
+        bomb.setCanBeTraversedBy(0, true);
+        assertFalse(bomb.canBeTraversedBy(0));
     }
 }
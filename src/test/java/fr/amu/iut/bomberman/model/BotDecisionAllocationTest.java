@@ -0,0 +1,70 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie qu'une décision des bots à priorités fixes n'alloue aucun octet
+ * (compteurs d'allocation par thread de la JVM)
+ */
+public class BotDecisionAllocationTest {
+
+    private AllocationMeter meter;
+    private List<byte[]> positions;
+    private BotPlayer[] bots;
+    private GameModel view;
+
+    @BeforeEach
+    void setUp() {
+        meter = new AllocationMeter();
+
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 5, false);
+        positions = BotDecisionBenchmark.positions(gameModel);
+        bots = BotDecisionBenchmark.createBots(gameModel);
+        view = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 0, false);
+        assertTrue(positions.size() > 10);
+    }
+
+    @Test
+    void testDecisionAllocatesNothing() {
+        // Première passe : chargement des classes et création des champs de distances
+        decideOnAllPositions();
+
+        long allocated = meter.best(this::decideOnAllPositions);
+        assertEquals(0, allocated, "Octets alloués pendant " + positions.size() * bots.length + " décisions");
+    }
+
+    @Test
+    void testDecisionDoesNotChangeTheView() {
+        GameSnapshot.restore(view, positions.get(positions.size() / 2));
+        byte[] before = GameSnapshot.capture(view);
+        for (int i = 0; i < 20; i++) {
+            for (BotPlayer bot : bots) {
+                bot.plan(view);
+            }
+        }
+        assertArrayEquals(before, GameSnapshot.capture(view));
+    }
+
+    /**
+     * Chaque bot décide une fois sur chaque position (restaurée hors de la mesure)
+     */
+    private long decideOnAllPositions() {
+        long allocated = 0;
+        for (byte[] position : positions) {
+            GameSnapshot.restore(view, position);
+            allocated += meter.allocatedBy(this::decideOnce);
+        }
+        return allocated;
+    }
+
+    private void decideOnce() {
+        for (BotPlayer bot : bots) {
+            bot.plan(view);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe BotPlanner
+ */
+public class BotPlannerTest {
+
+    private GameModel gameModel;
+    private GameEngine engine;
+    private BotPlanner planner;
+    private Player botControlled;
+
+    @BeforeEach
+    void setUp() {
+        gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 11);
+        gameModel.startNewGame("Joueur1", "BOT", 3, 180);
+        engine = new GameEngine(gameModel);
+        botControlled = gameModel.getPlayer2();
+
+        BotPlayer bot = new BotPlayer(botControlled, gameModel.getGameBoard(), gameModel.splitRandom());
+        bot.setOpponents(gameModel.getPlayer1());
+        planner = new BotPlanner(gameModel, 1);
+        BotScheduler scheduler = new BotScheduler(1);
+        scheduler.register(bot);
+        scheduler.setPlanner(planner);
+        engine.setBotScheduler(scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        planner.shutdown();
+    }
+
+    @Test
+    void testDecisionIsAppliedAtNextTickBoundary() {
+        double startX = botControlled.getX();
+        double startY = botControlled.getY();
+
+        engine.tick();
+        planner.awaitPlans();
+        // Décision terminée mais pas encore appliquée : la partie réelle n'a pas changé
+        assertEquals(startX, botControlled.getX());
+        assertEquals(startY, botControlled.getY());
+        assertEquals(0, botControlled.getBombsPlaced());
+        assertEquals(0, planner.getPlannedCount());
+
+        engine.tick();
+        assertEquals(1, planner.getPlannedCount());
+        assertEquals(1, planner.getAppliedCount());
+        assertEquals(1.0, planner.getAverageStaleness(), 1e-9);
+        assertTrue(planner.getMaxPlanningMillis() > 0);
+        assertTrue(botControlled.getX() != startX || botControlled.getY() != startY
+                || botControlled.getBombsPlaced() == 1);
+    }
+
+    @Test
+    void testStaleDecisionIsDiscarded() {
+        engine.tick();
+        planner.awaitPlans();
+
+        // Le bot a changé de case depuis l'instantané : sa décision ne vaut plus rien
+        botControlled.setPosition(botControlled.getX() + 1, botControlled.getY());
+        engine.tick();
+        assertEquals(0, planner.getAppliedCount());
+        assertEquals(1, planner.getDiscardedCount());
+    }
+
+    @Test
+    void testSlowPlanIsNotResubmitted() {
+        engine.tick();
+        engine.tick();
+        // Une seule décision en cours par bot, quel que soit le nombre de ticks écoulés
+        assertTrue(engine.getBotScheduler().getDecisionCount() <= 2);
+        planner.awaitPlans();
+        engine.tick();
+        assertEquals(planner.getPlannedCount(), planner.getAppliedCount() + planner.getDiscardedCount());
+    }
+
+    @Test
+    void testCancelWaitsForRunningPlan() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        // Bot lent : la décision est encore en cours quand le planificateur est retiré
+        BotPlayer slowBot = new BotPlayer(botControlled, gameModel.getGameBoard(), gameModel.splitRandom()) {
+            @Override
+            void plan(GameModel view) {
+                started.countDown();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                finished.set(true);
+            }
+        };
+        BotScheduler scheduler = new BotScheduler(1);
+        scheduler.register(slowBot);
+        scheduler.setPlanner(planner);
+        engine.setBotScheduler(scheduler);
+
+        engine.tick();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        // Retour au thread de la simulation : l'ancienne décision ne doit plus tourner en parallèle
+        scheduler.setPlanner(null);
+        assertTrue(finished.get());
+        assertFalse(planner.isPlanning(0));
+    }
+}
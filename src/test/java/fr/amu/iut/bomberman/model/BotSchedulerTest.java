@@ -0,0 +1,64 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe BotScheduler
+ */
+public class BotSchedulerTest {
+
+    private GameModel gameModel;
+    private GameEngine engine;
+    private BotScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        String[] names = new String[8];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Bot" + (i + 1);
+        }
+        gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, names.length, 5);
+        gameModel.startNewGame(names, 3, 180);
+        engine = new GameEngine(gameModel);
+        scheduler = new BotScheduler(4);
+        engine.setBotScheduler(scheduler);
+        for (int i = 1; i <= names.length; i++) {
+            scheduler.register(new BotPlayer(gameModel.getPlayer(i), gameModel.getGameBoard(), gameModel.splitRandom()));
+        }
+    }
+
+    @Test
+    void testBotsAreSpreadOverTheCadence() {
+        // 8 bots sur 4 ticks : 2 décisions par tick, chaque bot une fois par période
+        engine.tick();
+        assertEquals(2, scheduler.getDecisionCount());
+        engine.runTicks(3);
+        assertEquals(8, scheduler.getDecisionCount());
+
+        scheduler.setCadence(1);
+        engine.tick();
+        assertEquals(16, scheduler.getDecisionCount());
+        assertThrows(IllegalArgumentException.class, () -> scheduler.setCadence(0));
+    }
+
+    @Test
+    void testNoDecisionWhilePaused() {
+        gameModel.togglePause();
+        engine.runTicks(20);
+        assertEquals(0, scheduler.getDecisionCount());
+
+        gameModel.togglePause();
+        engine.runTicks(4);
+        assertEquals(scheduler.getBotCount(), scheduler.getDecisionCount());
+    }
+
+    @Test
+    void testDeadBotsAreSkipped() {
+        gameModel.getPlayer(1).setAlive(false);
+        engine.runTicks(4);
+        assertEquals(7, scheduler.getDecisionCount());
+    }
+}
@@ -0,0 +1,112 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe CollisionSolver
+ */
+public class CollisionSolverTest {
+
+    private static final double DELTA = 1e-9;
+
+    private GameBoard board;
+    private CollisionSolver solver;
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        board = new GameBoard(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, new GameRandom(5));
+        solver = new CollisionSolver(board);
+        player = new Player(1, "Joueur1", 1.5, 1.5);
+    }
+
+    @Test
+    void testLongStepStopsAtFirstObstacle() {
+        // Une bombe adverse en (3,1) : un pas de 10 cases ne la traverse pas
+        board.addBomb(3, 1, 1, 2);
+        assertTrue(solver.move(player, Direction.RIGHT, 10));
+        assertEquals(3 - CollisionSolver.PLAYER_RADIUS, player.getX(), DELTA);
+        assertEquals(1.5, player.getY(), DELTA);
+
+        // Collé à l'obstacle : plus de mouvement possible
+        assertFalse(solver.move(player, Direction.RIGHT, 0.5));
+    }
+
+    @Test
+    void testBorderWallBlocksAnySpeed() {
+        assertTrue(solver.move(player, Direction.UP, 100));
+        assertEquals(1 + CollisionSolver.PLAYER_RADIUS, player.getY(), DELTA);
+    }
+
+    @Test
+    void testCornerSliding() {
+        // Centre dans la ligne 1 mais hitbox sur les lignes 1 et 2 : le mur (2,2) bloque à droite
+        player.setPosition(2 - CollisionSolver.PLAYER_RADIUS, 1.75);
+        assertTrue(solver.move(player, Direction.RIGHT, 0.1));
+        assertEquals(1.7, player.getX(), DELTA);
+        assertEquals(1.65, player.getY(), DELTA);
+
+        // La hitbox ne touche plus que la ligne 1 : le joueur avance
+        solver.move(player, Direction.RIGHT, 0.5);
+        assertEquals(2.2, player.getX(), DELTA);
+        assertEquals(1.65, player.getY(), DELTA);
+
+        // Centre en face du mur : pas de glissement
+        player.setPosition(2 - CollisionSolver.PLAYER_RADIUS, 2.3);
+        assertFalse(solver.move(player, Direction.RIGHT, 0.1));
+    }
+
+    @Test
+    void testNoDirectionDoesNotMove() {
+        assertFalse(solver.move(player, Direction.NONE, 1));
+        assertFalse(solver.move(player, null, 1));
+        assertEquals(1.5, player.getX(), DELTA);
+        assertEquals(1.5, player.getY(), DELTA);
+
+        // Même garde pour l'appel public du modèle : ni déplacement ni changement d'orientation
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 5L);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        Player player1 = gameModel.getPlayer1();
+        double x = player1.getX();
+        double y = player1.getY();
+        Direction facing = player1.getCurrentDirection();
+        gameModel.movePlayer(1, Direction.NONE, 0.5);
+        gameModel.movePlayer(1, null, 0.5);
+        assertEquals(x, player1.getX(), DELTA);
+        assertEquals(y, player1.getY(), DELTA);
+        assertEquals(facing, player1.getCurrentDirection());
+    }
+
+    @Test
+    void testPlayerOverlappingBombIsNotStuck() {
+        // Bombe adverse posée sous le joueur : il peut en sortir mais pas y revenir
+        board.addBomb(1, 1, 1, 2);
+        assertTrue(solver.move(player, Direction.DOWN, 1));
+        assertEquals(2.5, player.getY(), DELTA);
+        solver.move(player, Direction.UP, 1);
+        assertEquals(2 + CollisionSolver.PLAYER_RADIUS, player.getY(), DELTA);
+    }
+
+    @Test
+    void testOwnerLosesBombTraversalAfterLeaving() {
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 5L);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+        Player player1 = gameModel.getPlayer1();
+
+        engine.requestBomb(1);
+        engine.setDirection(1, Direction.DOWN);
+        engine.runTicks(30);
+        Bomb bomb = gameModel.getGameBoard().getBombAt(1, 1);
+        assertNotNull(bomb);
+        assertFalse(bomb.canBeTraversedBy(1));
+
+        engine.setDirection(1, Direction.UP);
+        engine.runTicks(30);
+        assertEquals(2 + CollisionSolver.PLAYER_RADIUS, player1.getY(), DELTA);
+    }
+}
@@ -0,0 +1,100 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe DistanceField
+ */
+public class DistanceFieldTest {
+
+    private GameBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new GameBoard(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, new GameRandom(9));
+        // Plateau sans murs cassables : seuls les bords et les piliers bloquent
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                if (board.getTile(x, y) == GameBoard.TileType.BREAKABLE_WALL) {
+                    board.setTile(x, y, GameBoard.TileType.EMPTY);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testShortestPathsAroundPillars() {
+        DistanceField field = board.getDistanceField(0, 1, 1);
+
+        assertEquals(0, field.getDistance(1, 1));
+        assertEquals(2, field.getDistance(3, 1));
+        assertEquals(4, field.getDistance(3, 3));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(2, 2)); // Pilier
+        assertEquals(Direction.NONE, field.getFirstStep(1, 1));
+        assertEquals(Direction.RIGHT, field.getFirstStep(5, 1));
+        assertEquals(board.getWidth() + 2, field.getPredecessor(3, 1));
+
+        // Un mur oblige à faire le tour : la distance suit le chemin, pas la distance de Manhattan
+        board.setTile(2, 1, GameBoard.TileType.WALL);
+        field = board.getDistanceField(0, 1, 1);
+        assertEquals(6, field.getDistance(3, 1));
+        assertEquals(Direction.DOWN, field.getFirstStep(3, 1));
+    }
+
+    @Test
+    void testFieldIsCachedUntilWalkableCellsChange() {
+        DistanceField field = board.getDistanceField(0, 1, 1);
+        int version = board.getWalkableVersion();
+        assertSame(field, board.getDistanceField(0, 1, 1));
+        assertEquals(version, board.getWalkableVersion());
+
+        // Une bombe bloque le couloir : le champ est recalculé au prochain appel
+        assertNotNull(board.addBomb(3, 1, 1, 2));
+        assertNotEquals(version, board.getWalkableVersion());
+        field = board.getDistanceField(0, 1, 1);
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(3, 1));
+        assertEquals(9, field.getDistance(4, 1));
+        assertEquals(Direction.DOWN, field.getFirstStep(4, 1));
+
+        // Le joueur peut se tenir sur sa propre bombe : la source reste traversable
+        board.addBomb(1, 1, 1, 1);
+        assertEquals(1, board.getDistanceField(0, 1, 1).getDistance(2, 1));
+
+        // Champs indépendants par joueur
+        DistanceField other = board.getDistanceField(1, board.getSpawnX(1), board.getSpawnY(1));
+        assertNotSame(other, board.getDistanceField(0, 1, 1));
+        assertEquals(0, other.getDistance(board.getSpawnX(1), board.getSpawnY(1)));
+    }
+
+    @Test
+    void testNearestTargets() {
+        board.setTile(5, 1, GameBoard.TileType.BREAKABLE_WALL);
+        DistanceField field = board.getDistanceField(0, 1, 1);
+
+        // Case libre la plus proche contre le mur cassable
+        assertEquals(board.getWidth() + 4, field.findNearestNextTo(board.getBreakableWalls()));
+        assertEquals(DistanceField.UNREACHABLE, field.findNearest(board.getPowerUpLayer()));
+    }
+
+    @Test
+    void testPartialSearchGivesSameAnswersAsFullSearch() {
+        board.setTile(3, 1, GameBoard.TileType.BREAKABLE_WALL);
+        DistanceField field = board.getDistanceField(0, 1, 1);
+
+        // Cible voisine : trouvée après quelques cases développées seulement
+        assertEquals(board.getWidth() + 2, field.findNearestNextTo(board.getBreakableWalls()));
+        assertTrue(field.hasReachedCell(3));
+
+        // Les requêtes suivantes prolongent le parcours : mêmes réponses qu'un parcours complet
+        int far = (board.getHeight() - 2) * board.getWidth() + board.getWidth() - 2;
+        assertEquals(board.getWidth() + board.getHeight() - 6, field.getDistance(board.getWidth() - 2, board.getHeight() - 2));
+        int reachable = field.getReachableCount();
+        assertEquals(far, field.getReachedCell(reachable - 1));
+        assertFalse(field.hasReachedCell(reachable));
+        assertEquals(DistanceField.UNREACHABLE, field.getDistance(2, 2)); // Pilier
+    }
+}
@@ -0,0 +1,328 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe GameBoard
+ */
+public class GameBoardTest {
+
+    private GameBoard board;
+
+    @BeforeEach
+    void setUp() {
+        board = new GameBoard();
+    }
+
+    @Test
+    void testLayersMatchTiles() {
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                GameBoard.TileType tile = board.getTile(x, y);
+                int cell = y * board.getWidth() + x;
+                assertEquals(tile == GameBoard.TileType.WALL, board.getSolidWalls().get(cell));
+                assertEquals(tile == GameBoard.TileType.BREAKABLE_WALL, board.getBreakableWalls().get(cell));
+                assertEquals(tile == GameBoard.TileType.EMPTY, board.isWalkable(x, y));
+            }
+        }
+        // Hors plateau : considéré comme un mur
+        assertEquals(GameBoard.TileType.WALL, board.getTile(-1, 0));
+        assertFalse(board.isWalkable(board.getWidth(), 0));
+    }
+
+    @Test
+    void testSetTileUpdatesLayers() {
+        int version = board.getGridVersion();
+
+        board.setTile(3, 1, GameBoard.TileType.BREAKABLE_WALL);
+        assertFalse(board.isWalkable(3, 1));
+        assertEquals(GameBoard.TileType.BREAKABLE_WALL, board.getTile(3, 1));
+
+        board.setTile(3, 1, GameBoard.TileType.EMPTY);
+        assertTrue(board.isWalkable(3, 1));
+        assertTrue(board.getGridVersion() > version);
+    }
+
+    @Test
+    void testBombAndFireLayers() {
+        Bomb bomb = board.addBomb(1, 1, 1, 1);
+        assertTrue(board.hasBomb(1, 1));
+
+        board.forceExplode(bomb);
+        assertEquals(1, board.tick().size());
+
+        assertFalse(board.hasBomb(1, 1));
+        assertTrue(board.hasExplosion(1, 1));
+        assertTrue(board.hasExplosion(2, 1));
+        assertTrue(board.hasExplosion(1, 2));
+        assertFalse(board.hasExplosion(3, 1));
+
+        // Le feu disparaît une fois la durée écoulée
+        advance(Explosion.DURATION_TICKS);
+        assertFalse(board.hasExplosion(1, 1));
+        assertEquals(0, board.getFireLayer().cardinality());
+    }
+
+    @Test
+    void testBombsExplodeOnTheirDeadlineTick() {
+        Bomb first = board.addBomb(1, 1, 1, 1);
+        advance(10);
+        Bomb second = board.addBomb(13, 11, 1, 2);
+        assertEquals(Bomb.FUSE_TICKS - 10, first.getTicksRemaining(board.getCurrentTick()));
+
+        // Rien n'explose avant l'échéance, même en faisant plusieurs tours de roue
+        advance(Bomb.FUSE_TICKS - 11);
+        assertEquals(2, board.getBombs().size());
+        List<Bomb> exploded = board.tick();
+        assertEquals(1, exploded.size());
+        assertSame(first, exploded.get(0));
+
+        // Les flammes s'éteignent exactement DURATION_TICKS plus tard
+        advance(9);
+        assertSame(second, board.tick().get(0));
+        advance(Explosion.DURATION_TICKS - 11);
+        assertTrue(board.hasExplosion(1, 1));
+        board.tick();
+        assertFalse(board.hasExplosion(1, 1));
+        assertTrue(board.hasExplosion(13, 11));
+        advance(10);
+        assertTrue(board.getExplosions().isEmpty());
+        assertEquals(0, board.getFireLayer().cardinality());
+    }
+
+    @Test
+    void testReleasedSlotsAreReused() {
+        Bomb first = board.addBomb(1, 1, 1, 1);
+        board.forceExplode(first);
+        board.tick();
+        advance(Explosion.DURATION_TICKS);
+
+        // L'emplacement libéré (et sa vue) sert à la bombe suivante
+        Bomb second = board.addBomb(13, 11, 2, 2);
+        assertSame(first, second);
+        assertEquals(13, second.getX());
+        assertEquals(2, second.getOwnerId());
+        assertEquals(0, second.getTraversalMask());
+        assertSame(second, board.getBombAt(13, 11));
+        assertNull(board.getBombAt(1, 1));
+    }
+
+    @Test
+    void testPoolsAreReusedAcrossRounds() {
+        PoolMetrics bombPool = board.getBombPoolMetrics();
+        PoolMetrics flamePool = board.getExplosionPoolMetrics();
+        int bombPoolSize = bombPool.getPoolSize();
+        int flamePoolSize = flamePool.getPoolSize();
+
+        for (int round = 0; round < 3; round++) {
+            board.addBomb(1, 1, 2, 1);
+            board.addBomb(13, 11, 2, 2);
+            board.forceExplode(board.getBombAt(1, 1));
+            board.tick();
+            assertTrue(flamePool.getInUse() > 0);
+
+            // Le reset rend tout aux réservoirs
+            board.reset();
+            assertEquals(0, bombPool.getInUse());
+            assertEquals(0, flamePool.getInUse());
+            assertTrue(board.getBombs().isEmpty());
+            assertTrue(board.getExplosions().isEmpty());
+        }
+
+        // Aucune instance créée après la construction
+        assertEquals(bombPoolSize, bombPool.getPoolSize());
+        assertEquals(flamePoolSize, flamePool.getPoolSize());
+        assertEquals(6, bombPool.getAcquisitions());
+        assertEquals(1.0, bombPool.getHitRate());
+        assertEquals(1.0, flamePool.getHitRate());
+    }
+
+    @Test
+    void testPowerUpIndex() {
+        assertNull(board.getPowerUpAt(1, 1));
+        assertNull(board.collectPowerUp(1, 1));
+
+        // Casser des murs jusqu'à ce qu'un power-up apparaisse (30% de chance par mur)
+        board = new GameBoard(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, new GameRandom(3));
+        CellMask walls = board.getBreakableWalls();
+        for (int cell = walls.nextSetBit(0); cell >= 0 && board.getPowerUpCount() == 0; cell = walls.nextSetBit(cell + 1)) {
+            Bomb bomb = board.addBomb(cell % board.getWidth(), cell / board.getWidth(), 0, 1);
+            board.forceExplode(bomb);
+            board.tick();
+        }
+        assertEquals(1, board.getPowerUpCount());
+
+        int cell = board.getPowerUpLayer().nextSetBit(0);
+        int x = cell % board.getWidth();
+        int y = cell / board.getWidth();
+        PowerUp.Type type = board.getPowerUpAt(x, y);
+        assertNotNull(type);
+        assertSame(type, board.collectPowerUp(x, y));
+        assertEquals(0, board.getPowerUpCount());
+        assertFalse(board.hasPowerUp(x, y));
+    }
+
+    @Test
+    void testOccupancyIndex() {
+        Bomb bomb = board.addBomb(3, 1, 2, 1);
+        assertNotNull(bomb);
+        assertSame(bomb, board.getBombAt(3, 1));
+        assertNull(board.getBombAt(1, 1));
+
+        // Une seule bombe par case
+        assertNull(board.addBomb(3, 1, 1, 2));
+        assertEquals(1, board.getBombs().size());
+
+        // Le feu reste tant qu'une explosion couvre la case
+        board.forceExplode(bomb);
+        board.tick();
+        Bomb second = board.addBomb(1, 1, 2, 2);
+        advance(Explosion.DURATION_TICKS / 2);
+        board.forceExplode(second);
+        board.tick();
+        assertNull(board.getBombAt(3, 1));
+
+        advance(Explosion.DURATION_TICKS / 2);
+        assertTrue(board.hasExplosion(2, 1)); // Encore couverte par la seconde explosion
+        assertFalse(board.hasExplosion(5, 1));
+
+        advance(Explosion.DURATION_TICKS);
+        assertFalse(board.hasExplosion(2, 1));
+    }
+
+    @Test
+    void testChainReactionResolvedInOneTick() {
+        // Ligne de bombes (1,1) -> (3,1) -> (5,1) -> (5,3) : une seule arrive à terme
+        Bomb first = board.addBomb(1, 1, 2, 1);
+        Bomb second = board.addBomb(3, 1, 2, 1);
+        Bomb third = board.addBomb(5, 1, 2, 2);
+        Bomb fourth = board.addBomb(5, 3, 1, 2);
+        for (int x = 1; x <= 5; x++) {
+            board.setTile(x, 1, GameBoard.TileType.EMPTY);
+        }
+        board.setTile(5, 2, GameBoard.TileType.EMPTY);
+        board.setTile(5, 3, GameBoard.TileType.EMPTY);
+
+        board.forceExplode(first);
+        List<Bomb> exploded = board.tick();
+
+        // Toute la chaîne part dans le même tick, dans l'ordre de propagation
+        assertEquals(4, exploded.size());
+        assertSame(first, exploded.get(0));
+        assertSame(second, exploded.get(1));
+        assertSame(third, exploded.get(2));
+        assertSame(fourth, exploded.get(3));
+        assertTrue(board.getBombs().isEmpty());
+        assertEquals(0, board.getBombLayer().cardinality());
+
+        // Chaque case en feu ne porte qu'une seule flamme
+        assertEquals(board.getFireLayer().cardinality(), board.getExplosions().size());
+        assertTrue(board.hasExplosion(5, 3));
+    }
+
+    @Test
+    void testWallDestroyedOnceStopsEveryBlast() {
+        // Deux bombes de part et d'autre d'un mur destructible en (3,1)
+        board.setTile(1, 1, GameBoard.TileType.EMPTY);
+        board.setTile(2, 1, GameBoard.TileType.EMPTY);
+        board.setTile(3, 1, GameBoard.TileType.BREAKABLE_WALL);
+        board.setTile(4, 1, GameBoard.TileType.EMPTY);
+        board.setTile(5, 1, GameBoard.TileType.EMPTY);
+        Bomb left = board.addBomb(2, 1, 3, 1);
+        Bomb right = board.addBomb(4, 1, 3, 2);
+
+        board.forceExplode(left);
+        board.forceExplode(right);
+        assertEquals(2, board.tick().size());
+
+        // Le mur est détruit, mais aucun souffle ne le traverse pendant ce tick
+        assertTrue(board.isWalkable(3, 1));
+        assertTrue(board.hasExplosion(3, 1));
+        assertTrue(board.hasExplosion(1, 1));
+        assertTrue(board.hasExplosion(5, 1));
+        assertEquals(board.getFireLayer().cardinality(), board.getExplosions().size());
+    }
+
+    @Test
+    void testDangerMapFollowsChainReactions() {
+        for (int x = 1; x <= 7; x++) {
+            board.setTile(x, 1, GameBoard.TileType.EMPTY);
+        }
+        Bomb first = board.addBomb(1, 1, 2, 1);
+        assertEquals(Bomb.FUSE_TICKS, board.getTicksUntilFire(3, 1));
+        assertEquals(GameBoard.NO_DANGER, board.getTicksUntilFire(4, 1));
+        assertFalse(board.isInDanger(2, 2)); // Pilier
+
+        // Une bombe posée plus tard dans le souffle de la première explose en même temps qu'elle
+        for (int i = 0; i < 30; i++) {
+            board.tick();
+        }
+        board.addBomb(3, 1, 3, 2);
+        assertEquals(Bomb.FUSE_TICKS - 30, board.getTicksUntilFire(5, 1));
+        assertEquals(Bomb.FUSE_TICKS - 30, board.getTicksUntilFire(6, 1));
+
+        // Un mur cassable prend feu mais protège les cases derrière lui
+        board.setTile(6, 1, GameBoard.TileType.BREAKABLE_WALL);
+        assertTrue(board.isInDanger(6, 1));
+        assertFalse(board.isInDanger(7, 1));
+
+        board.forceExplode(first);
+        assertEquals(1, board.getTicksUntilFire(5, 1));
+        assertEquals(2, board.tick().size());
+        assertEquals(0, board.getTicksUntilFire(5, 1));
+
+        // Plus de bombe : le danger disparaît avec les flammes
+        for (int i = 0; i < Explosion.DURATION_TICKS; i++) {
+            board.tick();
+        }
+        assertFalse(board.isInDanger(5, 1));
+        assertFalse(board.isInDanger(7, 1));
+    }
+
+    @Test
+    void testCustomDimensions() {
+        GameBoard large = new GameBoard(101, 61);
+        assertEquals(101, large.getWidth());
+        assertEquals(61, large.getHeight());
+
+        // Bordures et damier
+        assertEquals(GameBoard.TileType.WALL, large.getTile(100, 30));
+        assertEquals(GameBoard.TileType.WALL, large.getTile(50, 60));
+        assertEquals(GameBoard.TileType.WALL, large.getTile(50, 30));
+
+        // Les deux coins de départ sont libres
+        assertTrue(large.isWalkable(1, 1));
+        assertTrue(large.isWalkable(99, 59));
+        assertTrue(large.isWalkable(98, 59));
+        assertTrue(large.isWalkable(99, 58));
+
+        // 30% de la surface en murs destructibles
+        assertEquals((int) (101 * 61 * 0.3), large.getBreakableWalls().cardinality());
+    }
+
+    @Test
+    void testMaximumDimensions() {
+        GameBoard arena = new GameBoard(999, 999);
+        assertEquals((int) (999 * 999 * 0.3), arena.getBreakableWalls().cardinality());
+        assertTrue(arena.isWalkable(997, 997));
+        assertFalse(arena.isWalkable(999, 0));
+    }
+
+    @Test
+    void testInvalidDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(16, 13));
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(5, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GameBoard(1001, 13));
+    }
+
+    private void advance(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            board.tick();
+        }
+    }
+}
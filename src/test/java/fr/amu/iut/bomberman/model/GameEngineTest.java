@@ -0,0 +1,123 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe GameEngine (simulation headless, sans JavaFX)
+ */
+public class GameEngineTest {
+
+    private GameModel gameModel;
+    private GameEngine engine;
+    private static final double DELTA = 0.001; // Delta pour comparaisons à virgule flottante
+
+    @BeforeEach
+    void setUp() {
+        gameModel = new GameModel();
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        engine = new GameEngine(gameModel);
+    }
+
+    @Test
+    void testTimerFollowsTicks() {
+        engine.runTicks(GameEngine.TICKS_PER_SECOND - 1);
+        assertEquals(180, gameModel.getTimeRemaining());
+
+        engine.tick();
+        assertEquals(179, gameModel.getTimeRemaining());
+        assertEquals(GameEngine.TICKS_PER_SECOND, engine.getTickCount());
+    }
+
+    @Test
+    void testAdvanceKeepsRemainder() {
+        // Moins d'un tick : rien ne se passe
+        assertEquals(0, engine.advance(GameEngine.TICK_DURATION * 0.6));
+        assertEquals(0, engine.getTickCount());
+
+        // Le reste est conservé pour la frame suivante
+        assertEquals(1, engine.advance(GameEngine.TICK_DURATION * 0.6));
+        assertEquals(1, engine.getTickCount());
+    }
+
+    @Test
+    void testMovementIsTickBased() {
+        Player player1 = gameModel.getPlayer1();
+        double startX = player1.getX();
+
+        engine.setDirection(1, Direction.RIGHT);
+        engine.runTicks(6);
+
+        assertEquals(startX + player1.getSpeed() * 6 * GameEngine.TICK_DURATION, player1.getX(), DELTA);
+        assertEquals(Direction.RIGHT, player1.getCurrentDirection());
+    }
+
+    @Test
+    void testBombRequestAppliedOnNextTick() {
+        // La bombe est posée sur la case qui contient le centre du joueur : (1,1)
+        gameModel.getPlayer1().setPosition(1.2, 1.2);
+        engine.requestBomb(1);
+        assertTrue(gameModel.getGameBoard().getBombs().isEmpty());
+
+        engine.tick();
+        assertEquals(1, gameModel.getGameBoard().getBombs().size());
+        assertEquals(1, gameModel.getPlayer1().getBombsPlaced());
+    }
+
+    @Test
+    void testPausedModelDoesNotAdvance() {
+        gameModel.togglePause();
+        engine.requestBomb(1);
+        engine.runTicks(100);
+
+        assertEquals(180, gameModel.getTimeRemaining());
+        assertTrue(gameModel.getGameBoard().getBombs().isEmpty());
+    }
+
+    @Test
+    void testManyTicksHeadless() {
+        // Une bombe explose en (1,1), le joueur descend la colonne 1 et le round continue
+        gameModel.getPlayer1().setPosition(1.5, 1.3);
+        engine.requestBomb(1);
+        engine.setDirection(1, Direction.DOWN);
+        engine.runTicks(10 * GameEngine.TICKS_PER_SECOND);
+
+        assertEquals(170, gameModel.getTimeRemaining());
+        assertEquals(0, gameModel.getPlayer1().getBombsPlaced());
+    }
+
+    @Test
+    void testLargeBoardSpawnsAndMovement() {
+        GameModel large = new GameModel(201, 151);
+        large.startNewGame("Joueur1", "Joueur2", 3, 180);
+        GameEngine largeEngine = new GameEngine(large);
+
+        // Le joueur 2 apparaît dans le coin bas-droit du plateau choisi
+        assertEquals(199.5, large.getPlayer2().getX(), DELTA);
+        assertEquals(149.5, large.getPlayer2().getY(), DELTA);
+
+        // Il peut se déplacer dans sa zone de départ
+        largeEngine.setDirection(2, Direction.LEFT);
+        largeEngine.runTicks(6);
+        assertTrue(large.getPlayer2().getX() < 199.5);
+    }
+
+    @Test
+    void testPauseSuspendsInvincibility() {
+        Player player = gameModel.getPlayer1();
+        engine.runTicks(Player.INVINCIBILITY_TICKS / 2);
+        int remaining = player.getEffects().getRemainingTicks(StatusEffects.Type.INVINCIBILITY);
+
+        gameModel.togglePause();
+        engine.runTicks(Player.INVINCIBILITY_TICKS);
+        assertTrue(player.getIsInvincible());
+        assertEquals(remaining, player.getEffects().getRemainingTicks(StatusEffects.Type.INVINCIBILITY));
+
+        gameModel.togglePause();
+        engine.runTicks(remaining);
+        assertFalse(player.getIsInvincible());
+    }
+}
@@ -0,0 +1,122 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe GameEventBus
+ */
+public class GameEventBusTest {
+
+    @Test
+    void testSubscribersReadInPublicationOrder() {
+        GameEventBus bus = new GameEventBus(8);
+        GameEventBus.Subscription first = bus.subscribe();
+        bus.publish(GameEvent.Type.BOMB_PLACED, 3, 1, 4, 5, 2);
+        GameEventBus.Subscription late = bus.subscribe();
+        bus.publish(GameEvent.Type.PLAYER_HIT, 4, 2, 6, 7, 0);
+
+        List<String> read = new ArrayList<>();
+        assertEquals(2, first.drain(event -> read.add(event.getType() + "@" + event.getTick())));
+        assertEquals(List.of("BOMB_PLACED@3", "PLAYER_HIT@4"), read);
+
+        // Un abonnement ne voit que les événements publiés après sa création
+        assertEquals(1, late.pending());
+        late.drain(event -> {
+            assertEquals(2, event.getPlayerId());
+            assertEquals(6, event.getX());
+            assertEquals(7, event.getY());
+        });
+        assertEquals(0, first.drain(event -> fail("Déjà lu")));
+    }
+
+    @Test
+    void testSlowSubscriberDropsOldestWithoutBlocking() {
+        GameEventBus bus = new GameEventBus(8);
+        GameEventBus.Subscription slow = bus.subscribe();
+        for (int i = 0; i < 20; i++) {
+            bus.publish(GameEvent.Type.ROUND_STARTED, i, 0, 0, 0, i);
+        }
+
+        List<Integer> values = new ArrayList<>();
+        slow.drain(event -> values.add(event.getValue()));
+        assertEquals(13, slow.getDroppedCount());
+        assertEquals(List.of(13, 14, 15, 16, 17, 18, 19), values);
+    }
+
+    @Test
+    void testDrainInBatches() {
+        GameEventBus bus = new GameEventBus(16);
+        GameEventBus.Subscription subscription = bus.subscribe();
+        for (int i = 0; i < 5; i++) {
+            bus.publish(GameEvent.Type.PLAYER_HIT, i, 1, 0, 0, 0);
+        }
+        assertEquals(2, subscription.drain(event -> { }, 2));
+        assertEquals(3, subscription.pending());
+        assertEquals(3, subscription.drain(event -> { }, 10));
+    }
+
+    @Test
+    void testModelPublishesInsteadOfCallingListeners() {
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 11L);
+        GameEventBus.Subscription subscription = gameModel.getEvents().subscribe();
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+
+        gameModel.getPlayer1().setPosition(1.4, 1.4);
+        engine.requestBomb(1);
+        engine.tick();
+
+        List<String> received = new ArrayList<>();
+        gameModel.dispatchEvents(subscription, new GameModelListener() {
+            @Override
+            public void onGameStarted() {
+                received.add("start");
+            }
+
+            @Override
+            public void onRoundStarted(int roundNumber) {
+                received.add("round " + roundNumber);
+            }
+
+            @Override
+            public void onBombPlaced(Player player, int x, int y) {
+                received.add(player.getName() + " bombe " + x + "," + y);
+            }
+        });
+        assertEquals(List.of("round 1", "start", "Joueur1 bombe 1,1"), received);
+    }
+
+    @Test
+    void testConcurrentReaderSeesConsistentRecords() throws InterruptedException {
+        GameEventBus bus = new GameEventBus(64);
+        GameEventBus.Subscription subscription = bus.subscribe();
+        int total = 200_000;
+        long[] checked = new long[2];
+
+        Thread reader = new Thread(() -> {
+            while (checked[0] + subscription.getDroppedCount() < total) {
+                subscription.drain(event -> {
+                    // Chaque enregistrement porte la même valeur dans tous ses champs
+                    if (event.getTick() != event.getValue() || event.getX() != event.getValue()) {
+                        checked[1]++;
+                    }
+                    checked[0]++;
+                });
+            }
+        });
+        reader.start();
+        for (int i = 0; i < total; i++) {
+            bus.publish(GameEvent.Type.PLAYER_HIT, i, 1, i, i, i);
+        }
+        reader.join(10_000);
+
+        assertFalse(reader.isAlive());
+        assertEquals(0, checked[1], "Enregistrements incohérents");
+        assertEquals(total, checked[0] + subscription.getDroppedCount());
+    }
+}
@@ -0,0 +1,148 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe GameModel (parties à N joueurs)
+ */
+public class GameModelTest {
+
+    @Test
+    void testClassicSpawns() {
+        GameModel gameModel = new GameModel();
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+
+        assertEquals(2, gameModel.getPlayerCount());
+        assertEquals(1.5, gameModel.getPlayer1().getX());
+        assertEquals(1.5, gameModel.getPlayer1().getY());
+        assertEquals(13.5, gameModel.getPlayer2().getX());
+        assertEquals(11.5, gameModel.getPlayer2().getY());
+    }
+
+    @Test
+    void testSixteenPlayers() {
+        GameModel gameModel = new GameModel(31, 31, GameModel.MAX_PLAYERS);
+        String[] names = new String[GameModel.MAX_PLAYERS];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Joueur" + (i + 1);
+        }
+        gameModel.startNewGame(names, 3, 180);
+
+        GameBoard board = gameModel.getGameBoard();
+        for (int id = 1; id <= GameModel.MAX_PLAYERS; id++) {
+            Player player = gameModel.getPlayer(id);
+            assertEquals(id, player.getPlayerId());
+            int x = (int) player.getX();
+            int y = (int) player.getY();
+            assertTrue(board.isWalkable(x, y), "Case de départ libre pour le joueur " + id);
+
+            // Cases de départ toutes différentes
+            for (int other = 1; other < id; other++) {
+                Player previous = gameModel.getPlayer(other);
+                assertFalse(previous.getX() == player.getX() && previous.getY() == player.getY());
+            }
+        }
+        assertNull(gameModel.getPlayer(GameModel.MAX_PLAYERS + 1));
+    }
+
+    @Test
+    void testLastSurvivorWinsRound() {
+        GameModel gameModel = new GameModel(15, 13, 3);
+        gameModel.startNewGame(new String[]{"A", "B", "C"}, 3, 180);
+
+        gameModel.getPlayer(1).die();
+        new GameEngine(gameModel).tick();
+        assertEquals(GameModel.GameState.PLAYING, gameModel.getGameState());
+
+        gameModel.getPlayer(3).die();
+        new GameEngine(gameModel).tick();
+        assertEquals(GameModel.GameState.ROUND_OVER, gameModel.getGameState());
+        assertEquals(1, gameModel.getScore(2));
+        assertEquals(0, gameModel.getScore(1));
+    }
+
+    @Test
+    void testFireHitUsesDistanceToBurningCell() {
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 3L);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+        GameBoard board = gameModel.getGameBoard();
+        Player player1 = gameModel.getPlayer1();
+        // Sans l'invincibilité de début de round
+        player1.getEffects().clear();
+
+        // Flammes en (2,1), (3,1) et (4,1)
+        board.forceExplode(board.addBomb(3, 1, 1, 2));
+
+        // En diagonale de la case (2,1) : trop loin de son centre
+        player1.setPosition(1.8, 2.3);
+        engine.tick();
+        assertTrue(board.hasExplosion(2, 1));
+        assertEquals(3, player1.getLives());
+
+        // Collé à la case en feu : touché
+        player1.setPosition(1.9, 1.5);
+        engine.tick();
+        assertEquals(2, player1.getLives());
+    }
+
+    @Test
+    void testInvalidPlayerCount() {
+        assertThrows(IllegalArgumentException.class, () -> new GameModel(15, 13, 1));
+        assertThrows(IllegalArgumentException.class, () -> new GameModel(15, 13, GameModel.MAX_PLAYERS + 1));
+        GameModel gameModel = new GameModel(15, 13, 3);
+        assertThrows(IllegalArgumentException.class, () -> gameModel.startNewGame("A", "B", 3, 180));
+    }
+
+    @Test
+    void testSameSeedSameMatch() {
+        GameModel first = playSeededMatch(42L);
+        GameModel second = playSeededMatch(42L);
+
+        GameBoard a = first.getGameBoard();
+        GameBoard b = second.getGameBoard();
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                assertEquals(a.getTile(x, y), b.getTile(x, y));
+                assertEquals(a.hasPowerUp(x, y), b.hasPowerUp(x, y));
+            }
+        }
+        assertEquals(first.getPlayer1().getX(), second.getPlayer1().getX());
+        assertEquals(first.splitRandom().nextLong(), second.splitRandom().nextLong());
+    }
+
+    @Test
+    void testDifferentSeedsDifferentBoards() {
+        GameBoard a = new GameModel(31, 31, 2, 1L).getGameBoard();
+        GameBoard b = new GameModel(31, 31, 2, 2L).getGameBoard();
+        boolean differ = false;
+        for (int y = 0; y < a.getHeight() && !differ; y++) {
+            for (int x = 0; x < a.getWidth() && !differ; x++) {
+                differ = a.getTile(x, y) != b.getTile(x, y);
+            }
+        }
+        assertTrue(differ);
+    }
+
+    /**
+     * Partie scriptée : chaque joueur pose des bombes en allant et venant dans sa zone
+     */
+    private GameModel playSeededMatch(long seed) {
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, seed);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+        for (int i = 0; i < 20 * GameEngine.TICKS_PER_SECOND; i++) {
+            if (i % 240 == 0) {
+                engine.requestBomb(1);
+                engine.requestBomb(2);
+            }
+            engine.setDirection(1, (i / 30) % 2 == 0 ? Direction.DOWN : Direction.UP);
+            engine.setDirection(2, (i / 30) % 2 == 0 ? Direction.UP : Direction.DOWN);
+            engine.tick();
+        }
+        return gameModel;
+    }
+}
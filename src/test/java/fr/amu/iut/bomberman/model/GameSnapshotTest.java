@@ -0,0 +1,108 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe GameSnapshot
+ */
+public class GameSnapshotTest {
+
+    private GameModel gameModel;
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 7L);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        engine = new GameEngine(gameModel);
+
+        // Une bombe posée en (1,1), puis le joueur se met à l'abri en (1,3) et se déplace
+        gameModel.getPlayer1().setPosition(1.4, 1.4);
+        engine.requestBomb(1);
+        engine.tick();
+        gameModel.getPlayer1().setPosition(1.5, 3.5);
+        engine.setDirection(1, Direction.RIGHT);
+        engine.runTicks(29);
+    }
+
+    @Test
+    void testClassicSnapshotIsCompact() {
+        byte[] data = GameSnapshot.capture(gameModel);
+        assertEquals(GameSnapshot.sizeOf(gameModel), data.length);
+        assertTrue(data.length < 400, "Taille: " + data.length);
+    }
+
+    @Test
+    void testRestoreRewindsTheMatch() {
+        byte[] saved = GameSnapshot.capture(gameModel);
+        double savedX = gameModel.getPlayer1().getX();
+        double savedY = gameModel.getPlayer1().getY();
+
+        // Laisser la bombe exploser (murs cassés, power-ups tirés au sort)
+        engine.runTicks(4 * GameEngine.TICKS_PER_SECOND);
+        byte[] future = GameSnapshot.capture(gameModel);
+        assertTrue(gameModel.getGameBoard().getBombs().isEmpty());
+
+        GameSnapshot.restore(gameModel, saved);
+        assertEquals(savedX, gameModel.getPlayer1().getX());
+        assertEquals(savedY, gameModel.getPlayer1().getY());
+        assertEquals(1, gameModel.getGameBoard().getBombs().size());
+        assertTrue(gameModel.getGameBoard().hasBomb(1, 1));
+        assertArrayEquals(saved, GameSnapshot.capture(gameModel));
+
+        // Rejouer les mêmes ticks redonne exactement le même futur (générateur compris)
+        engine.runTicks(4 * GameEngine.TICKS_PER_SECOND);
+        assertArrayEquals(future, GameSnapshot.capture(gameModel));
+    }
+
+    @Test
+    void testCaptureIntoReusedBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        int written = GameSnapshot.capture(gameModel, buffer);
+        assertEquals(GameSnapshot.sizeOf(gameModel), written);
+
+        byte[] expected = new byte[written];
+        buffer.flip();
+        buffer.get(expected);
+
+        GameModel copy = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 99L);
+        buffer.rewind();
+        GameSnapshot.restore(copy, buffer);
+        assertArrayEquals(expected, GameSnapshot.capture(copy));
+    }
+
+    @Test
+    void testRestoreKeepsBoardCachesWhenObstaclesMatch() {
+        byte[] saved = GameSnapshot.capture(gameModel);
+        GameBoard board = gameModel.getGameBoard();
+        int ticksUntilFire = board.getTicksUntilFire(1, 2);
+
+        // Même position restaurée : murs et bombes identiques, les caches restent valides
+        int version = board.getWalkableVersion();
+        GameSnapshot.restore(gameModel, saved);
+        assertEquals(version, board.getWalkableVersion());
+        assertEquals(ticksUntilFire, board.getTicksUntilFire(1, 2));
+
+        // Position sans la bombe : les caches sont invalidés
+        engine.runTicks(4 * GameEngine.TICKS_PER_SECOND);
+        byte[] future = GameSnapshot.capture(gameModel);
+        GameSnapshot.restore(gameModel, saved);
+        version = board.getWalkableVersion();
+        GameSnapshot.restore(gameModel, future);
+        assertNotEquals(version, board.getWalkableVersion());
+        assertFalse(board.isInDanger(1, 2));
+    }
+
+    @Test
+    void testRejectsOtherBoard() {
+        byte[] data = GameSnapshot.capture(gameModel);
+        GameModel other = new GameModel(21, 21);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.restore(other, data));
+    }
+}
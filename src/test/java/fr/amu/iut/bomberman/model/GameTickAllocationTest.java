@@ -0,0 +1,69 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Vérifie qu'un tick de jeu en régime établi n'alloue aucun octet
+ * (compteurs d'allocation par thread de la JVM)
+ */
+public class GameTickAllocationTest {
+
+    private AllocationMeter meter;
+    private GameModel gameModel;
+    private GameEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        meter = new AllocationMeter();
+
+        gameModel = new GameModel();
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        engine = new GameEngine(gameModel);
+
+        // Le joueur 2 pose une bombe en (13,11) puis remonte la colonne pour s'abriter
+        gameModel.getPlayer2().setPosition(13.4, 11.4);
+        engine.requestBomb(2);
+        engine.setDirection(2, Direction.UP);
+        engine.tick();
+        assertEquals(1, gameModel.getGameBoard().getBombs().size());
+    }
+
+    @Test
+    void testSteadyStateTickAllocatesNothing() {
+        // Première passe : chargement des classes et remplissage des tampons
+        runOscillatingTicks(40);
+
+        long allocated = meter.measure(() -> runOscillatingTicks(100));
+        assertEquals(0, allocated, "Octets alloués pendant 100 ticks de jeu");
+    }
+
+    @Test
+    void testBurningFireAllocatesNothing() {
+        runOscillatingTicks(40);
+
+        // Laisser la bombe exploser (l'explosion elle-même crée les flammes)
+        while (gameModel.getGameBoard().getExplosions().isEmpty()) {
+            engine.tick();
+        }
+        // Quelques ticks pour initialiser les chemins de code propres au feu (classes, tables)
+        runOscillatingTicks(5);
+
+        long allocated = meter.measure(() -> runOscillatingTicks(5));
+        assertFalse(gameModel.getGameBoard().getExplosions().isEmpty());
+        assertEquals(0, allocated, "Octets alloués pendant que les flammes brûlent");
+    }
+
+    /**
+     * Le joueur 1 fait des allers-retours dans sa zone de départ
+     */
+    private void runOscillatingTicks(int count) {
+        for (int i = 0; i < count; i++) {
+            engine.setDirection(1, (i / 20) % 2 == 0 ? Direction.RIGHT : Direction.LEFT);
+            engine.tick();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package fr.amu.iut.bomberman.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe MatchSimulator
+ */
+public class MatchSimulatorTest {
+
+    @Test
+    void testParseSettings() {
+        MatchSimulator.Settings settings = MatchSimulator.Settings.parse(
+                "--matches", "50", "--threads", "3", "--size", "11x9", "--drop", "0.5", "--verbose");
+        assertEquals(50, settings.matches);
+        assertEquals(3, settings.threads);
+        assertEquals(11, settings.width);
+        assertEquals(9, settings.height);
+        assertEquals(0.5, settings.powerUpDropChance);
+        assertEquals(GameBoard.DEFAULT_EXTRA_LIFE_CHANCE, settings.extraLifeChance);
+        assertTrue(settings.verbose);
+
+        assertThrows(IllegalArgumentException.class, () -> MatchSimulator.Settings.parse("--size", "10x9"));
+        assertThrows(IllegalArgumentException.class, () -> MatchSimulator.Settings.parse("--drop", "2"));
+        assertThrows(IllegalArgumentException.class, () -> MatchSimulator.Settings.parse("--players", "1"));
+        assertThrows(IllegalArgumentException.class, () -> MatchSimulator.Settings.parse("--vitesse", "2"));
+    }
+
+    @Test
+    void testParallelBatchAggregatesEveryMatch() {
+        MatchSimulator.Settings settings = MatchSimulator.Settings.parse(
+                "--matches", "6", "--threads", "3", "--size", "9x9", "--rounds", "1", "--time", "20",
+                "--max-rounds", "2", "--drop", "1");
+        MatchSimulator.Report report = new MatchSimulator(settings).run();
+
+        assertEquals(6, report.getMatches());
+        int decided = report.matchWins[0] + report.matchWins[1];
+        assertEquals(6, decided + report.getUndecidedMatches());
+        assertTrue(report.getRounds() >= 6);
+        assertEquals(report.getRounds(), report.roundWins[0] + report.roundWins[1] + report.getDrawnRounds());
+        assertTrue(report.getAverageRoundSeconds() > 0 && report.getAverageRoundSeconds() <= 20);
+
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        report.print(new PrintStream(text, true, StandardCharsets.UTF_8));
+        assertTrue(text.toString(StandardCharsets.UTF_8).contains("6 parties (3 threads"));
+    }
+
+    @Test
+    void testSameSeedGivesSameResults() {
+        String[] args = {"--matches", "4", "--threads", "2", "--size", "9x9", "--rounds", "1", "--time", "20",
+                "--max-rounds", "2", "--seed", "7"};
+        MatchSimulator.Report first = new MatchSimulator(MatchSimulator.Settings.parse(args)).run();
+        MatchSimulator.Report second = new MatchSimulator(MatchSimulator.Settings.parse(args)).run();
+
+        assertArrayEquals(first.matchWins, second.matchWins);
+        assertArrayEquals(first.roundWins, second.roundWins);
+        assertEquals(first.getRounds(), second.getRounds());
+        assertEquals(first.roundTicks, second.roundTicks);
+    }
+}
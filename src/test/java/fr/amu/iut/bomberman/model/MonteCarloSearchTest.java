@@ -0,0 +1,111 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe MonteCarloSearch
+ */
+public class MonteCarloSearchTest {
+
+    private GameModel gameModel;
+    private MonteCarloSearch search;
+
+    @BeforeEach
+    void setUp() {
+        gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 21);
+        gameModel.startNewGame("BOT", "Joueur2", 3, 180);
+        clearBreakableWalls();
+        search = new MonteCarloSearch(gameModel, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        search.shutdown();
+    }
+
+    /**
+     * Plateau sans murs cassables : seuls les bords et les piliers bloquent
+     */
+    private void clearBreakableWalls() {
+        GameBoard board = gameModel.getGameBoard();
+        for (int y = 0; y < board.getHeight(); y++) {
+            for (int x = 0; x < board.getWidth(); x++) {
+                if (board.getTile(x, y) == GameBoard.TileType.BREAKABLE_WALL) {
+                    board.setTile(x, y, GameBoard.TileType.EMPTY);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSearchLeavesTheGameUntouched() {
+        byte[] before = GameSnapshot.capture(gameModel);
+        search.setMaxIterations(200);
+        search.setBudgetNanos(5_000_000_000L);
+        search.search(gameModel, 1, new GameRandom(3));
+
+        assertArrayEquals(before, GameSnapshot.capture(gameModel));
+        assertEquals(200, search.getLastIterations());
+        assertTrue(search.getTicksPerSecond() > 0);
+    }
+
+    @Test
+    void testSearchEscapesItsOwnBomb() {
+        GameBoard board = gameModel.getGameBoard();
+        Player bot = gameModel.getPlayer1();
+        bot.getEffects().clear();
+        // Bombe sous le bot, qui explose dans 60 ticks : il faut s'éloigner de deux cases
+        board.addBomb(1, 1, 1, 1);
+        bot.incrementBombsPlaced();
+        new GameEngine(gameModel).runTicks(Bomb.FUSE_TICKS - 60);
+        assertTrue(bot.isAlive());
+
+        search.setMaxIterations(3000);
+        search.setBudgetNanos(5_000_000_000L);
+        int action = search.search(gameModel, 1, new GameRandom(3));
+
+        Direction direction = MonteCarloSearch.directionOf(action);
+        assertTrue(direction == Direction.RIGHT || direction == Direction.DOWN, "Action choisie : " + direction);
+        assertFalse(MonteCarloSearch.hasBomb(action));
+    }
+
+    @Test
+    void testTimeoutLossIsNotRewardedAsAWin() {
+        // Round d'une seconde : il se termine au temps pendant chaque rollout, les deux joueurs en vie
+        gameModel.startNewGame("BOT", "Joueur2", 3, 1);
+        clearBreakableWalls();
+        gameModel.getPlayer1().loseLife(); // Le bot a moins de vies : il perd le round au temps
+        search.setMaxIterations(500);
+        search.setBudgetNanos(5_000_000_000L);
+
+        search.search(gameModel, 1, new GameRandom(3));
+        assertTrue(search.getLastValue() <= 0.5 + 1e-9, "Score d'une défaite au temps : " + search.getLastValue());
+
+        // Même situation vue par l'adversaire, qui gagne le round au temps
+        search.search(gameModel, 2, new GameRandom(3));
+        assertTrue(search.getLastValue() > 0.6, "Score d'une victoire au temps : " + search.getLastValue());
+    }
+
+    @Test
+    void testSearchStopsAtTheTimeBudget() {
+        MonteCarloSearch parallel = new MonteCarloSearch(gameModel, 2);
+        try {
+            parallel.setBudgetNanos(20_000_000L);
+            long start = System.nanoTime();
+            parallel.search(gameModel, 1, new GameRandom(3));
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // Échéance vérifiée avant chaque pas simulé : le dépassement reste de l'ordre d'un pas
+            assertTrue(elapsedMillis < 500, "Durée de la décision : " + elapsedMillis + " ms");
+            assertTrue(parallel.getLastIterations() > 0);
+            assertEquals(1, parallel.getDecisionCount());
+        } finally {
+            parallel.shutdown();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour la classe PlayerInput
+ */
+public class PlayerInputTest {
+
+    private GameModel gameModel;
+    private GameEngine engine;
+    private PlayerInput input;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        gameModel = new GameModel();
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        engine = new GameEngine(gameModel);
+        input = new PlayerInput(gameModel.getPlayerCount(), () -> now);
+        engine.setInput(input);
+    }
+
+    @Test
+    void testHeldDirectionIsLatchedEachTick() {
+        input.press(1, PlayerInput.RIGHT);
+        input.press(2, PlayerInput.DOWN);
+        input.press(2, PlayerInput.LEFT);
+        engine.tick();
+        assertEquals(Direction.RIGHT, engine.getDirection(1));
+        // Plusieurs directions maintenues : priorité haut, bas, gauche, droite
+        assertEquals(Direction.DOWN, engine.getDirection(2));
+
+        input.release(2, PlayerInput.DOWN);
+        engine.tick();
+        assertEquals(Direction.LEFT, engine.getDirection(2));
+
+        input.release(1, PlayerInput.RIGHT);
+        engine.tick();
+        assertEquals(Direction.NONE, engine.getDirection(1));
+    }
+
+    @Test
+    void testTapBetweenTicksIsNotLost() {
+        double startX = gameModel.getPlayer1().getX();
+        input.press(1, PlayerInput.RIGHT);
+        input.release(1, PlayerInput.RIGHT);
+        input.press(1, PlayerInput.BOMB);
+        input.release(1, PlayerInput.BOMB);
+        engine.tick();
+
+        assertTrue(gameModel.getPlayer1().getX() > startX);
+        assertEquals(1, gameModel.getPlayer1().getBombsPlaced());
+
+        // Le relâchement a été pris en compte : plus de mouvement au tick suivant
+        engine.tick();
+        assertEquals(Direction.NONE, engine.getDirection(1));
+    }
+
+    @Test
+    void testBombIsRequestedOncePerPress() {
+        input.press(1, PlayerInput.BOMB);
+        // Répétition automatique du clavier
+        input.press(1, PlayerInput.BOMB);
+        engine.tick();
+        input.press(1, PlayerInput.BOMB);
+        engine.runTicks(5);
+
+        assertEquals(1, gameModel.getPlayer1().getBombsPlaced());
+        assertEquals(PlayerInput.BOMB, input.getHeld(1));
+    }
+
+    @Test
+    void testLatencyIsMeasuredAtTickStart() {
+        now = 1_000_000;
+        input.press(1, PlayerInput.UP);
+        now = 5_000_000;
+        input.press(2, PlayerInput.UP);
+        now = 9_000_000;
+        engine.tick();
+
+        // 8 ms et 4 ms
+        assertEquals(2, input.getLatencySamples());
+        assertEquals(6.0, input.getAverageLatencyMillis(), 1e-9);
+        assertEquals(8.0, input.getMaxLatencyMillis(), 1e-9);
+
+        // Tick sans nouvel événement : aucune mesure
+        now = 20_000_000;
+        engine.tick();
+        assertEquals(2, input.getLatencySamples());
+    }
+
+    @Test
+    void testPauseDiscardsPendingPresses() {
+        gameModel.togglePause();
+        input.press(1, PlayerInput.BOMB);
+        engine.tick();
+        gameModel.togglePause();
+        engine.tick();
+
+        assertEquals(0, gameModel.getPlayer1().getBombsPlaced());
+        assertEquals(0, input.getLatencySamples());
+    }
+}
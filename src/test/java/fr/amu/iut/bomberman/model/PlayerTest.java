@@ -188,4 +188,20 @@ public class PlayerTest {
         player.setDirection(Direction.NONE);
         assertEquals(Direction.NONE, player.getCurrentDirection());
     }
+
+    @Test
+    void testInvincibilityExpiresAfterSimulationTicks() {
+        for (int i = 1; i < Player.INVINCIBILITY_TICKS; i++) {
+            player.tickEffects();
+        }
+        assertTrue(player.getIsInvincible());
+        assertEquals(1, player.getEffects().getRemainingTicks(StatusEffects.Type.INVINCIBILITY));
+
+        player.tickEffects();
+        assertFalse(player.getIsInvincible());
+
+        // Un nouveau round redonne la durée complète
+        player.reset(1.5, 1.5);
+        assertEquals(Player.INVINCIBILITY_TICKS, player.getEffects().getRemainingTicks(StatusEffects.Type.INVINCIBILITY));
+    }
 }
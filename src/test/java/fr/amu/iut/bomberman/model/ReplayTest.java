@@ -0,0 +1,139 @@
+package fr.amu.iut.bomberman.model;
+
+import fr.amu.iut.bomberman.utils.Direction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test unitaires pour les classes ReplayRecorder et Replay
+ */
+public class ReplayTest {
+
+    private static final int KEYFRAME_INTERVAL = 120;
+    private static final int TICKS = 1000;
+    private static final int CHECKED_TICK = 700;
+
+    private static final Direction[] MOVES = {Direction.UP, Direction.DOWN, Direction.LEFT, Direction.RIGHT, Direction.NONE};
+
+    private byte[] replayData;
+    private byte[] checkedState;
+    private byte[] finalState;
+
+    @BeforeEach
+    void setUp() {
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 21L);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 180);
+        GameEngine engine = new GameEngine(gameModel);
+        ReplayRecorder recorder = new ReplayRecorder(gameModel, KEYFRAME_INTERVAL);
+        engine.setRecorder(recorder);
+
+        // Entrées scriptées : le joueur 1 pose une bombe et s'en éloigne, puis les deux joueurs
+        // changent de direction toutes les 20 ticks (les états comparés sont les sauvegardes complètes,
+        // invincibilité comprise)
+        GameRandom script = new GameRandom(4);
+        engine.requestBomb(1);
+        engine.setDirection(1, Direction.DOWN);
+        for (int tick = 0; tick < TICKS; tick++) {
+            if (tick % 20 == 0) {
+                if (tick >= 240) {
+                    engine.setDirection(1, MOVES[script.nextInt(MOVES.length)]);
+                }
+                engine.setDirection(2, MOVES[script.nextInt(MOVES.length)]);
+            }
+            engine.tick();
+            if (tick + 1 == CHECKED_TICK) {
+                checkedState = GameSnapshot.capture(gameModel);
+            }
+        }
+        finalState = GameSnapshot.capture(gameModel);
+        assertEquals(3, gameModel.getPlayer1().getLives());
+        replayData = recorder.toByteArray();
+        assertEquals(TICKS, recorder.getTickCount());
+    }
+
+    @Test
+    void testReplayIsCompact() {
+        Replay replay = Replay.fromBytes(replayData);
+        assertEquals(21L, replay.getSeed());
+        assertEquals(TICKS, replay.getTickCount());
+        assertEquals("Joueur2", replay.getPlayerName(2));
+
+        // Journal : quelques octets par changement d'entrée, l'essentiel est dans les sauvegardes
+        int keyframes = replay.getKeyframeCount();
+        assertEquals(KEYFRAME_INTERVAL, replay.getKeyframeInterval());
+        assertEquals(TICKS / KEYFRAME_INTERVAL + 1, keyframes);
+        assertTrue(replayData.length < keyframes * 400 + 200, "Taille: " + replayData.length);
+    }
+
+    @Test
+    void testPlaybackReproducesTheMatch() {
+        Replay.Playback playback = Replay.fromBytes(replayData).play();
+        playback.playToEnd();
+        assertTrue(playback.isFinished());
+        assertArrayEquals(finalState, GameSnapshot.capture(playback.getGameModel()));
+    }
+
+    @Test
+    void testSeekFromKeyframes() {
+        Replay.Playback playback = Replay.fromBytes(replayData).play();
+
+        playback.seek(CHECKED_TICK);
+        assertEquals(CHECKED_TICK, playback.getTick());
+        assertArrayEquals(checkedState, GameSnapshot.capture(playback.getGameModel()));
+
+        // Retour en arrière puis de nouveau en avant
+        playback.seek(50);
+        assertEquals(50, playback.getTick());
+        playback.seek(CHECKED_TICK);
+        assertArrayEquals(checkedState, GameSnapshot.capture(playback.getGameModel()));
+
+        playback.seek(TICKS + 500);
+        assertArrayEquals(finalState, GameSnapshot.capture(playback.getGameModel()));
+    }
+
+    @Test
+    void testPlaybackCrossesRoundEnd() {
+        // Round de 4 secondes : le joueur 1 reste sur sa bombe et perd une vie, le joueur 2 gagne
+        // le round au temps, puis la partie enchaîne sur le round suivant
+        GameModel gameModel = new GameModel(GameBoard.GRID_WIDTH, GameBoard.GRID_HEIGHT, 2, 21L);
+        gameModel.startNewGame("Joueur1", "Joueur2", 3, 4);
+        GameEngine engine = new GameEngine(gameModel);
+        ReplayRecorder recorder = new ReplayRecorder(gameModel, KEYFRAME_INTERVAL);
+        engine.setRecorder(recorder);
+
+        int ticks = 6 * GameEngine.TICKS_PER_SECOND;
+        engine.requestBomb(1);
+        for (int tick = 0; tick < ticks; tick++) {
+            // Les rounds s'enchaînent entre deux ticks, comme dans le jeu
+            if (gameModel.getGameState() == GameModel.GameState.ROUND_OVER) {
+                gameModel.continueToNextRound();
+            }
+            engine.tick();
+        }
+        assertEquals(2, gameModel.getCurrentRound());
+        assertEquals(1, gameModel.getScore(2));
+        byte[] recordedState = GameSnapshot.capture(gameModel);
+
+        Replay.Playback playback = Replay.fromBytes(recorder.toByteArray()).play();
+        playback.playToEnd();
+        assertEquals(2, playback.getGameModel().getCurrentRound());
+        assertArrayEquals(recordedState, GameSnapshot.capture(playback.getGameModel()));
+
+        // Retour dans le premier round puis saut par-dessus la fin du round
+        playback.seek(GameEngine.TICKS_PER_SECOND);
+        assertEquals(1, playback.getGameModel().getCurrentRound());
+        playback.seek(ticks);
+        assertArrayEquals(recordedState, GameSnapshot.capture(playback.getGameModel()));
+    }
+
+    @Test
+    void testRejectsInvalidData() {
+        assertThrows(IllegalArgumentException.class, () -> Replay.fromBytes(new byte[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class,
+                () -> Replay.fromBytes(Arrays.copyOf(replayData, replayData.length / 2)));
+    }
+}